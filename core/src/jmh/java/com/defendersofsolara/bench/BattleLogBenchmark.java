@@ -0,0 +1,60 @@
+package com.defendersofsolara.bench;
+
+import com.defendersofsolara.core.BattleEngine;
+import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.EncounterFactory;
+import com.defendersofsolara.core.GameRandom;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of resolving a skill with and without a combat event subscriber attached, as the battle
+ * screen's log is.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BattleLogBenchmark {
+
+    private BattleEngine silent;
+    private BattleEngine logged;
+    private Blackhole blackhole;
+
+    @Setup(Level.Trial)
+    public void setUp(Blackhole bh) {
+        BenchSupport.muteConsole();
+        blackhole = bh;
+        silent = newEngine();
+        logged = newEngine();
+        logged.getEvents().subscribe(event -> blackhole.consume(event.getAmount()));
+    }
+
+    private static BattleEngine newEngine() {
+        return BattleEngine.create(3, new EncounterFactory(new GameRandom(7), 15), null);
+    }
+
+    @Benchmark
+    public int executeSkillSilent() {
+        return strike(silent);
+    }
+
+    @Benchmark
+    public int executeSkillWithLog() {
+        return strike(logged);
+    }
+
+    private static int strike(BattleEngine engine) {
+        Character hero = engine.getPlayerTeam()[0];
+        Character target = engine.getEnemyTeam()[0];
+        if (target.currentHP < target.maxHP / 2) {
+            BenchSupport.refill(target);
+        }
+        engine.executeSkill(hero.getSkill(0), hero, new Character[]{target});
+        return target.currentHP;
+    }
+}
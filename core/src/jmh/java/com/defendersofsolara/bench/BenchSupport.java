@@ -0,0 +1,65 @@
+package com.defendersofsolara.bench;
+
+import com.defendersofsolara.characters.enemies.DynamicEnemy;
+import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.ContentRegistry;
+import com.defendersofsolara.core.EncounterFactory;
+import com.defendersofsolara.skills.enemy.SavageSwipeSkill;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Shared fixtures for the benchmarks.
+ */
+final class BenchSupport {
+
+    private BenchSupport() {
+    }
+
+    /** Skills print combat chatter; keep it out of the measurements. */
+    static void muteConsole() {
+        System.setOut(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        }));
+    }
+
+    static Character newHero(String heroClass, int level) {
+        Character hero = ContentRegistry.get().createHero(heroClass);
+        if (hero == null) {
+            throw new IllegalStateException("Cannot create " + heroClass);
+        }
+        hero.syncToLevel(level);
+        return hero;
+    }
+
+    static Character[] defaultTeam(int level) {
+        List<String> classes = EncounterFactory.HERO_CLASSES;
+        return new Character[]{
+            newHero(classes.get(0), level), newHero(classes.get(1), level),
+            newHero(classes.get(2), level), newHero(classes.get(3), level)
+        };
+    }
+
+    /** A sturdy target that will not die during a measurement iteration. */
+    static Character trainingDummy() {
+        DynamicEnemy dummy = new DynamicEnemy("Training Dummy", 1_000_000, 1_000, 50, 40, 40,
+            () -> new SavageSwipeSkill("Strike", 1.0));
+        return dummy;
+    }
+
+    /** Puts a combatant back to full health, mana and base stats. */
+    static void refill(Character c) {
+        c.currentHP = c.maxHP;
+        c.currentMana = c.maxMana;
+        c.setAlive(true);
+        c.clearEffects();
+    }
+}
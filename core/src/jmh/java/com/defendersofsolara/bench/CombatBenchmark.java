@@ -0,0 +1,46 @@
+package com.defendersofsolara.bench;
+
+import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.EncounterFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Core stat math: damage intake and level syncing.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CombatBenchmark {
+
+    @Param({"1", "15", "30"})
+    public int level;
+
+    private Character target;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        target = BenchSupport.trainingDummy();
+        target.syncToLevel(level);
+    }
+
+    @Benchmark
+    public int takeDamage() {
+        if (target.currentHP < 1_000) {
+            BenchSupport.refill(target);
+        }
+        target.takeDamage(250);
+        return target.currentHP;
+    }
+
+    @Benchmark
+    public Character syncToLevel() {
+        Character hero = BenchSupport.newHero(EncounterFactory.HERO_CLASSES.get(0), 1);
+        hero.syncToLevel(level);
+        return hero;
+    }
+}
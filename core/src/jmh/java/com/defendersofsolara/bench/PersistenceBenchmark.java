@@ -0,0 +1,80 @@
+package com.defendersofsolara.bench;
+
+import com.defendersofsolara.core.BattleEngine;
+import com.defendersofsolara.core.BattleState;
+import com.defendersofsolara.core.EncounterFactory;
+import com.defendersofsolara.core.GameRandom;
+import com.defendersofsolara.core.PlayerProgress;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Battle state capture/restore and profile save/load with a mid-battle state attached.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersistenceBenchmark {
+
+    private EncounterFactory encounters;
+    private BattleEngine engine;
+    private BattleState state;
+    private PlayerProgress progress;
+    private Path saveFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        BenchSupport.muteConsole();
+        encounters = new EncounterFactory(new GameRandom(11), 20);
+        engine = BattleEngine.create(4, encounters, null);
+        state = engine.captureState();
+
+        progress = new PlayerProgress();
+        progress.addExp(25_000);
+        progress.recordWorldClear(1);
+        progress.recordWorldClear(2);
+        progress.setSelectedTeam(Arrays.asList(
+            "com.defendersofsolara.characters.heroes.Ka",
+            "com.defendersofsolara.characters.heroes.Lyra",
+            "com.defendersofsolara.characters.heroes.Kaelen",
+            "com.defendersofsolara.characters.heroes.OrinKaelus"));
+        progress.setBattleState(state);
+
+        saveFile = Files.createTempFile("solara-bench", ".dat");
+        progress.save(saveFile);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(saveFile);
+    }
+
+    @Benchmark
+    public BattleState captureBattleState() {
+        return engine.captureState();
+    }
+
+    @Benchmark
+    public BattleEngine restoreBattleState() {
+        return BattleEngine.restore(state, encounters);
+    }
+
+    @Benchmark
+    public Path saveProgress() throws IOException {
+        progress.save(saveFile);
+        return saveFile;
+    }
+
+    @Benchmark
+    public PlayerProgress loadProgress() {
+        return PlayerProgress.load(saveFile);
+    }
+}
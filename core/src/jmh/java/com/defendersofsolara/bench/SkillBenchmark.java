@@ -0,0 +1,81 @@
+package com.defendersofsolara.bench;
+
+import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.Skill;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One {@link Skill#execute} per hero skill slot, including the per-call refill of the
+ * combatants it touches.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SkillBenchmark {
+
+    @Param({
+        "com.defendersofsolara.characters.heroes.Ka",
+        "com.defendersofsolara.characters.heroes.ZyraKathelDraven",
+        "com.defendersofsolara.characters.heroes.Lyra",
+        "com.defendersofsolara.characters.heroes.YlonneKryx",
+        "com.defendersofsolara.characters.heroes.Seraphina",
+        "com.defendersofsolara.characters.heroes.DravikThorn",
+        "com.defendersofsolara.characters.heroes.Kaelen",
+        "com.defendersofsolara.characters.heroes.OrinKaelus"
+    })
+    public String heroClass;
+
+    @Param({"0", "1", "2", "3"})
+    public int skillIndex;
+
+    private Character hero;
+    private Skill skill;
+    private Character[] allies;
+    private Character[] enemies;
+    private Character[] targets;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchSupport.muteConsole();
+        hero = BenchSupport.newHero(heroClass, 15);
+        skill = hero.getSkill(skillIndex);
+        allies = new Character[]{hero, BenchSupport.newHero(heroClass, 15)};
+        enemies = new Character[]{BenchSupport.trainingDummy(), BenchSupport.trainingDummy(), BenchSupport.trainingDummy()};
+        switch (skill.getTargetType()) {
+            case SELF:
+                targets = new Character[]{hero};
+                break;
+            case SINGLE_ALLY:
+            case RANDOM_ALLY:
+                targets = new Character[]{allies[1]};
+                break;
+            case ALL_ALLIES:
+                targets = allies;
+                break;
+            case ALL_ENEMIES:
+                targets = enemies;
+                break;
+            default:
+                targets = new Character[]{enemies[0]};
+                break;
+        }
+    }
+
+    @Benchmark
+    public int execute() {
+        for (Character c : allies) {
+            BenchSupport.refill(c);
+        }
+        for (Character c : enemies) {
+            BenchSupport.refill(c);
+        }
+        skill.currentCooldown = 0;
+        skill.execute(hero, targets);
+        return targets[0].currentHP;
+    }
+}
@@ -0,0 +1,47 @@
+package com.defendersofsolara.bench;
+
+import com.defendersofsolara.core.BattleEngine;
+import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.EncounterFactory;
+import com.defendersofsolara.core.GameRandom;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Alive checks and target picks as the enemy AI and auto-battle policy issue them. Run with
+ * {@code -prof gc} to confirm they stay allocation-free.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TargetingBenchmark {
+
+    private BattleEngine engine;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchSupport.muteConsole();
+        engine = BattleEngine.create(2, new EncounterFactory(new GameRandom(5), 10), null);
+        // One fallen hero so the living set is not simply the whole roster
+        engine.getPlayerTeam()[1].takeDamage(Integer.MAX_VALUE / 2);
+    }
+
+    @Benchmark
+    public Character randomAliveHero() {
+        return engine.getRandomAlive(engine.getPlayerTeam());
+    }
+
+    @Benchmark
+    public Character[] allAliveEnemies() {
+        return engine.getAllAlive(engine.getEnemyTeam());
+    }
+
+    @Benchmark
+    public boolean anyAlive() {
+        return engine.anyAlive(engine.getPlayerTeam()) && engine.anyAlive(engine.getEnemyTeam());
+    }
+}
@@ -0,0 +1,51 @@
+package com.defendersofsolara.bench;
+
+import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.EncounterFactory;
+import com.defendersofsolara.core.GameRandom;
+import com.defendersofsolara.core.WaveEncounter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building a world's wave plan and scaling every wave to the team, as a fresh battle does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WaveGenerationBenchmark {
+
+    @Param({"1", "3", "5"})
+    public int worldId;
+
+    @Param({"1", "30"})
+    public int playerLevel;
+
+    private EncounterFactory encounters;
+    private Character[] team;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        encounters = new EncounterFactory(new GameRandom(42), playerLevel);
+        team = BenchSupport.defaultTeam(playerLevel);
+    }
+
+    @Benchmark
+    public List<WaveEncounter> buildWaveSchedule() {
+        return encounters.buildWaveSchedule(worldId);
+    }
+
+    @Benchmark
+    public List<WaveEncounter> buildAndScaleWaves() {
+        List<WaveEncounter> plan = encounters.buildWaveSchedule(worldId);
+        for (WaveEncounter wave : plan) {
+            encounters.applyEnemyScaling(worldId, wave, team);
+        }
+        return plan;
+    }
+}
@@ -1,5 +1,6 @@
 package com.defendersofsolara;
 
+import com.defendersofsolara.ui.AssetPreloader;
 import com.defendersofsolara.ui.UnifiedGameUI;
 import javax.swing.*;
 
@@ -14,7 +15,7 @@ public class Main {
             UIManager.setLookAndFeel(UIManager.getSystemLookAndFeelClassName());
         } catch (Exception ignored) {}
 
-        SwingUtilities.invokeLater(UnifiedGameUI::new);
+        SwingUtilities.invokeLater(() -> AssetPreloader.start(UnifiedGameUI::new));
     }
 }
 
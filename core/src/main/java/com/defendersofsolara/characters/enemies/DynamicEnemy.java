@@ -0,0 +1,23 @@
+package com.defendersofsolara.characters.enemies;
+
+import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.SkillFactory;
+
+/**
+ * Enemy whose stats and skill kit are supplied by a template instead of a dedicated class.
+ */
+public class DynamicEnemy extends Character {
+    public DynamicEnemy(String name, int hp, int mana, int attack, int defense, int speed, SkillFactory... factories) {
+        super(name, hp, mana, attack, defense, speed);
+        if (factories != null) {
+            for (SkillFactory factory : factories) {
+                skills.add(factory.create());
+            }
+        }
+    }
+
+    @Override
+    public void initializeSkills() {
+        // Skills injected after construction
+    }
+}
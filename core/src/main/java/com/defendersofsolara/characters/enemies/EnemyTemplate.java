@@ -0,0 +1,66 @@
+package com.defendersofsolara.characters.enemies;
+
+import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.SkillFactory;
+
+/**
+ * Blueprint for a minion or boss type from the content pack; instantiated once per spawned enemy.
+ * Base stats for every level are computed up front so spawning is a table lookup.
+ */
+public class EnemyTemplate {
+    private static final int HP = 0, MANA = 1, ATTACK = 2, DEFENSE = 3, SPEED = 4;
+
+    public final String name;
+    public final int hp;
+    public final int mana;
+    public final int attack;
+    public final int defense;
+    public final int speed;
+    final SkillFactory[] factories;
+    // statsByLevel[level] = {hp, mana, attack, defense, speed}
+    private final int[][] statsByLevel;
+
+    public EnemyTemplate(String name, int hp, int mana, int attack, int defense, int speed, SkillFactory... factories) {
+        this.name = name;
+        this.hp = hp;
+        this.mana = mana;
+        this.attack = attack;
+        this.defense = defense;
+        this.speed = speed;
+        this.factories = factories;
+        this.statsByLevel = new int[Character.MAX_LEVEL + 1][];
+        for (int level = 1; level <= Character.MAX_LEVEL; level++) {
+            int gained = level - 1;
+            statsByLevel[level] = new int[]{
+                hp + gained * Character.HP_PER_LEVEL,
+                mana + gained * Character.MANA_PER_LEVEL,
+                attack + gained * Character.ATTACK_PER_LEVEL,
+                defense + gained * Character.DEFENSE_PER_LEVEL,
+                speed + gained * Character.SPEED_PER_LEVEL
+            };
+        }
+    }
+
+    /**
+     * Creates this enemy at {@code level} with full health and a fresh skill kit.
+     */
+    public Character spawn(int level) {
+        level = Math.max(1, Math.min(level, Character.MAX_LEVEL));
+        int[] stats = statsByLevel[level];
+        DynamicEnemy enemy = new DynamicEnemy(name, stats[HP], stats[MANA], stats[ATTACK],
+            stats[DEFENSE], stats[SPEED], factories);
+        enemy.level = level;
+        return enemy;
+    }
+
+    public Character instantiate(int levelTarget, double difficulty) {
+        Character enemy = spawn(levelTarget);
+        // Balanced scaling - HP scales with difficulty, mana scales less, attack will be overridden by applyEnemyScaling
+        double hpMult = difficulty;
+        double manaMult = 1.0 + Math.max(0, difficulty - 1) * 0.25; // Reduced mana scaling
+        double atkMult = 1.0; // Attack will be scaled to hero HP in applyEnemyScaling, so keep base
+        double defMult = 1.0 + Math.max(0, difficulty - 1) * 0.2; // Lower defense scaling
+        enemy.applyStatMultiplier(hpMult, manaMult, atkMult, defMult);
+        return enemy;
+    }
+}
@@ -1,6 +1,7 @@
 package com.defendersofsolara.characters.enemies;
 
 import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.EffectType;
 import com.defendersofsolara.core.Skill;
 import com.defendersofsolara.core.StatusEffect;
 import com.defendersofsolara.core.TargetType;
@@ -88,7 +89,7 @@ public class Malakar extends Character {
         }
         public void execute(Character user, Character[] targets) {
             user.currentMana -= manaCost;
-            user.applyEffect(new StatusEffect("buff", 80, 3));
+            user.applyEffect(new StatusEffect(EffectType.ATTACK_UP, 80, 3));
             System.out.println(user.name + " channels the Obsidian Crown's power!");
             resetCooldown();
         }
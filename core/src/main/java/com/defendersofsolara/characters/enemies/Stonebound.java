@@ -1,6 +1,7 @@
 package com.defendersofsolara.characters.enemies;
 
 import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.EffectType;
 import com.defendersofsolara.core.Skill;
 import com.defendersofsolara.core.StatusEffect;
 import com.defendersofsolara.core.TargetType;
@@ -44,8 +45,7 @@ public class Stonebound extends Character {
         }
         public void execute(Character user, Character[] targets) {
             user.currentMana -= manaCost;
-            user.currentDefense += 50;
-            user.applyEffect(new StatusEffect("shield", 100, 2));
+            user.applyEffect(new StatusEffect(EffectType.DEFENSE_UP, 50, 2));
             System.out.println(user.name + " creates a gravity shield!");
             resetCooldown();
         }
@@ -0,0 +1,31 @@
+package com.defendersofsolara.core;
+
+/**
+ * Simple greedy hero AI: strongest usable skill first, focusing the weakest living enemy.
+ */
+public class AutoBattlePolicy implements HeroPolicy {
+
+    @Override
+    public Skill chooseSkill(BattleEngine engine, Character hero) {
+        for (int i = hero.skills.size() - 1; i >= 0; i--) {
+            Skill skill = hero.skills.get(i);
+            if (skill.canUse(hero)) {
+                return skill;
+            }
+        }
+        return hero.skills.isEmpty() ? null : hero.skills.get(0);
+    }
+
+    @Override
+    public Character chooseTarget(BattleEngine engine, Character hero, Skill skill) {
+        Team enemies = engine.getEnemies();
+        Character[] roster = enemies.members();
+        Character weakest = null;
+        for (int i = enemies.nextAlive(0); i >= 0; i = enemies.nextAlive(i + 1)) {
+            if (weakest == null || roster[i].currentHP < weakest.currentHP) {
+                weakest = roster[i];
+            }
+        }
+        return weakest;
+    }
+}
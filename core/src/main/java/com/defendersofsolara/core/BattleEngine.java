@@ -0,0 +1,796 @@
+package com.defendersofsolara.core;
+
+import com.defendersofsolara.characters.enemies.DynamicEnemy;
+import com.defendersofsolara.characters.enemies.EnemyTemplate;
+import com.defendersofsolara.skills.enemy.SavageSwipeSkill;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Swing-free battle rules: the speed-ordered turn timeline, hero and enemy actions, wave
+ * advancement and the win/loss check.
+ *
+ * <p>The engine never sleeps or schedules anything itself. The battle screen calls the individual
+ * steps from its timers, while tools and tests can run a whole battle synchronously with
+ * {@link #run(HeroPolicy, int)}.
+ *
+ * <p>Every roll goes through one {@link GameRandom} stream, so a battle created from a given seed
+ * and fed the same hero inputs always plays out the same way (see {@link BattleRecording}).
+ */
+public class BattleEngine {
+
+    /** What the battle needs next after a step has been applied. */
+    public enum Step {
+        HERO_TURN,
+        ENEMY_TURN,
+        WAVE_CLEARED,
+        VICTORY,
+        DEFEAT
+    }
+
+    private final int worldId;
+    private final EncounterFactory encounters;
+    private final Character[] playerTeam;
+    private final List<WaveEncounter> wavePlan;
+    private final GameRandom rng;
+    private final List<BattleListener> listeners = new ArrayList<>();
+    private final TurnTimeline timeline = new TurnTimeline();
+    private final CombatEventBus events = new CombatEventBus();
+    private BattleRecording recording;
+    private BattleJournal journal;
+
+    private final Team heroes;
+    private Character[] enemyTeam;
+    private Team enemies;
+    private Character currentActor;
+    private int activeWaveIndex = 0;
+    private int currentPlayerIndex = 0;
+    private int roundCount = 0;
+    private int actionCount = 0;
+    private boolean finished = false;
+    private boolean victory = false;
+
+    public BattleEngine(int worldId, EncounterFactory encounters, Character[] playerTeam, List<WaveEncounter> wavePlan) {
+        this(worldId, encounters, playerTeam, wavePlan, encounters.getRandom().split());
+    }
+
+    public BattleEngine(int worldId, EncounterFactory encounters, Character[] playerTeam,
+                        List<WaveEncounter> wavePlan, GameRandom rng) {
+        this.worldId = worldId;
+        this.encounters = encounters;
+        this.playerTeam = playerTeam;
+        this.heroes = new Team(playerTeam);
+        events.attach(playerTeam);
+        this.wavePlan = wavePlan;
+        this.rng = rng;
+    }
+
+    /**
+     * Creates a fresh battle for the world using the factory's level and random source.
+     */
+    public static BattleEngine create(int worldId, EncounterFactory encounters, List<String> selectedTeam) {
+        Character[] heroes = encounters.createPlayerTeam(selectedTeam);
+        List<WaveEncounter> plan = encounters.buildWaveSchedule(worldId);
+        if (plan.isEmpty()) {
+            plan.add(new WaveEncounter(1, false, encounters.legacyEnemyPack(worldId)));
+        }
+        BattleEngine engine = new BattleEngine(worldId, encounters, heroes, plan);
+        engine.start();
+        return engine;
+    }
+
+    /** Puts the opening wave on the field. Call {@link #nextTurn()} to find out who acts first. */
+    public void start() {
+        activeWaveIndex = 0;
+        currentPlayerIndex = 0;
+        timeline.clear();
+        scheduleTeam(playerTeam);
+        enterWave(wavePlan.get(0));
+    }
+
+    public void addListener(BattleListener listener) {
+        if (listener != null) listeners.add(listener);
+    }
+
+    public void removeListener(BattleListener listener) {
+        listeners.remove(listener);
+    }
+
+    /** Combat events (damage, healing, mana, effects, defeats) from everyone on the field. */
+    public CombatEventBus getEvents() {
+        return events;
+    }
+
+    /**
+     * Starts logging hero inputs into {@code recording}. Only meaningful for a battle made by
+     * {@link #create} from a factory whose random stream was seeded with the recording's seed
+     * and not used before.
+     */
+    public void startRecording(BattleRecording recording) {
+        if (this.recording != null) events.unsubscribe(this.recording);
+        this.recording = recording;
+        events.subscribe(recording);
+    }
+
+    public BattleRecording getRecording() {
+        return recording;
+    }
+
+    /**
+     * Starts writing this battle to {@code journal}, beginning with a keyframe of the current
+     * state. Must be called between turns, e.g. right after {@link #create} or {@link #restore}.
+     */
+    public void startJournal(BattleJournal journal) {
+        if (currentActor != null) {
+            throw new IllegalStateException("A battle journal can only start between turns");
+        }
+        this.journal = journal;
+        journal.keyframe(this);
+    }
+
+    public BattleJournal getJournal() {
+        return journal;
+    }
+
+    // ==================== STATE ====================
+
+    public int getWorldId() {
+        return worldId;
+    }
+
+    public Character[] getPlayerTeam() {
+        return playerTeam;
+    }
+
+    public Character[] getEnemyTeam() {
+        return enemyTeam;
+    }
+
+    /** Live index over the heroes; see {@link Team}. */
+    public Team getHeroes() {
+        return heroes;
+    }
+
+    /** Live index over the enemies of the current wave. */
+    public Team getEnemies() {
+        return enemies;
+    }
+
+    public List<WaveEncounter> getWavePlan() {
+        return wavePlan;
+    }
+
+    public int getActiveWaveIndex() {
+        return activeWaveIndex;
+    }
+
+    public WaveEncounter getActiveWave() {
+        if (wavePlan.isEmpty()) return null;
+        return wavePlan.get(Math.min(activeWaveIndex, wavePlan.size() - 1));
+    }
+
+    public int getCurrentPlayerIndex() {
+        return currentPlayerIndex;
+    }
+
+    /** Whoever holds the current turn, or {@code null} between turns. */
+    public Character getCurrentActor() {
+        return currentActor;
+    }
+
+    /** The hero acting now, or the last hero who acted while an enemy has the turn. */
+    public Character getCurrentHero() {
+        if (currentPlayerIndex < 0 || currentPlayerIndex >= playerTeam.length) return null;
+        return playerTeam[currentPlayerIndex];
+    }
+
+    public int getRoundCount() {
+        return roundCount;
+    }
+
+    public int getActionCount() {
+        return actionCount;
+    }
+
+    public GameRandom getRandom() {
+        return rng;
+    }
+
+    /** Upcoming turns after the current one, for the turn-order strip. */
+    public List<Character> getTurnOrder(int count) {
+        return timeline.preview(count);
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public boolean isVictory() {
+        return victory;
+    }
+
+    public boolean isPlayerSide(Character c) {
+        return heroes.contains(c);
+    }
+
+    // ==================== TIMELINE ====================
+
+    /**
+     * Hands the turn to whichever living combatant's action comes up next on the timeline. Their
+     * skill cooldowns and status effects tick down as the turn starts.
+     *
+     * @return {@link Step#HERO_TURN} or {@link Step#ENEMY_TURN}, or the battle's outcome if
+     *         nobody is left to act
+     */
+    public Step nextTurn() {
+        Character actor = timeline.poll();
+        while (actor != null && !actor.isAlive()) {
+            actor = timeline.poll();
+        }
+        if (actor == null) {
+            Step end = checkBattleEnd();
+            if (end != null) return end;
+            finish(false);
+            return Step.DEFEAT;
+        }
+
+        currentActor = actor;
+        roundCount = (int) (timeline.now() / TurnTimeline.ROUND_TICKS);
+        for (Skill s : actor.skills) {
+            s.reduceCooldown();
+        }
+        actor.updateEffects();
+
+        if (isPlayerSide(actor)) {
+            currentPlayerIndex = indexOf(playerTeam, actor);
+            for (BattleListener listener : listeners) {
+                listener.onHeroTurn(actor);
+            }
+            return Step.HERO_TURN;
+        }
+        for (BattleListener listener : listeners) {
+            listener.onEnemyTurn(actor);
+        }
+        return Step.ENEMY_TURN;
+    }
+
+    /**
+     * Reports the turn already in progress, as after a journal replay that stopped at a hero's
+     * turn, or starts the next one if nobody holds the turn.
+     */
+    public Step resumeTurn() {
+        if (finished) return victory ? Step.VICTORY : Step.DEFEAT;
+        if (currentActor == null) return nextTurn();
+        return isPlayerSide(currentActor) ? Step.HERO_TURN : Step.ENEMY_TURN;
+    }
+
+    /** Puts the actor back on the timeline and checks the field before passing the turn on. */
+    private Step endTurn() {
+        Character actor = currentActor;
+        currentActor = null;
+        if (actor != null && actor.isAlive()) {
+            timeline.schedule(actor);
+        }
+        Step end = checkBattleEnd();
+        return end != null ? end : nextTurn();
+    }
+
+    private void scheduleTeam(Character[] team) {
+        if (team == null) return;
+        for (Character c : team) {
+            if (c != null && c.isAlive()) {
+                timeline.schedule(c);
+            }
+        }
+    }
+
+    // ==================== HERO TURNS ====================
+
+    /** True when the skill waits for the player to pick an enemy. */
+    public boolean needsTarget(Skill skill) {
+        return skill != null && skill.getTargetType() == TargetType.SINGLE_ENEMY;
+    }
+
+    /**
+     * Resolves a hero's skill. {@code target} is only used by single-target skills.
+     */
+    public void performHeroAction(Character hero, Skill skill, Character target) {
+        if (recording != null || journal != null) {
+            int heroIndex = indexOf(playerTeam, hero);
+            int skillIndex = hero.skills.indexOf(skill);
+            int targetIndex = target != null ? indexOf(enemyTeam, target) : -1;
+            if (recording != null) recording.addInput(heroIndex, skillIndex, targetIndex);
+            if (journal != null) journal.recordAction(heroIndex, skillIndex, targetIndex);
+        }
+        switch (skill.getTargetType()) {
+            case SELF:
+                executeSkill(skill, hero, new Character[]{hero});
+                break;
+            case ALL_ALLIES:
+                executeSkill(skill, hero, getAllAlive(playerTeam));
+                break;
+            case ALL_ENEMIES:
+                executeSkill(skill, hero, getAllAlive(enemyTeam));
+                break;
+            case SINGLE_ENEMY:
+                if (target != null) {
+                    executeSkill(skill, hero, new Character[]{target});
+                }
+                break;
+            default:
+                break;
+        }
+        skill.resetCooldown();
+    }
+
+    /**
+     * Finishes the current hero's turn and moves on to the next combatant on the timeline.
+     */
+    public Step endHeroTurn() {
+        return endTurn();
+    }
+
+    // ==================== ENEMY TURNS ====================
+
+    public void executeEnemyAction(Character enemy) {
+        if (enemy == null || !enemy.isAlive()) return;
+        Skill skill = null;
+        for (Skill s : enemy.skills) {
+            if (s.canUse(enemy)) {
+                skill = s;
+                break;
+            }
+        }
+
+        if (skill == null && !enemy.skills.isEmpty()) {
+            skill = enemy.skills.get(0);
+        }
+        if (skill == null) return;
+
+        switch (skill.getTargetType()) {
+            case ALL_ENEMIES:
+                Character[] players = getAllAlive(playerTeam);
+                if (players.length > 0) {
+                    executeSkill(skill, enemy, players);
+                }
+                break;
+            case ALL_ALLIES:
+                Character[] allies = getAllAlive(enemyTeam);
+                if (allies.length > 0) {
+                    executeSkill(skill, enemy, allies);
+                }
+                break;
+            case SELF:
+                executeSkill(skill, enemy, new Character[]{enemy});
+                break;
+            default:
+                Character target = getRandomAlive(playerTeam);
+                if (target != null) {
+                    executeSkill(skill, enemy, new Character[]{target});
+                }
+                break;
+        }
+    }
+
+    /** Lets the enemy holding the turn act, then moves on to the next combatant. */
+    public Step playEnemyTurn() {
+        executeEnemyAction(currentActor);
+        return endTurn();
+    }
+
+    // ==================== WAVES & OUTCOME ====================
+
+    /**
+     * Returns {@code null} while both sides still stand. A cleared wave advances to the next one
+     * and reports {@link Step#WAVE_CLEARED}; clearing the last wave or losing every hero ends the battle.
+     */
+    public Step checkBattleEnd() {
+        if (finished) return victory ? Step.VICTORY : Step.DEFEAT;
+        boolean playersAlive = anyAlive(playerTeam);
+        boolean enemiesAlive = anyAlive(enemyTeam);
+
+        if (!enemiesAlive) {
+            if (advanceToNextWave()) {
+                return Step.WAVE_CLEARED;
+            }
+            finish(true);
+            return Step.VICTORY;
+        } else if (!playersAlive) {
+            finish(false);
+            return Step.DEFEAT;
+        }
+        return null;
+    }
+
+    private boolean advanceToNextWave() {
+        if (activeWaveIndex + 1 >= wavePlan.size()) {
+            return false;
+        }
+        activeWaveIndex++;
+        currentPlayerIndex = 0;
+        enterWave(wavePlan.get(activeWaveIndex));
+        return true;
+    }
+
+    private void enterWave(WaveEncounter wave) {
+        setEnemyTeam(wave.enemies);
+        encounters.applyEnemyScaling(worldId, wave, playerTeam);
+        scheduleTeam(enemyTeam);
+        for (BattleListener listener : listeners) {
+            listener.onWaveStarted(wave, wavePlan.size());
+        }
+        if (journal != null) {
+            journal.keyframe(this);
+        }
+    }
+
+    private void setEnemyTeam(Character[] team) {
+        enemyTeam = team;
+        enemies = new Team(team);
+        events.attach(team);
+    }
+
+    private void finish(boolean won) {
+        finished = true;
+        victory = won;
+        if (recording != null) {
+            recording.complete(won, roundCount, actionCount);
+        }
+        for (BattleListener listener : listeners) {
+            listener.onBattleEnded(won);
+        }
+    }
+
+    // ==================== HEADLESS PLAY ====================
+
+    /**
+     * Plays whatever turn comes next, using the policy for heroes, and returns what follows.
+     */
+    public Step playTurn(HeroPolicy policy) {
+        if (finished) return victory ? Step.VICTORY : Step.DEFEAT;
+        if (currentActor == null) {
+            Step step = nextTurn();
+            if (step != Step.HERO_TURN && step != Step.ENEMY_TURN) return step;
+        }
+        return isPlayerSide(currentActor) ? playHeroTurn(policy) : playEnemyTurn();
+    }
+
+    /**
+     * Plays the current hero's turn with the given policy and returns what comes next.
+     */
+    public Step playHeroTurn(HeroPolicy policy) {
+        Character hero = currentActor;
+        if (hero == null || !isPlayerSide(hero)) {
+            throw new IllegalStateException("Not a hero's turn");
+        }
+        Skill skill = policy.chooseSkill(this, hero);
+        if (skill != null) {
+            Character target = needsTarget(skill) ? policy.chooseTarget(this, hero, skill) : null;
+            performHeroAction(hero, skill, target);
+        }
+        return endHeroTurn();
+    }
+
+    /**
+     * Runs the battle to completion without any delays. Gives up (as a defeat) after
+     * {@code maxRounds} full rounds so a stalemate cannot spin forever.
+     *
+     * @return true if the heroes won
+     */
+    public boolean run(HeroPolicy policy, int maxRounds) {
+        while (!finished) {
+            if (roundCount >= maxRounds) {
+                finish(false);
+                break;
+            }
+            playTurn(policy);
+        }
+        return victory;
+    }
+
+    // ==================== SKILL RESOLUTION ====================
+
+    /**
+     * Executes a skill. Damage, healing and effects it causes reach {@link #getEvents()}
+     * subscribers attributed to {@code user} and {@code skill}.
+     */
+    public void executeSkill(Skill skill, Character user, Character[] targets) {
+        actionCount++;
+        for (BattleListener listener : listeners) {
+            listener.onSkillUsed(user, skill, targets);
+        }
+        events.beginAction(user, skill);
+        try {
+            skill.execute(user, targets, rng);
+        } finally {
+            events.endAction();
+        }
+        // Deaths, revives and speed changes take effect on the timeline right away
+        for (Character target : targets) {
+            if (target != null && target != currentActor) {
+                timeline.refresh(target);
+            }
+        }
+    }
+
+    /**
+     * The living members of {@code team}. For the battle's own teams this is the {@link Team}'s
+     * shared snapshot, which callers must not modify.
+     */
+    public Character[] getAllAlive(Character[] team) {
+        Team side = sideOf(team);
+        if (side != null) return side.alive();
+        List<Character> alive = new ArrayList<>();
+        for (Character c : team) {
+            if (c != null && c.isAlive()) {
+                alive.add(c);
+            }
+        }
+        return alive.toArray(new Character[0]);
+    }
+
+    public Character getRandomAlive(Character[] team) {
+        Team side = sideOf(team);
+        if (side != null) return side.randomAlive(rng);
+        Character[] alive = getAllAlive(team);
+        return alive.length == 0 ? null : alive[rng.nextInt(alive.length)];
+    }
+
+    public boolean anyAlive(Character[] team) {
+        if (team == null) return false;
+        Team side = sideOf(team);
+        if (side != null) return side.anyAlive();
+        for (Character c : team) {
+            if (c != null && c.isAlive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Team sideOf(Character[] team) {
+        if (team == playerTeam) return heroes;
+        if (team != null && team == enemyTeam) return enemies;
+        return null;
+    }
+
+    private static int indexOf(Character[] team, Character c) {
+        if (team == null) return -1;
+        for (int i = 0; i < team.length; i++) {
+            if (team[i] == c) return i;
+        }
+        return -1;
+    }
+
+    // ==================== SAVE / RESTORE ====================
+
+    /**
+     * Captures the current battle state for saving.
+     */
+    public BattleState captureState() {
+        BattleState state = new BattleState();
+        state.setWorldId(worldId);
+        state.setActiveWaveIndex(activeWaveIndex);
+        state.setCurrentPlayerIndex(currentPlayerIndex);
+        state.setPlayerTeamData(toData(playerTeam));
+        state.setEnemyTeamData(toData(enemyTeam));
+
+        // The whole plan is kept so the saved wave index lines up on restore
+        List<BattleState.WaveData> waveData = new ArrayList<>();
+        for (WaveEncounter wave : wavePlan) {
+            waveData.add(new BattleState.WaveData(wave.waveNumber, wave.bossWave, toData(wave.enemies)));
+        }
+        state.setWavePlan(waveData);
+        return state;
+    }
+
+    /**
+     * Writes everything needed to continue this battle exactly: the {@link #captureState() state}
+     * plus the random stream, the turn timeline and the turn counters. Only valid between turns.
+     */
+    void writeKeyframe(SaveFile.Writer out) throws IOException {
+        if (currentActor != null) {
+            throw new IllegalStateException("Keyframes are taken between turns");
+        }
+        captureState().writeTo(out);
+        out.writeVarInt(roundCount);
+        out.writeVarInt(actionCount);
+        rng.writeTo(out);
+        timeline.writeTo(out, this::combatantId);
+    }
+
+    /**
+     * Rebuilds a battle from {@link #writeKeyframe} output. Unlike {@link #restore}, the result
+     * continues exactly as the original would have.
+     *
+     * @throws IOException if the keyframe is corrupt or names characters this game cannot rebuild
+     */
+    static BattleEngine readKeyframe(SaveFile.Reader in, EncounterFactory encounters) throws IOException {
+        BattleState state = BattleState.readFrom(in);
+        int rounds = in.readVarInt();
+        int actions = in.readVarInt();
+        GameRandom rng = GameRandom.readFrom(in);
+
+        Character[] heroes = fromData(state.getPlayerTeamData());
+        List<WaveEncounter> plan = new ArrayList<>();
+        for (BattleState.WaveData wd : state.getWavePlan()) {
+            Character[] enemies = fromData(wd.getEnemies());
+            if (enemies.length != wd.getEnemies().size()) {
+                throw new IOException("Battle keyframe holds an enemy that cannot be rebuilt");
+            }
+            plan.add(new WaveEncounter(wd.getWaveNumber(), wd.isBossWave(), enemies));
+        }
+        int waveIndex = state.getActiveWaveIndex();
+        if (heroes.length == 0 || heroes.length != state.getPlayerTeamData().size()
+                || waveIndex < 0 || waveIndex >= plan.size()) {
+            throw new IOException("Corrupt battle keyframe");
+        }
+
+        BattleEngine engine = new BattleEngine(state.getWorldId(), encounters, heroes, plan, rng);
+        engine.activeWaveIndex = waveIndex;
+        engine.currentPlayerIndex = state.getCurrentPlayerIndex();
+        engine.roundCount = rounds;
+        engine.actionCount = actions;
+        engine.setEnemyTeam(plan.get(waveIndex).enemies);
+        engine.timeline.readFrom(in, engine::combatant);
+        return engine;
+    }
+
+    // Heroes are numbered by slot, then enemies of the current wave after them
+    private int combatantId(Character c) {
+        int hero = indexOf(playerTeam, c);
+        if (hero >= 0) return hero;
+        int enemy = indexOf(enemyTeam, c);
+        if (enemy < 0) {
+            throw new IllegalStateException(c.name + " is on the timeline but not on the field");
+        }
+        return playerTeam.length + enemy;
+    }
+
+    private Character combatant(int id) {
+        if (id >= 0 && id < playerTeam.length) return playerTeam[id];
+        int enemy = id - playerTeam.length;
+        return enemy >= 0 && enemy < enemyTeam.length ? enemyTeam[enemy] : null;
+    }
+
+    private static List<BattleState.CharacterData> toData(Character[] team) {
+        List<BattleState.CharacterData> data = new ArrayList<>();
+        if (team != null) {
+            for (Character c : team) {
+                if (c != null) {
+                    data.add(new BattleState.CharacterData(c));
+                }
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Rebuilds a battle from saved data, or returns {@code null} if the save is unusable.
+     */
+    public static BattleEngine restore(BattleState state, EncounterFactory encounters) {
+        if (state == null) return null;
+        try {
+            List<BattleState.CharacterData> playerData = state.getPlayerTeamData();
+            List<BattleState.WaveData> waveData = state.getWavePlan();
+            if (playerData == null || playerData.isEmpty() || waveData == null || waveData.isEmpty()) {
+                return null;
+            }
+
+            Character[] heroes = fromData(playerData);
+            List<WaveEncounter> plan = new ArrayList<>();
+            for (BattleState.WaveData wd : waveData) {
+                plan.add(new WaveEncounter(wd.getWaveNumber(), wd.isBossWave(), fromData(wd.getEnemies())));
+            }
+
+            BattleEngine engine = new BattleEngine(state.getWorldId(), encounters, heroes, plan);
+            // Older saves only stored the waves that were still ahead
+            int waveIndex = plan.get(0).waveNumber > 1 ? 0 : state.getActiveWaveIndex();
+            engine.activeWaveIndex = Math.max(0, Math.min(waveIndex, plan.size() - 1));
+            engine.currentPlayerIndex = Math.max(0, Math.min(state.getCurrentPlayerIndex(), heroes.length - 1));
+
+            // Use saved enemy team data directly - this preserves exact HP, mana, and stats
+            List<BattleState.CharacterData> enemyData = state.getEnemyTeamData();
+            if (enemyData != null && !enemyData.isEmpty()) {
+                engine.setEnemyTeam(fromData(enemyData));
+            } else {
+                engine.setEnemyTeam(plan.get(engine.activeWaveIndex).enemies);
+            }
+            // The timeline is not saved; a resumed battle starts a fresh one
+            engine.scheduleTeam(engine.playerTeam);
+            engine.scheduleTeam(engine.enemyTeam);
+            return engine;
+        } catch (Exception e) {
+            System.err.println("Error restoring battle state: " + e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    private static Character[] fromData(List<BattleState.CharacterData> data) {
+        List<Character> team = new ArrayList<>();
+        for (BattleState.CharacterData cd : data) {
+            Character c = createCharacterFromData(cd);
+            if (c != null) {
+                team.add(c);
+            }
+        }
+        return team.toArray(new Character[0]);
+    }
+
+    /**
+     * Creates a Character instance from saved CharacterData
+     */
+    private static Character createCharacterFromData(BattleState.CharacterData data) {
+        if (data == null || data.getClassName() == null) return null;
+
+        try {
+            Character character;
+            ContentRegistry content = ContentRegistry.get();
+
+            if (data.getClassName().contains("DynamicEnemy")) {
+                // Content enemies get their skill kit back from the pack; stats are restored below
+                EnemyTemplate template = content.findEnemy(data.getName());
+                if (template != null) {
+                    character = template.spawn(data.getLevel());
+                } else {
+                    character = new DynamicEnemy(
+                        data.getName(),
+                        data.getMaxHP(),
+                        data.getMaxMana(),
+                        data.getBaseAttack(),
+                        data.getBaseDefense(),
+                        data.getBaseSpeed(),
+                        () -> new SavageSwipeSkill("Strike", 1.0)
+                    );
+                }
+            } else {
+                character = content.createHero(data.getClassName());
+                if (character == null) {
+                    System.err.println("Unknown character class in saved battle: " + data.getClassName());
+                    return null;
+                }
+            }
+
+            // Restore all stats - IMPORTANT: Restore maxHP first, then currentHP to ensure proper state
+            character.name = data.getName();
+            character.level = data.getLevel();
+            character.maxHP = data.getMaxHP();
+            character.maxMana = data.getMaxMana();
+            character.baseAttack = data.getBaseAttack();
+            character.baseDefense = data.getBaseDefense();
+            character.baseSpeed = data.getBaseSpeed();
+
+            character.currentHP = Math.min(data.getCurrentHP(), character.maxHP);
+            character.currentMana = Math.min(data.getCurrentMana(), character.maxMana);
+
+            // Current stats are rebuilt from base stats and the saved effects
+            character.clearEffects();
+            if (data.getEffects() != null) {
+                for (BattleState.EffectData effect : data.getEffects()) {
+                    try {
+                        character.applyEffect(new StatusEffect(EffectType.valueOf(effect.getType()),
+                            effect.getValue(), effect.getTurnsLeft()));
+                    } catch (IllegalArgumentException ignored) {
+                    }
+                }
+            }
+            int[] cooldowns = data.getCooldowns();
+            if (cooldowns != null) {
+                for (int i = 0; i < cooldowns.length && i < character.skills.size(); i++) {
+                    character.skills.get(i).currentCooldown = Math.max(0, cooldowns[i]);
+                }
+            }
+
+            // Set isAlive based on currentHP (ensure consistency)
+            character.isAlive = data.isAlive() && character.currentHP > 0;
+            return character;
+        } catch (Exception e) {
+            System.err.println("Error creating character from data: " + data.getClassName() + " - " + e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.defendersofsolara.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append-only log of the battle in progress, kept next to a profile so the battle can be resumed
+ * exactly as it was left.
+ *
+ * The journal opens with a keyframe taken when the current wave started: the engine's full state,
+ * including its random stream, turn timeline and skill cooldowns. Each hero action after that is
+ * appended as a record of a few bytes. Enemy turns are not stored because replaying the hero
+ * actions from the keyframe reproduces them. Saving therefore writes only the actions taken since
+ * the last save, and the next wave's keyframe replaces the whole file.
+ *
+ * Layout: magic "DOSJ" and format version (u16), then records of type (u8), payload length (u32),
+ * CRC32 of the payload (u32) and the payload. A record cut short by a crash ends the journal at the
+ * last complete record.
+ */
+public final class BattleJournal {
+    static final int MAGIC = 0x444F534A; // "DOSJ"
+
+    private static final int HEADER_BYTES = 6;
+    private static final int RECORD_HEADER_BYTES = 9;
+    private static final int KEYFRAME = 1;
+    private static final int ACTION = 2;
+
+    private final Path path;
+    private final SaveService saveService;
+    // Records not yet handed to the save service
+    private final ByteArrayOutputStream unsaved = new ByteArrayOutputStream(256);
+    // True when unsaved holds a whole new file rather than records to add to the one on disk
+    private boolean rewrite;
+
+    BattleJournal(Path path, SaveService saveService) {
+        this.path = path;
+        this.saveService = saveService;
+    }
+
+    /**
+     * Starts the journal over from the engine's current state. Called by the engine when the
+     * journal is attached and whenever a wave starts.
+     */
+    void keyframe(BattleEngine engine) {
+        try {
+            byte[] payload = SaveFile.encodePayload(engine::writeKeyframe);
+            unsaved.reset();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC);
+            header.putShort((short) SaveFile.VERSION);
+            unsaved.write(header.array());
+            writeRecord(KEYFRAME, payload);
+            rewrite = true;
+        } catch (IOException e) {
+            System.err.println("Error writing battle keyframe: " + e.getMessage());
+        }
+    }
+
+    void recordAction(int heroIndex, int skillIndex, int targetIndex) {
+        try {
+            writeRecord(ACTION, SaveFile.encodePayload(out -> {
+                out.writeVarInt(heroIndex);
+                out.writeVarInt(skillIndex);
+                out.writeVarInt(targetIndex);
+            }));
+        } catch (IOException e) {
+            System.err.println("Error writing battle journal: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Hands the records made since the last sync to the save service: a new keyframe replaces
+     * the file, anything else is appended to it.
+     */
+    public void sync() {
+        if (unsaved.size() == 0) return;
+        byte[] bytes = unsaved.toByteArray();
+        unsaved.reset();
+        if (rewrite) {
+            saveService.submit(path, bytes);
+        } else {
+            saveService.append(path, bytes);
+        }
+        rewrite = false;
+    }
+
+    /** Deletes the journal once its battle is over. */
+    public void discard() {
+        unsaved.reset();
+        rewrite = false;
+        saveService.delete(path);
+    }
+
+    private void writeRecord(int type, byte[] payload) {
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+        header.put((byte) type);
+        header.putInt(payload.length);
+        header.putInt((int) SaveFile.checksum(payload, 0, payload.length));
+        unsaved.write(header.array(), 0, RECORD_HEADER_BYTES);
+        unsaved.write(payload, 0, payload.length);
+    }
+
+    /**
+     * Rebuilds the battle journaled at {@code path} by restoring its last keyframe and replaying
+     * the hero actions after it. The replay stops at the first hero turn with no recorded action,
+     * so the returned engine is usually in the middle of that hero's turn (see
+     * {@link BattleEngine#resumeTurn()}). The journal stays attached to the engine.
+     *
+     * @return the engine, or null if there is no journal or it cannot be replayed
+     */
+    static BattleEngine resume(Path path, SaveService saveService, EncounterFactory encounters) {
+        try {
+            byte[] bytes = saveService.read(path);
+            if (bytes == null) return null;
+            if (bytes.length < HEADER_BYTES || ByteBuffer.wrap(bytes).getInt() != MAGIC) {
+                throw new IOException("Not a battle journal");
+            }
+            int version = ByteBuffer.wrap(bytes, 4, 2).getShort() & 0xFFFF;
+            if (version > SaveFile.VERSION) {
+                throw new IOException("Battle journal version " + version + " is newer than this game");
+            }
+
+            int keyframeAt = -1;
+            int keyframeLength = 0;
+            List<BattleRecording.HeroInput> inputs = new ArrayList<>();
+            int pos = HEADER_BYTES;
+            while (pos + RECORD_HEADER_BYTES <= bytes.length) {
+                ByteBuffer header = ByteBuffer.wrap(bytes, pos, RECORD_HEADER_BYTES);
+                int type = header.get() & 0xFF;
+                int length = header.getInt();
+                long crc = header.getInt() & 0xFFFFFFFFL;
+                int payloadAt = pos + RECORD_HEADER_BYTES;
+                if (length < 0 || length > bytes.length - payloadAt
+                        || SaveFile.checksum(bytes, payloadAt, length) != crc) {
+                    break; // torn write at the end of the file
+                }
+                if (type == KEYFRAME) {
+                    keyframeAt = payloadAt;
+                    keyframeLength = length;
+                    inputs.clear();
+                } else if (type == ACTION && keyframeAt >= 0) {
+                    inputs.add(SaveFile.decodePayload(bytes, payloadAt, length, version,
+                        in -> new BattleRecording.HeroInput(in.readVarInt(), in.readVarInt(), in.readVarInt())));
+                }
+                pos = payloadAt + length;
+            }
+            if (keyframeAt < 0) {
+                throw new IOException("Battle journal has no keyframe");
+            }
+
+            BattleEngine engine = SaveFile.decodePayload(bytes, keyframeAt, keyframeLength, version,
+                in -> BattleEngine.readKeyframe(in, encounters));
+            // Journals the replay afresh, so the next sync rewrites the file without any torn tail
+            engine.startJournal(new BattleJournal(path, saveService));
+            ReplayPolicy policy = new ReplayPolicy(inputs);
+            BattleEngine.Step step = engine.nextTurn();
+            while (!engine.isFinished()) {
+                if (step == BattleEngine.Step.WAVE_CLEARED) {
+                    step = engine.nextTurn();
+                    continue;
+                }
+                if (step == BattleEngine.Step.HERO_TURN && !policy.hasNext()) break;
+                step = engine.playTurn(policy);
+            }
+            return engine;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Cannot resume battle from " + path + ": " + e.getMessage());
+            return null;
+        }
+    }
+}
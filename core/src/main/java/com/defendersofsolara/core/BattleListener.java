@@ -0,0 +1,20 @@
+package com.defendersofsolara.core;
+
+/**
+ * Receives battle flow notifications from a {@link BattleEngine}. All methods default to no-ops
+ * so headless runs can listen to just what they need. Per-hit results (damage, healing, effects)
+ * are published separately on the engine's {@link CombatEventBus}.
+ */
+public interface BattleListener {
+
+    default void onWaveStarted(WaveEncounter wave, int waveCount) {}
+
+    default void onHeroTurn(Character hero) {}
+
+    default void onEnemyTurn(Character enemy) {}
+
+    /** Fired right before a skill resolves, with the targets it will hit. */
+    default void onSkillUsed(Character user, Skill skill, Character[] targets) {}
+
+    default void onBattleEnded(boolean victory) {}
+}
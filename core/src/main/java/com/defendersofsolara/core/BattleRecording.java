@@ -0,0 +1,186 @@
+package com.defendersofsolara.core;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Everything needed to play a battle again: the seed, the setup and the player's choices.
+ * Enemy turns are not stored because the seed reproduces them. Saved in the {@link SaveFile}
+ * format; recordings Java-serialized by older builds are still read.
+ */
+public class BattleRecording implements Serializable, CombatEventListener {
+    private static final long serialVersionUID = 1L;
+
+    private final int worldId;
+    private final int playerLevel;
+    private final long seed;
+    private final List<String> selectedTeam;
+    private final List<HeroInput> inputs = new ArrayList<>();
+
+    private boolean completed = false;
+    private boolean victory = false;
+    private int rounds = 0;
+    private int actions = 0;
+    private long eventDigest = 17;
+
+    public BattleRecording(int worldId, int playerLevel, long seed, List<String> selectedTeam) {
+        this.worldId = worldId;
+        this.playerLevel = playerLevel;
+        this.seed = seed;
+        this.selectedTeam = selectedTeam != null ? new ArrayList<>(selectedTeam) : null;
+    }
+
+    public int getWorldId() {
+        return worldId;
+    }
+
+    public int getPlayerLevel() {
+        return playerLevel;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public List<String> getSelectedTeam() {
+        return selectedTeam;
+    }
+
+    public List<HeroInput> getInputs() {
+        return Collections.unmodifiableList(inputs);
+    }
+
+    void addInput(int heroIndex, int skillIndex, int targetIndex) {
+        inputs.add(new HeroInput(heroIndex, skillIndex, targetIndex));
+    }
+
+    void complete(boolean victory, int rounds, int actions) {
+        this.completed = true;
+        this.victory = victory;
+        this.rounds = rounds;
+        this.actions = actions;
+    }
+
+    /** False when the player left before the battle ended. */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public boolean isVictory() {
+        return victory;
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+
+    public int getActions() {
+        return actions;
+    }
+
+    /** Running hash of every combat event, so a replay can be checked hit for hit. */
+    public long getEventDigest() {
+        return eventDigest;
+    }
+
+    @Override
+    public void onCombatEvent(CombatEvent event) {
+        eventDigest = eventDigest * 31 + event.getType().ordinal();
+        eventDigest = eventDigest * 31 + event.getAmount();
+        eventDigest = eventDigest * 31 + (event.getTarget() != null ? event.getTarget().name.hashCode() : 0);
+    }
+
+    /**
+     * Writes this recording in the binary save format; the previous file is replaced atomically.
+     */
+    public void save(Path path) throws IOException {
+        if (path == null) return;
+        SaveFile.write(path, this::writeTo);
+    }
+
+    /**
+     * Loads a recording, returning null if there is none.
+     *
+     * @throws IOException if the file exists but cannot be read
+     */
+    public static BattleRecording load(Path path) throws IOException {
+        if (path == null || !Files.exists(path)) return null;
+        return SaveFile.read(path, BattleRecording.class, BattleRecording::readFrom);
+    }
+
+    /**
+     * Encodes this recording as a complete save file; the bytes are an immutable snapshot.
+     */
+    byte[] toSaveBytes() throws IOException {
+        return SaveFile.encode(this::writeTo);
+    }
+
+    private void writeTo(SaveFile.Writer out) throws IOException {
+        out.writeVarInt(worldId);
+        out.writeVarInt(playerLevel);
+        out.writeLong(seed);
+        out.writeBoolean(selectedTeam != null);
+        if (selectedTeam != null) {
+            out.writeVarInt(selectedTeam.size());
+            for (String heroClass : selectedTeam) {
+                out.writeString(heroClass);
+            }
+        }
+        out.writeVarInt(inputs.size());
+        for (HeroInput input : inputs) {
+            out.writeVarInt(input.heroIndex);
+            out.writeVarInt(input.skillIndex);
+            out.writeVarInt(input.targetIndex);
+        }
+        out.writeBoolean(completed);
+        out.writeBoolean(victory);
+        out.writeVarInt(rounds);
+        out.writeVarInt(actions);
+        out.writeLong(eventDigest);
+    }
+
+    private static BattleRecording readFrom(SaveFile.Reader in) throws IOException {
+        int worldId = in.readVarInt();
+        int playerLevel = in.readVarInt();
+        long seed = in.readLong();
+        List<String> selectedTeam = null;
+        if (in.readBoolean()) {
+            int teamSize = in.readCount();
+            selectedTeam = new ArrayList<>(teamSize);
+            for (int i = 0; i < teamSize; i++) {
+                selectedTeam.add(in.readString());
+            }
+        }
+        BattleRecording recording = new BattleRecording(worldId, playerLevel, seed, selectedTeam);
+        int inputCount = in.readCount();
+        for (int i = 0; i < inputCount; i++) {
+            recording.addInput(in.readVarInt(), in.readVarInt(), in.readVarInt());
+        }
+        recording.completed = in.readBoolean();
+        recording.victory = in.readBoolean();
+        recording.rounds = in.readVarInt();
+        recording.actions = in.readVarInt();
+        recording.eventDigest = in.readLong();
+        return recording;
+    }
+
+    /** One hero action; {@code targetIndex} is an enemy slot, or -1 for skills that pick their own targets. */
+    public static class HeroInput implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        public final int heroIndex;
+        public final int skillIndex;
+        public final int targetIndex;
+
+        public HeroInput(int heroIndex, int skillIndex, int targetIndex) {
+            this.heroIndex = heroIndex;
+            this.skillIndex = skillIndex;
+            this.targetIndex = targetIndex;
+        }
+    }
+}
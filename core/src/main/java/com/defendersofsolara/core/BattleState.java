@@ -1,5 +1,6 @@
 package com.defendersofsolara.core;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
@@ -76,6 +77,38 @@ public class BattleState implements Serializable {
     public void setWavePlan(List<WaveData> wavePlan) {
         this.wavePlan = wavePlan;
     }
+
+    void writeTo(SaveFile.Writer out) throws IOException {
+        out.writeVarInt(worldId);
+        out.writeVarInt(activeWaveIndex);
+        out.writeVarInt(currentPlayerIndex);
+        CharacterData.writeList(out, playerTeamData);
+        CharacterData.writeList(out, enemyTeamData);
+        int waves = wavePlan != null ? wavePlan.size() : 0;
+        out.writeVarInt(waves);
+        for (int i = 0; i < waves; i++) {
+            WaveData wave = wavePlan.get(i);
+            out.writeVarInt(wave.waveNumber);
+            out.writeBoolean(wave.bossWave);
+            CharacterData.writeList(out, wave.enemies);
+        }
+    }
+
+    static BattleState readFrom(SaveFile.Reader in) throws IOException {
+        BattleState state = new BattleState();
+        state.worldId = in.readVarInt();
+        state.activeWaveIndex = in.readVarInt();
+        state.currentPlayerIndex = in.readVarInt();
+        state.playerTeamData = CharacterData.readList(in);
+        state.enemyTeamData = CharacterData.readList(in);
+        int waves = in.readCount();
+        for (int i = 0; i < waves; i++) {
+            int waveNumber = in.readVarInt();
+            boolean bossWave = in.readBoolean();
+            state.wavePlan.add(new WaveData(waveNumber, bossWave, CharacterData.readList(in)));
+        }
+        return state;
+    }
     
     /**
      * Lightweight serializable character data (avoids serializing full Character objects with skills)
@@ -97,6 +130,8 @@ public class BattleState implements Serializable {
         private int currentDefense;
         private int currentSpeed;
         private boolean isAlive;
+        private List<EffectData> effects; // null in saves made before effects were kept
+        private int[] cooldowns; // turns left on each skill; null in saves made before cooldowns were kept
         
         public CharacterData() {}
         
@@ -115,6 +150,14 @@ public class BattleState implements Serializable {
             this.currentDefense = c.currentDefense;
             this.currentSpeed = c.currentSpeed;
             this.isAlive = c.isAlive;
+            this.effects = new ArrayList<>();
+            for (StatusEffect effect : c.getActiveEffects()) {
+                effects.add(new EffectData(effect.type.name(), effect.value, c.getTurnsLeft(effect)));
+            }
+            this.cooldowns = new int[c.skills.size()];
+            for (int i = 0; i < cooldowns.length; i++) {
+                cooldowns[i] = c.skills.get(i).currentCooldown;
+            }
         }
         
         // Getters and setters
@@ -159,6 +202,117 @@ public class BattleState implements Serializable {
         
         public boolean isAlive() { return isAlive; }
         public void setAlive(boolean alive) { isAlive = alive; }
+        
+        public List<EffectData> getEffects() { return effects; }
+        public void setEffects(List<EffectData> effects) { this.effects = effects; }
+
+        public int[] getCooldowns() { return cooldowns; }
+        public void setCooldowns(int[] cooldowns) { this.cooldowns = cooldowns; }
+
+        static void writeList(SaveFile.Writer out, List<CharacterData> list) throws IOException {
+            int size = list != null ? list.size() : 0;
+            out.writeVarInt(size);
+            for (int i = 0; i < size; i++) {
+                list.get(i).writeTo(out);
+            }
+        }
+
+        static List<CharacterData> readList(SaveFile.Reader in) throws IOException {
+            int size = in.readCount();
+            List<CharacterData> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(readFrom(in));
+            }
+            return list;
+        }
+
+        private void writeTo(SaveFile.Writer out) throws IOException {
+            out.writeString(name);
+            out.writeString(className);
+            out.writeVarInt(level);
+            out.writeVarInt(maxHP);
+            out.writeVarInt(currentHP);
+            out.writeVarInt(maxMana);
+            out.writeVarInt(currentMana);
+            out.writeVarInt(baseAttack);
+            out.writeVarInt(baseDefense);
+            out.writeVarInt(baseSpeed);
+            out.writeVarInt(currentAttack);
+            out.writeVarInt(currentDefense);
+            out.writeVarInt(currentSpeed);
+            out.writeBoolean(isAlive);
+            int effectCount = effects != null ? effects.size() : 0;
+            out.writeVarInt(effectCount);
+            for (int i = 0; i < effectCount; i++) {
+                EffectData effect = effects.get(i);
+                out.writeString(effect.type);
+                out.writeVarInt(effect.value);
+                out.writeVarInt(effect.turnsLeft);
+            }
+            int cooldownCount = cooldowns != null ? cooldowns.length : 0;
+            out.writeVarInt(cooldownCount);
+            for (int i = 0; i < cooldownCount; i++) {
+                out.writeVarInt(cooldowns[i]);
+            }
+        }
+
+        private static CharacterData readFrom(SaveFile.Reader in) throws IOException {
+            CharacterData data = new CharacterData();
+            data.name = in.readString();
+            data.className = in.readString();
+            data.level = in.readVarInt();
+            data.maxHP = in.readVarInt();
+            data.currentHP = in.readVarInt();
+            data.maxMana = in.readVarInt();
+            data.currentMana = in.readVarInt();
+            data.baseAttack = in.readVarInt();
+            data.baseDefense = in.readVarInt();
+            data.baseSpeed = in.readVarInt();
+            data.currentAttack = in.readVarInt();
+            data.currentDefense = in.readVarInt();
+            data.currentSpeed = in.readVarInt();
+            data.isAlive = in.readBoolean();
+            int effectCount = in.readCount();
+            data.effects = new ArrayList<>(effectCount);
+            for (int i = 0; i < effectCount; i++) {
+                data.effects.add(new EffectData(in.readString(), in.readVarInt(), in.readVarInt()));
+            }
+            if (in.version >= 2) {
+                data.cooldowns = new int[in.readCount()];
+                for (int i = 0; i < data.cooldowns.length; i++) {
+                    data.cooldowns[i] = in.readVarInt();
+                }
+            }
+            return data;
+        }
+    }
+    
+    /**
+     * A status effect with the turns it has left
+     */
+    public static class EffectData implements Serializable {
+        private static final long serialVersionUID = 1L;
+        
+        private String type;
+        private int value;
+        private int turnsLeft;
+        
+        public EffectData() {}
+        
+        public EffectData(String type, int value, int turnsLeft) {
+            this.type = type;
+            this.value = value;
+            this.turnsLeft = turnsLeft;
+        }
+        
+        public String getType() { return type; }
+        public void setType(String type) { this.type = type; }
+        
+        public int getValue() { return value; }
+        public void setValue(int value) { this.value = value; }
+        
+        public int getTurnsLeft() { return turnsLeft; }
+        public void setTurnsLeft(int turnsLeft) { this.turnsLeft = turnsLeft; }
     }
     
     /**
@@ -3,8 +3,17 @@ package com.defendersofsolara.core;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.TreeMap;
 
 public abstract class Character implements Serializable {
+    public static final int MAX_LEVEL = 30;
+    // Base stat growth per level gained
+    public static final int HP_PER_LEVEL = 55;
+    public static final int MANA_PER_LEVEL = 40;
+    public static final int ATTACK_PER_LEVEL = 9;
+    public static final int DEFENSE_PER_LEVEL = 7;
+    public static final int SPEED_PER_LEVEL = 1;
+
     public String name;
     public int maxHP, currentHP;
     public int maxMana, currentMana;
@@ -12,9 +21,21 @@ public abstract class Character implements Serializable {
     public int baseAttack, baseDefense, baseSpeed;
     public int currentAttack, currentDefense, currentSpeed;
     public List<Skill> skills;
-    public List<StatusEffect> activeEffects;
     public boolean isAlive;
 
+    // Active effects bucketed by the turn they wear off, plus their summed stat changes
+    private final TreeMap<Integer, List<StatusEffect>> effectsByExpiry = new TreeMap<>();
+    private int turnsTaken = 0;
+    private int attackModifier = 0;
+    private int defenseModifier = 0;
+    private int speedModifier = 0;
+
+    // Side this character fights on; kept informed of deaths and revivals
+    transient Team team;
+    transient int teamSlot;
+    // Battle's event bus while this character is on the field
+    transient CombatEventBus events;
+
 
     public Character(String name, int hp, int mana, int attack, int defense, int speed) {
         this.name = name;
@@ -24,9 +45,8 @@ public abstract class Character implements Serializable {
         this.baseDefense = currentDefense = defense;
         this.baseSpeed = currentSpeed = speed;
         this.level = 1;
-        this.maxLevel = 30;
+        this.maxLevel = MAX_LEVEL;
         this.skills = new ArrayList<>();
-        this.activeEffects = new ArrayList<>();
         this.isAlive = true;
         initializeSkills();
     }
@@ -37,16 +57,37 @@ public abstract class Character implements Serializable {
         // Balanced damage formula: defense reduces damage by 40% (was 50%), minimum 1 damage
         int defenseReduction = (int) Math.round(currentDefense * 0.4);
         int actualDamage = Math.max(1, damage - defenseReduction);
+        int before = currentHP;
         currentHP = Math.max(0, currentHP - actualDamage);
-        if (currentHP == 0) isAlive = false;
+        if (events != null && before > currentHP) {
+            events.publish(CombatEvent.Type.DAMAGE, this, before - currentHP, null);
+        }
+        if (currentHP == 0) setAlive(false);
+    }
+
+    public void setAlive(boolean alive) {
+        boolean wasAlive = isAlive;
+        isAlive = alive;
+        if (team != null) team.update(this);
+        if (events != null && wasAlive && !alive) {
+            events.publish(CombatEvent.Type.DEFEATED, this, 0, null);
+        }
     }
 
     public void restoreHealth(int amount) {
+        int before = currentHP;
         currentHP = Math.min(maxHP, currentHP + amount);
+        if (events != null && currentHP > before) {
+            events.publish(CombatEvent.Type.HEAL, this, currentHP - before, null);
+        }
     }
 
     public void restoreMana(int amount) {
+        int before = currentMana;
         currentMana = Math.min(maxMana, currentMana + amount);
+        if (events != null && currentMana > before) {
+            events.publish(CombatEvent.Type.MANA_RESTORED, this, currentMana - before, null);
+        }
     }
 
     public void gainExp(int exp) {
@@ -57,58 +98,101 @@ public abstract class Character implements Serializable {
 
     protected void levelUpStats() {
         if (level >= maxLevel) return;
-        level++;
-        maxHP += 55;  // Increased from 40 - heroes get more HP per level
-        maxMana += 40; // Increased from 30 - heroes get more mana per level
-        baseAttack += 9; // Increased from 6 - heroes get more attack per level
-        baseDefense += 7; // Increased from 4 - heroes get more defense per level
-        baseSpeed += 1;
-        currentHP = maxHP;
-        currentMana = maxMana;
-        currentAttack = baseAttack;
-        currentDefense = baseDefense;
-        currentSpeed = baseSpeed;
+        growLevels(1);
     }
 
+    /**
+     * Levels up to {@code targetLevel} in one step; growth is linear, so this matches
+     * calling levelUpStats once per level.
+     */
     public void syncToLevel(int targetLevel) {
         targetLevel = Math.max(1, Math.min(targetLevel, maxLevel));
-        while (level < targetLevel) {
-            levelUpStats();
+        if (level < targetLevel) {
+            growLevels(targetLevel - level);
         }
     }
 
+    private void growLevels(int levels) {
+        level += levels;
+        maxHP += levels * HP_PER_LEVEL;
+        maxMana += levels * MANA_PER_LEVEL;
+        baseAttack += levels * ATTACK_PER_LEVEL;
+        baseDefense += levels * DEFENSE_PER_LEVEL;
+        baseSpeed += levels * SPEED_PER_LEVEL;
+        currentHP = maxHP;
+        currentMana = maxMana;
+        resetStats();
+    }
+
     public void applyStatMultiplier(double hpMult, double manaMult, double attackMult, double defenseMult) {
         maxHP = (int) Math.round(maxHP * hpMult);
         currentHP = maxHP;
         maxMana = (int) Math.round(maxMana * manaMult);
         currentMana = maxMana;
-        baseAttack = currentAttack = (int) Math.round(baseAttack * attackMult);
-        baseDefense = currentDefense = (int) Math.round(baseDefense * defenseMult);
+        baseAttack = (int) Math.round(baseAttack * attackMult);
+        baseDefense = (int) Math.round(baseDefense * defenseMult);
+        resetStats();
     }
 
     public void applyEffect(StatusEffect effect) {
-        activeEffects.add(effect);
+        if (effect == null || effect.duration <= 0) return;
+        effect.expiresOnTurn = turnsTaken + effect.duration;
+        effectsByExpiry.computeIfAbsent(effect.expiresOnTurn, turn -> new ArrayList<>()).add(effect);
+        adjustModifiers(effect, 1);
+        if (events != null) {
+            events.publish(CombatEvent.Type.EFFECT_APPLIED, this, 0, effect);
+        }
     }
 
+    /**
+     * Called as this character's turn starts: counts the turn and drops the effects that end on it.
+     * Only the expiring bucket is touched, and stats are recomputed only if something wore off.
+     */
     public void updateEffects() {
-        activeEffects.removeIf(effect -> {
-            effect.duration--;
-            return effect.duration <= 0;
-        });
+        turnsTaken++;
+        List<StatusEffect> expired = effectsByExpiry.remove(turnsTaken);
+        if (expired == null) return;
+        for (StatusEffect effect : expired) {
+            adjustModifiers(effect, -1);
+            if (events != null) {
+                events.publish(CombatEvent.Type.EFFECT_EXPIRED, this, 0, effect);
+            }
+        }
     }
 
-    public void resetStats() {
-        currentAttack = baseAttack;
-        currentDefense = baseDefense;
-        currentSpeed = baseSpeed;
-        for (StatusEffect effect : activeEffects) {
-            if (effect.type.equals("buff")) {
-                currentAttack += effect.value;
-                currentDefense += effect.value;
-            } else if (effect.type.equals("debuff")) {
-                currentAttack -= effect.value;
-            }
+    public void clearEffects() {
+        effectsByExpiry.clear();
+        attackModifier = 0;
+        defenseModifier = 0;
+        speedModifier = 0;
+        resetStats();
+    }
+
+    public List<StatusEffect> getActiveEffects() {
+        List<StatusEffect> effects = new ArrayList<>();
+        for (List<StatusEffect> bucket : effectsByExpiry.values()) {
+            effects.addAll(bucket);
         }
+        return effects;
+    }
+
+    /** Turns of this character's left before {@code effect} wears off. */
+    public int getTurnsLeft(StatusEffect effect) {
+        return Math.max(0, effect.expiresOnTurn - turnsTaken);
+    }
+
+    private void adjustModifiers(StatusEffect effect, int sign) {
+        attackModifier += sign * effect.type.attackModifier(effect.value);
+        defenseModifier += sign * effect.type.defenseModifier(effect.value);
+        speedModifier += sign * effect.type.speedModifier(effect.value);
+        resetStats();
+    }
+
+    /** Current stats are always base stats plus whatever the active effects add. */
+    public void resetStats() {
+        currentAttack = Math.max(0, baseAttack + attackModifier);
+        currentDefense = Math.max(0, baseDefense + defenseModifier);
+        currentSpeed = Math.max(1, baseSpeed + speedModifier);
     }
 
     public Skill getSkill(int index) {
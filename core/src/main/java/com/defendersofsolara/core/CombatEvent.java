@@ -0,0 +1,68 @@
+package com.defendersofsolara.core;
+
+/**
+ * Something that just happened to a combatant, published through a {@link CombatEventBus}.
+ *
+ * <p>Instances are pooled and reused by the bus: read what you need inside
+ * {@link CombatEventListener#onCombatEvent} and do not keep the reference.
+ */
+public final class CombatEvent {
+
+    public enum Type {
+        DAMAGE,
+        HEAL,
+        MANA_RESTORED,
+        EFFECT_APPLIED,
+        EFFECT_EXPIRED,
+        DEFEATED
+    }
+
+    private Type type;
+    private Character source;
+    private Skill skill;
+    private Character target;
+    private int amount;
+    private StatusEffect effect;
+
+    CombatEvent() {
+    }
+
+    void set(Type type, Character source, Skill skill, Character target, int amount, StatusEffect effect) {
+        this.type = type;
+        this.source = source;
+        this.skill = skill;
+        this.target = target;
+        this.amount = amount;
+        this.effect = effect;
+    }
+
+    void clear() {
+        set(null, null, null, null, 0, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /** Who caused it, or {@code null} outside a skill (e.g. an effect wearing off at turn start). */
+    public Character getSource() {
+        return source;
+    }
+
+    public Skill getSkill() {
+        return skill;
+    }
+
+    public Character getTarget() {
+        return target;
+    }
+
+    /** HP lost or gained, or mana gained; zero for effect and defeat events. */
+    public int getAmount() {
+        return amount;
+    }
+
+    public StatusEffect getEffect() {
+        return effect;
+    }
+}
@@ -0,0 +1,87 @@
+package com.defendersofsolara.core;
+
+import java.util.Arrays;
+
+/**
+ * Synchronous fan-out of {@link CombatEvent}s from combatants to the battle log, the replay
+ * recorder and any other subscriber.
+ *
+ * <p>Publishing does not allocate: events come from a small pool indexed by nesting depth (an
+ * event raised from inside a listener gets the next slot), and the listener array is only
+ * copied when someone subscribes or unsubscribes. With no subscribers, publishing is a
+ * single length check.
+ */
+public final class CombatEventBus {
+
+    private CombatEventListener[] listeners = new CombatEventListener[0];
+    private CombatEvent[] pool = new CombatEvent[2];
+    private int depth = 0;
+
+    private Character source;
+    private Skill skill;
+
+    public void subscribe(CombatEventListener listener) {
+        if (listener == null) return;
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+    }
+
+    public void unsubscribe(CombatEventListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                CombatEventListener[] next = new CombatEventListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, next, 0, i);
+                System.arraycopy(listeners, i + 1, next, i, next.length - i);
+                listeners = next;
+                return;
+            }
+        }
+    }
+
+    public boolean hasListeners() {
+        return listeners.length > 0;
+    }
+
+    /** Attributes everything published until {@link #endAction()} to {@code source}'s {@code skill}. */
+    public void beginAction(Character source, Skill skill) {
+        this.source = source;
+        this.skill = skill;
+    }
+
+    public void endAction() {
+        this.source = null;
+        this.skill = null;
+    }
+
+    /** Points every member of {@code team} at this bus. */
+    public void attach(Character[] team) {
+        if (team == null) return;
+        for (Character c : team) {
+            if (c != null) c.events = this;
+        }
+    }
+
+    void publish(CombatEvent.Type type, Character target, int amount, StatusEffect effect) {
+        CombatEventListener[] current = listeners;
+        if (current.length == 0) return;
+
+        if (depth == pool.length) {
+            pool = Arrays.copyOf(pool, depth * 2);
+        }
+        CombatEvent event = pool[depth];
+        if (event == null) {
+            event = new CombatEvent();
+            pool[depth] = event;
+        }
+        event.set(type, source, skill, target, amount, effect);
+        depth++;
+        try {
+            for (CombatEventListener listener : current) {
+                listener.onCombatEvent(event);
+            }
+        } finally {
+            depth--;
+            event.clear();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.defendersofsolara.core;
+
+/**
+ * Subscriber to a {@link CombatEventBus}. Called synchronously on the battle's thread.
+ */
+@FunctionalInterface
+public interface CombatEventListener {
+
+    void onCombatEvent(CombatEvent event);
+}
@@ -0,0 +1,278 @@
+package com.defendersofsolara.core;
+
+import com.defendersofsolara.characters.enemies.EnemyTemplate;
+import com.defendersofsolara.characters.heroes.*;
+import com.defendersofsolara.skills.enemy.AegisPulseSkill;
+import com.defendersofsolara.skills.enemy.SavageSwipeSkill;
+import com.defendersofsolara.skills.enemy.SoulDrainSkill;
+import com.defendersofsolara.skills.enemy.VenomSplashSkill;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Immutable, indexed view of the game's content pack: the hero roster, enemy skills,
+ * and each world's minion pool and boss.
+ *
+ * The pack is read from content/content-pack.json on the classpath, or from
+ * content/content-pack.json next to the game if that file exists, and compiled once:
+ * skills become {@link SkillFactory} instances and enemies become {@link EnemyTemplate}s
+ * with their per-level stat tables. Hero kits are code, so pack entries name a hero
+ * class and are bound to a constructor reference here rather than loaded by reflection.
+ */
+public final class ContentRegistry {
+    private static final String BUNDLED_PACK = "/content/content-pack.json";
+    private static final Path OVERRIDE_PACK = Paths.get("content", "content-pack.json");
+
+    // Heroes a pack may list, by class name
+    private static final Map<String, Supplier<Character>> HERO_BUILDERS = new HashMap<>();
+    static {
+        registerHero(Ka.class, Ka::new);
+        registerHero(ZyraKathelDraven.class, ZyraKathelDraven::new);
+        registerHero(Lyra.class, Lyra::new);
+        registerHero(YlonneKryx.class, YlonneKryx::new);
+        registerHero(Seraphina.class, Seraphina::new);
+        registerHero(DravikThorn.class, DravikThorn::new);
+        registerHero(Kaelen.class, Kaelen::new);
+        registerHero(OrinKaelus.class, OrinKaelus::new);
+    }
+
+    private static volatile ContentRegistry instance;
+
+    private final List<String> heroClasses;
+    private final Map<String, Supplier<Character>> heroes;
+    private final Map<String, SkillFactory> skills;
+    private final List<List<EnemyTemplate>> minionPools;
+    private final List<EnemyTemplate> bosses;
+    private final Map<String, EnemyTemplate> enemiesByName;
+
+    private ContentRegistry(Pack pack) {
+        if (pack == null || pack.heroes == null || pack.worlds == null || pack.worlds.isEmpty()) {
+            throw new IllegalStateException("Content pack needs heroes and at least one world");
+        }
+
+        Map<String, Supplier<Character>> heroMap = new LinkedHashMap<>();
+        for (String className : pack.heroes) {
+            Supplier<Character> builder = HERO_BUILDERS.get(className);
+            if (builder == null) {
+                throw new IllegalStateException("Unknown hero class in content pack: " + className);
+            }
+            heroMap.put(className, builder);
+        }
+        heroes = Collections.unmodifiableMap(heroMap);
+        heroClasses = Collections.unmodifiableList(new ArrayList<>(heroMap.keySet()));
+
+        Map<String, SkillFactory> skillMap = new HashMap<>();
+        if (pack.skills != null) {
+            for (Map.Entry<String, SkillDef> entry : pack.skills.entrySet()) {
+                skillMap.put(entry.getKey(), compileSkill(entry.getKey(), entry.getValue()));
+            }
+        }
+        skills = Collections.unmodifiableMap(skillMap);
+
+        List<List<EnemyTemplate>> pools = new ArrayList<>();
+        List<EnemyTemplate> bossList = new ArrayList<>();
+        Map<String, EnemyTemplate> byName = new HashMap<>();
+        for (WorldDef world : pack.worlds) {
+            List<EnemyTemplate> pool = new ArrayList<>();
+            if (world.minions != null) {
+                for (EnemyDef minion : world.minions) {
+                    EnemyTemplate template = compileEnemy(minion);
+                    pool.add(template);
+                    byName.putIfAbsent(template.name, template);
+                }
+            }
+            pools.add(Collections.unmodifiableList(pool));
+            if (world.boss == null) {
+                throw new IllegalStateException("Every world in the content pack needs a boss");
+            }
+            EnemyTemplate boss = compileEnemy(world.boss);
+            bossList.add(boss);
+            byName.putIfAbsent(boss.name, boss);
+        }
+        minionPools = Collections.unmodifiableList(pools);
+        bosses = Collections.unmodifiableList(bossList);
+        enemiesByName = Collections.unmodifiableMap(byName);
+    }
+
+    /**
+     * The registry for this run, loaded from the content pack on first use.
+     */
+    public static ContentRegistry get() {
+        if (instance == null) {
+            synchronized (ContentRegistry.class) {
+                if (instance == null) {
+                    instance = loadDefault();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Compiles a registry from content pack JSON.
+     */
+    public static ContentRegistry load(Reader json) {
+        try {
+            return new ContentRegistry(new Gson().fromJson(json, Pack.class));
+        } catch (JsonParseException e) {
+            throw new IllegalStateException("Malformed content pack: " + e.getMessage(), e);
+        }
+    }
+
+    private static ContentRegistry loadDefault() {
+        if (Files.exists(OVERRIDE_PACK)) {
+            try (Reader reader = Files.newBufferedReader(OVERRIDE_PACK, StandardCharsets.UTF_8)) {
+                return load(reader);
+            } catch (IOException | IllegalStateException e) {
+                System.err.println("Error loading " + OVERRIDE_PACK + ", using bundled content: " + e.getMessage());
+            }
+        }
+        InputStream is = ContentRegistry.class.getResourceAsStream(BUNDLED_PACK);
+        if (is == null) {
+            throw new IllegalStateException("Missing bundled content pack " + BUNDLED_PACK);
+        }
+        try (Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
+            return load(reader);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read bundled content pack", e);
+        }
+    }
+
+    public List<String> getHeroClasses() {
+        return heroClasses;
+    }
+
+    public boolean isHero(String className) {
+        return heroes.containsKey(className);
+    }
+
+    /**
+     * Creates a level 1 hero of the given class, or returns null if the pack has no such hero.
+     */
+    public Character createHero(String className) {
+        Supplier<Character> builder = heroes.get(className);
+        return builder != null ? builder.get() : null;
+    }
+
+    public SkillFactory getSkill(String id) {
+        return skills.get(id);
+    }
+
+    public int getWorldCount() {
+        return minionPools.size();
+    }
+
+    public List<EnemyTemplate> getMinionPool(int worldId) {
+        return minionPools.get(worldIndex(worldId));
+    }
+
+    public EnemyTemplate getBoss(int worldId) {
+        return bosses.get(worldIndex(worldId));
+    }
+
+    /**
+     * Looks up a minion or boss by display name, e.g. to rebuild one from a save.
+     */
+    public EnemyTemplate findEnemy(String name) {
+        return enemiesByName.get(name);
+    }
+
+    private int worldIndex(int worldId) {
+        return Math.max(0, Math.min(worldId - 1, minionPools.size() - 1));
+    }
+
+    private EnemyTemplate compileEnemy(EnemyDef def) {
+        if (def.name == null) {
+            throw new IllegalStateException("Enemy without a name in content pack");
+        }
+        List<SkillFactory> kit = new ArrayList<>();
+        if (def.skills != null) {
+            for (String id : def.skills) {
+                SkillFactory factory = skills.get(id);
+                if (factory == null) {
+                    throw new IllegalStateException("Enemy " + def.name + " uses unknown skill " + id);
+                }
+                kit.add(factory);
+            }
+        }
+        return new EnemyTemplate(def.name, def.hp, def.mana, def.attack, def.defense, def.speed,
+            kit.toArray(new SkillFactory[0]));
+    }
+
+    private static SkillFactory compileSkill(String id, SkillDef def) {
+        if (def == null || def.type == null || def.name == null) {
+            throw new IllegalStateException("Skill " + id + " needs a type and a name");
+        }
+        String name = def.name;
+        double power = def.power;
+        switch (def.type) {
+            case "savageSwipe":
+                return () -> new SavageSwipeSkill(name, power);
+            case "venomSplash":
+                int manaCost = def.manaCost;
+                int cooldown = def.cooldown;
+                return () -> new VenomSplashSkill(name, power, manaCost, cooldown);
+            case "soulDrain":
+                double healRatio = def.healRatio;
+                return () -> new SoulDrainSkill(name, power, healRatio);
+            case "aegisPulse":
+                int heal = def.heal;
+                return () -> new AegisPulseSkill(name, heal);
+            default:
+                throw new IllegalStateException("Skill " + id + " has unknown type " + def.type);
+        }
+    }
+
+    private static void registerHero(Class<? extends Character> type, Supplier<Character> builder) {
+        HERO_BUILDERS.put(type.getName(), builder);
+    }
+
+    // JSON shape of the content pack
+
+    static class Pack {
+        List<String> heroes;
+        Map<String, SkillDef> skills;
+        List<WorldDef> worlds;
+    }
+
+    static class SkillDef {
+        String type;
+        String name;
+        double power;
+        int manaCost;
+        int cooldown;
+        double healRatio;
+        int heal;
+    }
+
+    static class WorldDef {
+        List<EnemyDef> minions;
+        EnemyDef boss;
+    }
+
+    static class EnemyDef {
+        String name;
+        int hp;
+        int mana;
+        int attack;
+        int defense;
+        int speed;
+        List<String> skills;
+    }
+}
@@ -0,0 +1,41 @@
+package com.defendersofsolara.core;
+
+/**
+ * Kinds of status effect and how much of the effect's value each one adds to every stat.
+ */
+public enum EffectType {
+    ATTACK_UP(1, 0, 0),
+    ATTACK_DOWN(-1, 0, 0),
+    DEFENSE_UP(0, 1, 0),
+    DEFENSE_DOWN(0, -1, 0),
+    SPEED_UP(0, 0, 1),
+    SPEED_DOWN(0, 0, -1),
+    /** Raises attack and defense together. */
+    EMPOWER(1, 1, 0);
+
+    private final int attack;
+    private final int defense;
+    private final int speed;
+
+    EffectType(int attack, int defense, int speed) {
+        this.attack = attack;
+        this.defense = defense;
+        this.speed = speed;
+    }
+
+    public int attackModifier(int value) {
+        return attack * value;
+    }
+
+    public int defenseModifier(int value) {
+        return defense * value;
+    }
+
+    public int speedModifier(int value) {
+        return speed * value;
+    }
+
+    public boolean isDebuff() {
+        return attack + defense + speed < 0;
+    }
+}
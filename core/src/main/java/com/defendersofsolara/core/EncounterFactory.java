@@ -0,0 +1,228 @@
+package com.defendersofsolara.core;
+
+import com.defendersofsolara.characters.enemies.*;
+import com.defendersofsolara.characters.heroes.*;
+import com.defendersofsolara.skills.enemy.SavageSwipeSkill;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds hero teams and enemy waves for a world and scales enemies to the player's level.
+ * Heroes, minion pools and bosses come from the {@link ContentRegistry}.
+ */
+public class EncounterFactory {
+
+    // Balanced multipliers - normal difficulty, enemies killable but challenging in later worlds
+    // Enemies have high HP but low damage that scales with hero HP
+    private static final double[] WORLD_HP_MULT = {1.0, 1.1, 1.2, 1.35, 1.5};
+    private static final double[] WORLD_MANA_MULT = {1.0, 1.1, 1.2, 1.3, 1.4};
+    private static final double[] WORLD_ATK_MULT = {1.0, 1.02, 1.04, 1.06, 1.08}; // Much lower attack scaling
+    private static final double[] WORLD_DEF_MULT = {1.0, 1.05, 1.1, 1.15, 1.2};
+    // Enemy levels now scale with player level (base + world offset)
+    private static final int[] WORLD_ENEMY_LEVEL_OFFSET = {0, 1, 2, 3, 4};
+    public static final int WAVES_PER_WORLD = 5;
+    public static final int WORLD_COUNT = 5;
+    // Heroes offered by the content pack, in roster order
+    public static final List<String> HERO_CLASSES = ContentRegistry.get().getHeroClasses();
+
+    private final GameRandom random;
+    private final int playerLevel;
+
+    public EncounterFactory(GameRandom random, int playerLevel) {
+        this.random = random;
+        this.playerLevel = Math.max(1, playerLevel);
+    }
+
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    public int getPlayerLevel() {
+        return playerLevel;
+    }
+
+    public List<WaveEncounter> buildWaveSchedule(int worldId) {
+        List<WaveEncounter> waves = new ArrayList<>();
+        for (int wave = 1; wave <= WAVES_PER_WORLD; wave++) {
+            boolean bossWave = wave == WAVES_PER_WORLD;
+            Character[] enemies = bossWave
+                ? buildBossWave(worldId)
+                : buildMinionWave(worldId, wave);
+            waves.add(new WaveEncounter(wave, bossWave, enemies));
+        }
+        return waves;
+    }
+
+    private Character[] buildMinionWave(int worldId, int waveNumber) {
+        List<EnemyTemplate> pool = ContentRegistry.get().getMinionPool(worldId);
+        int count = 2 + random.nextInt(4); // 2-5 minions
+        Character[] enemies = new Character[count];
+        int index = Math.max(0, Math.min(worldId - 1, WORLD_ENEMY_LEVEL_OFFSET.length - 1));
+        
+        // Scale with player level instead of fixed levels
+        int levelOffset = WORLD_ENEMY_LEVEL_OFFSET[index];
+        int levelTarget = Math.min(30, Math.max(1, playerLevel + levelOffset + (waveNumber / 2)));
+        double difficulty = 1.0 + (waveNumber - 1) * 0.02; // Minimal difficulty scaling per wave
+
+        if (pool.isEmpty()) {
+            // Fallback: create a basic enemy if pool is empty
+            System.err.println("Warning: Minion pool is empty for world " + worldId);
+            for (int i = 0; i < count; i++) {
+                // Create a basic minion with default stats
+                DynamicEnemy minion = new DynamicEnemy(
+                    "Minion",
+                    100 + levelTarget * 20,
+                    50 + levelTarget * 10,
+                    20 + levelTarget * 3,
+                    15 + levelTarget * 2,
+                    30 + levelTarget,
+                    () -> new SavageSwipeSkill("Strike", 1.0)
+                );
+                minion.syncToLevel(levelTarget);
+                // HP, Mana, Defense scale with difficulty; Attack will be scaled to hero HP in applyEnemyScaling
+                minion.applyStatMultiplier(difficulty, difficulty, 1.0, difficulty);
+                enemies[i] = minion;
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                EnemyTemplate template = random.pick(pool);
+                enemies[i] = template.instantiate(levelTarget, difficulty);
+            }
+        }
+        return enemies;
+    }
+
+    private Character[] buildBossWave(int worldId) {
+        List<Character> roster = new ArrayList<>();
+        Character boss = createBossForWorld(worldId);
+        roster.add(boss);
+
+        int supporters = 1 + random.nextInt(2); // 1-2 supports
+        List<EnemyTemplate> pool = ContentRegistry.get().getMinionPool(worldId);
+        if (!pool.isEmpty()) {
+            // Scale supporter level with player level
+            int index = Math.min(worldId - 1, WORLD_ENEMY_LEVEL_OFFSET.length - 1);
+            int levelOffset = WORLD_ENEMY_LEVEL_OFFSET[index];
+            int supporterLevel = Math.min(30, Math.max(1, playerLevel + levelOffset + 1));
+            
+            for (int i = 0; i < supporters; i++) {
+                EnemyTemplate template = random.pick(pool);
+                roster.add(template.instantiate(supporterLevel, 1.1)); // Slight difficulty increase
+            }
+        }
+        return roster.toArray(new Character[0]);
+    }
+
+    private Character createBossForWorld(int worldId) {
+        // Boss level now scales with player level (will be adjusted in applyEnemyScaling)
+        int bossLevel = Math.min(30, Math.max(1, playerLevel + 2));
+        Character boss = ContentRegistry.get().getBoss(worldId).spawn(bossLevel);
+        // Balanced base multipliers - HP and defense only (attack will be scaled to hero HP)
+        boss.applyStatMultiplier(1.15, 1.1, 1.0, 1.05);
+        return boss;
+    }
+
+    public Character[] legacyEnemyPack(int worldId) {
+        switch (worldId) {
+            case 1: return new Character[]{new Abyssal(), new Stonebound()};
+            case 2: return new Character[]{new Stonebound(), new Abyssal(), new Stonebound()};
+            case 3: return new Character[]{new Malakar()};
+            case 4: return new Character[]{new Stonebound(), new Malakar()};
+            case 5: return new Character[]{new Malakar(), new Malakar()};
+            default: return new Character[]{new Abyssal()};
+        }
+    }
+
+    /**
+     * Builds the hero team from the selected class names, falling back to the default four.
+     */
+    public Character[] createPlayerTeam(List<String> selectedTeam) {
+        List<Character> roster = new ArrayList<>();
+        
+        // Use selected team from player progress
+        if (selectedTeam != null && selectedTeam.size() == 4) {
+            for (String heroClass : selectedTeam) {
+                Character hero = ContentRegistry.get().createHero(heroClass);
+                if (hero == null) {
+                    System.err.println("Error creating hero: " + heroClass + " - not in the content pack");
+                    continue;
+                }
+                hero.syncToLevel(playerLevel);
+                roster.add(hero);
+            }
+        } else {
+            // Fallback: use default team if no selection made
+            Character[] defaultTeam = {
+                new Ka(), new ZyraKathelDraven(), new Lyra(), new YlonneKryx()
+            };
+            for (Character hero : defaultTeam) {
+                hero.syncToLevel(playerLevel);
+                roster.add(hero);
+            }
+        }
+        return roster.toArray(new Character[0]);
+    }
+
+    public void applyEnemyScaling(int worldId, WaveEncounter wave, Character[] playerTeam) {
+        int index = Math.max(0, Math.min(worldId - 1, WORLD_HP_MULT.length - 1));
+        double hpMultiplier = WORLD_HP_MULT[index];
+        double manaMultiplier = WORLD_MANA_MULT[index];
+        double defenseMultiplier = WORLD_DEF_MULT[index];
+        int levelOffset = WORLD_ENEMY_LEVEL_OFFSET[index];
+        Character[] enemyTeam = wave.enemies;
+
+        // Calculate average hero HP to scale enemy damage proportionally
+        int totalHeroHP = 0;
+        int heroCount = 0;
+        if (playerTeam != null) {
+            for (Character hero : playerTeam) {
+                if (hero != null && hero.isAlive) {
+                    totalHeroHP += hero.maxHP;
+                    heroCount++;
+                }
+            }
+        }
+        int avgHeroHP = heroCount > 0 ? totalHeroHP / heroCount : 500; // Default if no heroes
+        
+        // Scale enemy level with player level (capped to keep it balanced)
+        int baseEnemyLevel = Math.min(30, Math.max(1, playerLevel + levelOffset));
+        
+        // Minimal wave scaling for HP only (not attack)
+        double waveScalar = 1.0 + (wave.waveNumber - 1) * 0.03;
+        if (wave.bossWave) {
+            waveScalar += 0.1; // Small boss HP bonus
+        }
+
+        for (int i = 0; i < enemyTeam.length; i++) {
+            Character enemy = enemyTeam[i];
+            // Enemy level scales with player, with small variation per enemy
+            int levelTarget = Math.min(30, baseEnemyLevel + (i * 1));
+            enemy.syncToLevel(levelTarget);
+
+            // Apply HP and defense multipliers with wave scaling
+            double hpMult = hpMultiplier * waveScalar;
+            double defMult = defenseMultiplier * waveScalar;
+            
+            // Boss gets more HP and defense, but attack scales with hero HP
+            if (i == enemyTeam.length - 1) {
+                hpMult += 0.15; // Boss gets more HP
+                defMult += 0.08; // Boss gets slightly more defense
+            }
+            
+            // Scale enemy attack to be proportional to hero HP (5-7% per basic attack)
+            // This ensures enemies deal fair damage regardless of hero HP
+            double attackPercentOfHeroHP = 0.05 + (index * 0.005); // 5% to 7% based on world
+            if (i == enemyTeam.length - 1) {
+                attackPercentOfHeroHP += 0.01; // Boss deals slightly more (6-8%)
+            }
+            int targetAttack = (int) Math.round(avgHeroHP * attackPercentOfHeroHP);
+            
+            // Apply HP, Mana, Defense multipliers
+            enemy.applyStatMultiplier(hpMult, manaMultiplier, 1.0, defMult);
+            
+            // Set attack directly based on hero HP scaling
+            enemy.baseAttack = enemy.currentAttack = targetAttack;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.defendersofsolara.core;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The game's single source of randomness. A battle seeded with the same value rolls the same
+ * waves, targets and procs, which is what makes {@link BattleRecording} replays exact.
+ *
+ * <p>The generator is SplitMix64, the algorithm behind {@link java.util.SplittableRandom}, written
+ * out here so its two words of state can be saved with a battle and picked up exactly where they
+ * left off. It yields the same sequences {@code SplittableRandom} does for the same seed.
+ *
+ * <p>Not thread-safe; give each thread its own instance via {@link #split()}.
+ */
+public final class GameRandom {
+
+    private static final ThreadLocal<GameRandom> UNSEEDED = ThreadLocal.withInitial(() -> new GameRandom(newSeed()));
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    private final long seed;
+    private final long gamma;
+    private long state;
+
+    public GameRandom(long seed) {
+        this(seed, seed, GOLDEN_GAMMA);
+    }
+
+    private GameRandom(long seed, long state, long gamma) {
+        this.seed = seed;
+        this.state = state;
+        this.gamma = gamma;
+    }
+
+    /** A fresh seed for a battle that is not being reproduced. */
+    public static long newSeed() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    /**
+     * Per-thread fallback for code that runs outside a battle engine. Rolls made through it
+     * are not reproducible.
+     */
+    public static GameRandom unseeded() {
+        return UNSEEDED.get();
+    }
+
+    /** The seed this stream (or the stream it was split from) started with. */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns an independent child stream. The child's sequence depends only on this stream's
+     * state, so splitting at the same point of a seeded run always yields the same child.
+     */
+    public GameRandom split() {
+        long childState = mix64(nextState());
+        return new GameRandom(seed, childState, mixGamma(nextState()));
+    }
+
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        int r = mix32(nextState());
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+        // Reject the values that would bias the result towards low numbers
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = mix32(nextState()) >>> 1) {
+        }
+        return r;
+    }
+
+    public int nextInt(int origin, int bound) {
+        if (origin >= bound) {
+            throw new IllegalArgumentException("bound must be greater than origin");
+        }
+        int r = mix32(nextState());
+        int n = bound - origin;
+        int m = n - 1;
+        if ((n & m) == 0) {
+            return (r & m) + origin;
+        }
+        if (n > 0) {
+            for (int u = r >>> 1; u + m - (r = u % n) < 0; u = mix32(nextState()) >>> 1) {
+            }
+            return r + origin;
+        }
+        // The range does not fit in an int
+        while (r < origin || r >= bound) {
+            r = mix32(nextState());
+        }
+        return r;
+    }
+
+    public double nextDouble() {
+        return (mix64(nextState()) >>> 11) * DOUBLE_UNIT;
+    }
+
+    /** True with the given probability (0..1). */
+    public boolean chance(double probability) {
+        return nextDouble() < probability;
+    }
+
+    public <T> T pick(List<T> options) {
+        return options.get(nextInt(options.size()));
+    }
+
+    void writeTo(SaveFile.Writer out) throws IOException {
+        out.writeLong(seed);
+        out.writeLong(state);
+        out.writeLong(gamma);
+    }
+
+    static GameRandom readFrom(SaveFile.Reader in) throws IOException {
+        long seed = in.readLong();
+        long state = in.readLong();
+        long gamma = in.readLong();
+        if ((gamma & 1L) == 0) {
+            throw new IOException("Corrupt random state in save file");
+        }
+        return new GameRandom(seed, state, gamma);
+    }
+
+    // ==================== SPLITMIX64 ====================
+
+    private long nextState() {
+        return state += gamma;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    // Gammas must be odd and have enough bit transitions to keep split streams independent
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int transitions = Long.bitCount(z ^ (z >>> 1));
+        return transitions < 24 ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
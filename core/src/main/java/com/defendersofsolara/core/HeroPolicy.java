@@ -0,0 +1,12 @@
+package com.defendersofsolara.core;
+
+/**
+ * Chooses hero actions when a battle is played without a human at the controls.
+ */
+public interface HeroPolicy {
+
+    Skill chooseSkill(BattleEngine engine, Character hero);
+
+    /** Only called for skills whose target the player would normally click. */
+    Character chooseTarget(BattleEngine engine, Character hero, Skill skill);
+}
@@ -2,7 +2,6 @@ package com.defendersofsolara.core;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -32,6 +31,8 @@ public class PlayerProgress implements Serializable {
     
     // Battle state - saves current battle progress
     private BattleState battleState = null;
+    // World of a battle in progress whose state is kept in the profile's battle journal (0 = none)
+    private int journaledBattleWorldId = 0;
     
     // Selected team - stores class names of selected heroes (4 from 8)
     private List<String> selectedTeam = new ArrayList<>();
@@ -102,14 +103,31 @@ public class PlayerProgress implements Serializable {
     
     public void setBattleState(BattleState battleState) {
         this.battleState = battleState;
+        this.journaledBattleWorldId = 0;
+    }
+
+    /**
+     * Marks a battle in {@code worldId} as in progress without copying its state; the state is
+     * in the profile's {@link BattleJournal}.
+     */
+    public void setJournaledBattle(int worldId) {
+        this.battleState = null;
+        this.journaledBattleWorldId = worldId;
     }
     
     public boolean hasActiveBattle() {
-        return battleState != null;
+        return battleState != null || journaledBattleWorldId > 0;
+    }
+
+    /** World of the battle in progress, or 0 if there is none. */
+    public int getActiveBattleWorldId() {
+        if (battleState != null) return battleState.getWorldId();
+        return journaledBattleWorldId;
     }
     
     public void clearBattleState() {
         battleState = null;
+        journaledBattleWorldId = 0;
     }
     
     public List<String> getSelectedTeam() {
@@ -124,30 +142,90 @@ public class PlayerProgress implements Serializable {
         return selectedTeam != null && selectedTeam.size() == 4;
     }
 
+    /**
+     * Writes this profile in the binary save format; the previous file is replaced atomically.
+     */
     public void save(Path path) throws IOException {
         if (path == null) return;
-        if (path.getParent() != null) {
-            Files.createDirectories(path.getParent());
-        }
-        try (ObjectOutputStream oos = new ObjectOutputStream(Files.newOutputStream(path))) {
-            oos.writeObject(this);
-        }
+        SaveFile.write(path, this::writeTo);
     }
 
+    /**
+     * Loads a profile, returning null if there is none. A file that cannot be read is reported
+     * and left untouched rather than treated as an empty slot.
+     */
     public static PlayerProgress load(Path path) {
         if (path == null || !Files.exists(path)) return null;
-        try (ObjectInputStream ois = new ObjectInputStream(Files.newInputStream(path))) {
-            Object obj = ois.readObject();
-            if (obj instanceof PlayerProgress) {
-                return (PlayerProgress) obj;
-            }
-        } catch (IOException | ClassNotFoundException ignored) {
+        try {
+            return SaveFile.read(path, PlayerProgress.class, PlayerProgress::readFrom);
+        } catch (IOException e) {
+            System.err.println("Error loading profile " + path + ": " + e.getMessage());
         }
         return null;
     }
 
+    /**
+     * Encodes this profile as a complete save file; the bytes are an immutable snapshot.
+     */
+    byte[] toSaveBytes() throws IOException {
+        return SaveFile.encode(this::writeTo);
+    }
+
+    private void writeTo(SaveFile.Writer out) throws IOException {
+        out.writeVarInt(playerLevel);
+        out.writeVarInt(currentExp);
+        out.writeVarInt(expToNext);
+        out.writeVarInt(clearedWorlds.size());
+        for (int worldId : clearedWorlds) {
+            out.writeVarInt(worldId);
+        }
+        out.writeBoolean(zyraUnlocked);
+        out.writeLong(totalPlayTimeMs);
+        out.writeLong(sessionStartTime);
+        out.writeLong(lastSaveTime);
+        out.writeVarInt(selectedTeam.size());
+        for (String heroClass : selectedTeam) {
+            out.writeString(heroClass);
+        }
+        out.writeVarInt(journaledBattleWorldId);
+        out.writeBoolean(battleState != null);
+        if (battleState != null) {
+            battleState.writeTo(out);
+        }
+    }
+
+    private static PlayerProgress readFrom(SaveFile.Reader in) throws IOException {
+        PlayerProgress progress = new PlayerProgress();
+        progress.playerLevel = in.readVarInt();
+        progress.currentExp = in.readVarInt();
+        progress.expToNext = in.readVarInt();
+        int cleared = in.readCount();
+        for (int i = 0; i < cleared; i++) {
+            progress.clearedWorlds.add(in.readVarInt());
+        }
+        progress.zyraUnlocked = in.readBoolean();
+        progress.totalPlayTimeMs = Math.max(0, in.readLong());
+        progress.sessionStartTime = Math.max(0, in.readLong());
+        progress.lastSaveTime = Math.max(0, in.readLong());
+        int teamSize = in.readCount();
+        for (int i = 0; i < teamSize; i++) {
+            progress.selectedTeam.add(in.readString());
+        }
+        if (in.version >= 2) {
+            progress.journaledBattleWorldId = Math.max(0, in.readVarInt());
+        }
+        if (in.readBoolean()) {
+            progress.battleState = BattleState.readFrom(in);
+        }
+        return progress;
+    }
+
     public String getProfileSummary() {
-        return String.format("Lvl %d | EXP %d / %d", playerLevel, currentExp, expToNext);
+        return formatSummary(playerLevel, currentExp, expToNext);
+    }
+
+    static String formatSummary(int level, int exp, int expToNext) {
+        return String.format("Lvl %d | EXP %d / %d", level, exp, expToNext);
     }
     
     // Time tracking methods
@@ -179,7 +257,15 @@ public class PlayerProgress implements Serializable {
     }
     
     public String getFormattedPlayTime() {
-        long totalSeconds = getTotalPlayTimeMs() / 1000;
+        return formatPlayTime(getTotalPlayTimeMs());
+    }
+    
+    public String getFormattedLastSaveDate() {
+        return formatSaveDate(lastSaveTime);
+    }
+    
+    static String formatPlayTime(long playTimeMs) {
+        long totalSeconds = playTimeMs / 1000;
         long hours = totalSeconds / 3600;
         long minutes = (totalSeconds % 3600) / 60;
         if (hours > 0) {
@@ -189,14 +275,14 @@ public class PlayerProgress implements Serializable {
         }
     }
     
-    public String getFormattedLastSaveDate() {
-        if (lastSaveTime == 0) return "Never";
+    static String formatSaveDate(long saveTime) {
+        if (saveTime == 0) return "Never";
         SimpleDateFormat sdf = new SimpleDateFormat("MM/dd/yyyy HH:mm");
-        return sdf.format(new Date(lastSaveTime));
+        return sdf.format(new Date(saveTime));
     }
     
-    // Handle serialization version compatibility for old save files
-    // This ensures backward compatibility when loading saves from older versions
+    // Java-serialized saves from before the binary format are still read (see SaveFile);
+    // this keeps them backward compatible with the older versions of this class
     private void readObject(ObjectInputStream ois) throws IOException, ClassNotFoundException {
         ois.defaultReadObject();
         // Ensure time tracking fields are valid (handle old saves that don't have these fields)
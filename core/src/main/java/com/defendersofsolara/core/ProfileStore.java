@@ -0,0 +1,165 @@
+package com.defendersofsolara.core;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Profile saves in one directory (profile1.dat, profile2.dat, ...) plus an index.dat holding a
+ * {@link ProfileSummary} for each, so the profile list is built without decoding any profile.
+ * Full {@link PlayerProgress} objects are only loaded when a profile is selected. A profile with
+ * a battle in progress also has a {@link BattleJournal} (profile1.battle, ...).
+ *
+ * The index records each profile's payload checksum. On open, the checksum in each profile
+ * file's header is compared against it, and only files that changed behind the index's back
+ * (or older saves without an entry) are decoded to rebuild their summaries.
+ *
+ * Writes go through the {@link SaveService}. Not thread-safe; use it from the Swing thread.
+ */
+public final class ProfileStore {
+    /** Slots always offered on the profile screen, even when empty. */
+    public static final int MIN_SLOTS = 4;
+
+    private static final String INDEX_FILE = "index.dat";
+    private static final Pattern PROFILE_FILE = Pattern.compile("profile(\\d+)\\.dat");
+
+    private final Path directory;
+    private final SaveService saveService;
+    private final TreeMap<Integer, ProfileSummary> summaries = new TreeMap<>();
+
+    private ProfileStore(Path directory, SaveService saveService) {
+        this.directory = directory;
+        this.saveService = saveService;
+    }
+
+    /**
+     * Opens the store in {@code directory}, reading the index and repairing entries that are stale.
+     */
+    public static ProfileStore open(Path directory, SaveService saveService) {
+        ProfileStore store = new ProfileStore(directory, saveService);
+        store.loadIndex();
+        return store;
+    }
+
+    /** Number of slots to offer: every saved profile plus one free slot after the last. */
+    public int getSlotCount() {
+        int highest = summaries.isEmpty() ? 0 : summaries.lastKey();
+        return Math.max(MIN_SLOTS, highest + 1);
+    }
+
+    /** Summary for profile {@code id} (1-based), or null if that slot is empty. */
+    public ProfileSummary getSummary(int id) {
+        return summaries.get(id);
+    }
+
+    /** Loads the full profile {@code id}, or null if the slot is empty or unreadable. */
+    public PlayerProgress load(int id) {
+        return saveService.loadProgress(profilePath(id));
+    }
+
+    /**
+     * Snapshots {@code progress} into slot {@code id} and updates the index; both are written
+     * in the background.
+     */
+    public void save(int id, PlayerProgress progress) throws IOException {
+        byte[] bytes = progress.toSaveBytes();
+        summaries.put(id, ProfileSummary.of(id, progress, SaveFile.checksumOf(bytes)));
+        saveService.submit(profilePath(id), bytes);
+        writeIndex();
+    }
+
+    public void delete(int id) {
+        summaries.remove(id);
+        saveService.delete(profilePath(id));
+        saveService.delete(journalPath(id));
+        writeIndex();
+    }
+
+    /**
+     * A new journal for profile {@code id}'s battle, replacing any earlier one once it is synced.
+     * Attach it with {@link BattleEngine#startJournal}.
+     */
+    public BattleJournal newBattleJournal(int id) {
+        return new BattleJournal(journalPath(id), saveService);
+    }
+
+    /**
+     * Rebuilds profile {@code id}'s journaled battle with its journal attached, or returns null
+     * if it has none or the journal is unusable.
+     */
+    public BattleEngine resumeBattle(int id, EncounterFactory encounters) {
+        return BattleJournal.resume(journalPath(id), saveService, encounters);
+    }
+
+    private Path profilePath(int id) {
+        return directory.resolve("profile" + id + ".dat");
+    }
+
+    private Path journalPath(int id) {
+        return directory.resolve("profile" + id + ".battle");
+    }
+
+    private void loadIndex() {
+        Path indexPath = directory.resolve(INDEX_FILE);
+        Map<Integer, ProfileSummary> indexed = new TreeMap<>();
+        if (Files.exists(indexPath)) {
+            try {
+                indexed = SaveFile.read(indexPath, null, ProfileStore::readIndex);
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Rebuilding profile index: " + e.getMessage());
+            }
+        }
+
+        if (!Files.isDirectory(directory)) return;
+        boolean repaired = false;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "profile*.dat")) {
+            for (Path file : files) {
+                Matcher m = PROFILE_FILE.matcher(file.getFileName().toString());
+                if (!m.matches()) continue;
+                int id = Integer.parseInt(m.group(1));
+                long checksum = SaveFile.peekChecksum(file);
+                ProfileSummary summary = indexed.get(id);
+                if (summary == null || checksum < 0 || summary.checksum != checksum) {
+                    PlayerProgress progress = saveService.loadProgress(file);
+                    if (progress == null) continue;
+                    summary = ProfileSummary.of(id, progress, checksum);
+                    repaired = true;
+                }
+                summaries.put(id, summary);
+            }
+        } catch (IOException e) {
+            System.err.println("Error listing profiles in " + directory + ": " + e.getMessage());
+        }
+        if (repaired || summaries.size() != indexed.size()) {
+            writeIndex();
+        }
+    }
+
+    private void writeIndex() {
+        try {
+            saveService.submit(directory.resolve(INDEX_FILE), SaveFile.encode(out -> {
+                out.writeVarInt(summaries.size());
+                for (ProfileSummary summary : summaries.values()) {
+                    summary.writeTo(out);
+                }
+            }));
+        } catch (IOException e) {
+            System.err.println("Error writing profile index: " + e.getMessage());
+        }
+    }
+
+    private static Map<Integer, ProfileSummary> readIndex(SaveFile.Reader in) throws IOException {
+        Map<Integer, ProfileSummary> indexed = new TreeMap<>();
+        int count = in.readCount();
+        for (int i = 0; i < count; i++) {
+            ProfileSummary summary = ProfileSummary.readFrom(in);
+            indexed.put(summary.getId(), summary);
+        }
+        return indexed;
+    }
+}
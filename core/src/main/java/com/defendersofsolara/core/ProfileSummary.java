@@ -0,0 +1,109 @@
+package com.defendersofsolara.core;
+
+import java.io.IOException;
+
+/**
+ * The few facts about a profile that the profile select screen shows, kept in the
+ * {@link ProfileStore} index so listing profiles never decodes a full save.
+ */
+public final class ProfileSummary {
+    private final int id;
+    private final int playerLevel;
+    private final int currentExp;
+    private final int expToNext;
+    private final int clearedWorldCount;
+    private final long totalPlayTimeMs;
+    private final long lastSaveTime;
+    private final boolean activeBattle;
+    // Payload checksum of the profile file this summary was taken from
+    final long checksum;
+
+    private ProfileSummary(int id, int playerLevel, int currentExp, int expToNext, int clearedWorldCount,
+                           long totalPlayTimeMs, long lastSaveTime, boolean activeBattle, long checksum) {
+        this.id = id;
+        this.playerLevel = playerLevel;
+        this.currentExp = currentExp;
+        this.expToNext = expToNext;
+        this.clearedWorldCount = clearedWorldCount;
+        this.totalPlayTimeMs = totalPlayTimeMs;
+        this.lastSaveTime = lastSaveTime;
+        this.activeBattle = activeBattle;
+        this.checksum = checksum;
+    }
+
+    static ProfileSummary of(int id, PlayerProgress progress, long checksum) {
+        return new ProfileSummary(id, progress.getPlayerLevel(), progress.getCurrentExp(),
+            progress.getExpToNext(), progress.getClearedWorldCount(), progress.getTotalPlayTimeMs(),
+            progress.getLastSaveTime(), progress.hasActiveBattle(), checksum);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getPlayerLevel() {
+        return playerLevel;
+    }
+
+    public int getCurrentExp() {
+        return currentExp;
+    }
+
+    public int getExpToNext() {
+        return expToNext;
+    }
+
+    public int getClearedWorldCount() {
+        return clearedWorldCount;
+    }
+
+    public boolean hasActiveBattle() {
+        return activeBattle;
+    }
+
+    public long getLastSaveTime() {
+        return lastSaveTime;
+    }
+
+    /** True for a slot that was created but never played or saved. */
+    public boolean isFresh() {
+        return playerLevel == 1 && currentExp == 0 && clearedWorldCount == 0 && lastSaveTime == 0;
+    }
+
+    public String getProfileSummary() {
+        return PlayerProgress.formatSummary(playerLevel, currentExp, expToNext);
+    }
+
+    public String getFormattedPlayTime() {
+        return PlayerProgress.formatPlayTime(totalPlayTimeMs);
+    }
+
+    public String getFormattedLastSaveDate() {
+        return PlayerProgress.formatSaveDate(lastSaveTime);
+    }
+
+    void writeTo(SaveFile.Writer out) throws IOException {
+        out.writeVarInt(id);
+        out.writeLong(checksum);
+        out.writeVarInt(playerLevel);
+        out.writeVarInt(currentExp);
+        out.writeVarInt(expToNext);
+        out.writeVarInt(clearedWorldCount);
+        out.writeLong(totalPlayTimeMs);
+        out.writeLong(lastSaveTime);
+        out.writeBoolean(activeBattle);
+    }
+
+    static ProfileSummary readFrom(SaveFile.Reader in) throws IOException {
+        int id = in.readVarInt();
+        long checksum = in.readLong();
+        int level = in.readVarInt();
+        int exp = in.readVarInt();
+        int expToNext = in.readVarInt();
+        int worlds = in.readVarInt();
+        long playTime = in.readLong();
+        long lastSave = in.readLong();
+        boolean battle = in.readBoolean();
+        return new ProfileSummary(id, level, exp, expToNext, worlds, playTime, lastSave, battle, checksum);
+    }
+}
@@ -0,0 +1,41 @@
+package com.defendersofsolara.core;
+
+import java.util.List;
+
+/**
+ * Plays back recorded hero inputs in order, for replays and for resuming a journaled battle.
+ */
+public class ReplayPolicy implements HeroPolicy {
+    private final List<BattleRecording.HeroInput> inputs;
+    private int next = 0;
+    private BattleRecording.HeroInput current;
+
+    public ReplayPolicy(List<BattleRecording.HeroInput> inputs) {
+        this.inputs = inputs;
+    }
+
+    public boolean hasNext() {
+        return next < inputs.size();
+    }
+
+    /**
+     * @throws IllegalStateException if the next input belongs to a different hero than the one acting
+     */
+    @Override
+    public Skill chooseSkill(BattleEngine engine, Character hero) {
+        current = inputs.get(next);
+        if (current.heroIndex != engine.getCurrentPlayerIndex()) {
+            throw new IllegalStateException("Replay diverged at input " + next + ": expected hero "
+                + current.heroIndex + " but " + hero.name + " is acting");
+        }
+        next++;
+        return hero.getSkill(current.skillIndex);
+    }
+
+    @Override
+    public Character chooseTarget(BattleEngine engine, Character hero, Skill skill) {
+        Character[] enemies = engine.getEnemyTeam();
+        if (current.targetIndex < 0 || current.targetIndex >= enemies.length) return null;
+        return enemies[current.targetIndex];
+    }
+}
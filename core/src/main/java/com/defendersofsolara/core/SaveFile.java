@@ -0,0 +1,298 @@
+package com.defendersofsolara.core;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * Binary container for profile saves.
+ *
+ * Layout: magic "DOSV", format version (u16), payload length (u32), CRC32 of the payload (u32),
+ * then the payload. The payload is written field by field through {@link Writer}, which uses
+ * varints and a per-file string table, so it carries no class metadata and stays small.
+ *
+ * Files are written to a sibling temp file, forced to disk and then renamed over the target,
+ * so a crash mid-save leaves the previous save in place. Readers migrate older formats forward:
+ * each type's read method takes the file's version and fills in defaults for fields that version
+ * did not have. Java-serialized saves from before this format are still read and are rewritten in
+ * the current format on their next save.
+ */
+final class SaveFile {
+    static final int MAGIC = 0x444F5356; // "DOSV"
+    /** Bump when the payload layout changes and teach the read methods about the old layout. */
+    static final int VERSION = 2;
+
+    private static final int HEADER_BYTES = 14;
+    private static final short JAVA_SERIALIZATION_MAGIC = (short) 0xACED;
+
+    private SaveFile() {
+    }
+
+    interface Encoder {
+        void write(Writer out) throws IOException;
+    }
+
+    interface Decoder<T> {
+        T read(Reader in) throws IOException;
+    }
+
+    /**
+     * Encodes a payload and atomically replaces {@code path} with it.
+     */
+    static void write(Path path, Encoder encoder) throws IOException {
+        writeAtomically(path, encode(encoder));
+    }
+
+    /**
+     * Encodes a complete save file, header included, without touching the disk.
+     */
+    static byte[] encode(Encoder encoder) throws IOException {
+        byte[] payload = encodePayload(encoder);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        buffer.putInt(MAGIC);
+        buffer.putShort((short) VERSION);
+        buffer.putInt(payload.length);
+        buffer.putInt((int) checksum(payload, 0, payload.length));
+        buffer.put(payload);
+        return buffer.array();
+    }
+
+    /**
+     * Encodes just a payload, with no header. For containers such as {@link BattleJournal} that
+     * frame several payloads themselves.
+     */
+    static byte[] encodePayload(Encoder encoder) throws IOException {
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream(1024);
+        Writer writer = new Writer(new DataOutputStream(payloadBytes));
+        encoder.write(writer);
+        writer.out.flush();
+        return payloadBytes.toByteArray();
+    }
+
+    /**
+     * Decodes a payload produced by {@link #encodePayload}, read as format {@code version}.
+     */
+    static <T> T decodePayload(byte[] bytes, int offset, int length, int version, Decoder<T> decoder) throws IOException {
+        return decoder.read(new Reader(new DataInputStream(new ByteArrayInputStream(bytes, offset, length)), version));
+    }
+
+    /**
+     * Writes already encoded bytes to a temp file, forces them to disk and renames it over {@code path}.
+     */
+    static void writeAtomically(Path path, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads a save written by {@link #write}, or a legacy Java-serialized object of {@code legacyType}
+     * if that is not null.
+     *
+     * @throws IOException if the file is truncated, fails its checksum or comes from a newer version
+     */
+    static <T> T read(Path path, Class<T> legacyType, Decoder<T> decoder) throws IOException {
+        byte[] bytes = Files.readAllBytes(path);
+        if (legacyType != null && bytes.length >= 2 && (short) (((bytes[0] & 0xFF) << 8) | (bytes[1] & 0xFF)) == JAVA_SERIALIZATION_MAGIC) {
+            return readLegacy(bytes, legacyType);
+        }
+        if (bytes.length < HEADER_BYTES) {
+            throw new IOException("Save file is truncated");
+        }
+        ByteBuffer header = ByteBuffer.wrap(bytes, 0, HEADER_BYTES);
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a save file");
+        }
+        int version = header.getShort() & 0xFFFF;
+        if (version > VERSION) {
+            throw new IOException("Save file version " + version + " is newer than this game (" + VERSION + ")");
+        }
+        int length = header.getInt();
+        long expected = header.getInt() & 0xFFFFFFFFL;
+        if (length < 0 || length != bytes.length - HEADER_BYTES) {
+            throw new IOException("Save file is truncated");
+        }
+        if (checksum(bytes, HEADER_BYTES, length) != expected) {
+            throw new IOException("Save file checksum mismatch");
+        }
+        return decodePayload(bytes, HEADER_BYTES, length, version, decoder);
+    }
+
+    /** The payload checksum stored in the header of bytes produced by {@link #encode}. */
+    static long checksumOf(byte[] encoded) {
+        return ByteBuffer.wrap(encoded, 10, 4).getInt() & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Reads just the header of {@code path} and returns its payload checksum, or -1 if the file
+     * is missing or not in this format. Lets an index tell whether a file changed without
+     * decoding it.
+     */
+    static long peekChecksum(Path path) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            int read;
+            do {
+                read = channel.read(header);
+            } while (read >= 0 && header.hasRemaining());
+        } catch (IOException e) {
+            return -1;
+        }
+        if (header.hasRemaining()) return -1;
+        header.flip();
+        if (header.getInt() != MAGIC) return -1;
+        header.getShort();
+        header.getInt();
+        return header.getInt() & 0xFFFFFFFFL;
+    }
+
+    private static <T> T readLegacy(byte[] bytes, Class<T> type) throws IOException {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            Object obj = ois.readObject();
+            if (!type.isInstance(obj)) {
+                throw new IOException("Legacy save holds " + (obj == null ? "null" : obj.getClass().getName()));
+            }
+            return type.cast(obj);
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Legacy save references a missing class: " + e.getMessage(), e);
+        }
+    }
+
+    /** CRC32 of {@code length} bytes starting at {@code offset}. */
+    static long checksum(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return crc.getValue();
+    }
+
+    /**
+     * Payload writer: zig-zag varints for counts and stats, and a string table so repeated
+     * strings such as class names are written once.
+     */
+    static final class Writer {
+        final DataOutputStream out;
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void writeVarInt(int value) throws IOException {
+            // Zig-zag so small negative values stay small too
+            int v = (value << 1) ^ (value >> 31);
+            while ((v & ~0x7F) != 0) {
+                out.writeByte((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            out.writeByte(v);
+        }
+
+        void writeLong(long value) throws IOException {
+            out.writeLong(value);
+        }
+
+        void writeBoolean(boolean value) throws IOException {
+            out.writeBoolean(value);
+        }
+
+        /** Nullable; a string seen before in this file is written as a back-reference. */
+        void writeString(String value) throws IOException {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            Integer index = strings.get(value);
+            if (index != null) {
+                writeVarInt(index + 1);
+                return;
+            }
+            strings.put(value, strings.size());
+            writeVarInt(-1);
+            out.writeUTF(value);
+        }
+    }
+
+    static final class Reader {
+        final DataInputStream in;
+        /** Format version of the file being read. */
+        final int version;
+        private final List<String> strings = new ArrayList<>();
+
+        Reader(DataInputStream in, int version) {
+            this.in = in;
+            this.version = version;
+        }
+
+        int readVarInt() throws IOException {
+            int v = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = in.readUnsignedByte();
+                v |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return (v >>> 1) ^ -(v & 1);
+                }
+            }
+            throw new IOException("Malformed varint in save file");
+        }
+
+        /** A non-negative count, rejected if it is larger than the bytes left could hold. */
+        int readCount() throws IOException {
+            int count = readVarInt();
+            if (count < 0 || count > in.available()) {
+                throw new IOException("Corrupt count in save file: " + count);
+            }
+            return count;
+        }
+
+        long readLong() throws IOException {
+            return in.readLong();
+        }
+
+        boolean readBoolean() throws IOException {
+            return in.readBoolean();
+        }
+
+        String readString() throws IOException {
+            int tag = readVarInt();
+            if (tag == 0) return null;
+            if (tag == -1) {
+                String value = in.readUTF();
+                strings.add(value);
+                return value;
+            }
+            if (tag < 0 || tag > strings.size()) {
+                throw new IOException("Corrupt string reference in save file");
+            }
+            return strings.get(tag - 1);
+        }
+    }
+}
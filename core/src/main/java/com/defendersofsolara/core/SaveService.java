@@ -0,0 +1,242 @@
+package com.defendersofsolara.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Write-behind profile saving.
+ *
+ * {@link #save} encodes the profile on the calling thread, which gives an immutable snapshot
+ * that later game changes cannot touch, and hands the bytes to a dedicated writer thread that
+ * does the file I/O. Requests for the same file that pile up before the writer reaches them are
+ * coalesced so only the newest snapshot is written. Appends to the same file are coalesced
+ * into one write, and an append queued behind a snapshot is folded into that snapshot. Callers
+ * block only when more than {@link #MAX_PENDING} different files are waiting. Pending writes are
+ * flushed when the JVM exits.
+ */
+public final class SaveService {
+    private static final int MAX_PENDING = 8;
+    private static final long EXIT_FLUSH_TIMEOUT_MS = 5000;
+
+    private static volatile SaveService instance;
+
+    private final Object lock = new Object();
+    private final LinkedHashMap<Path, Write> pending = new LinkedHashMap<>();
+    private Path inFlight;
+
+    private SaveService() {
+        Thread writer = new Thread(this::runWriter, "save-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> flush(EXIT_FLUSH_TIMEOUT_MS), "save-flush"));
+    }
+
+    public static SaveService getInstance() {
+        if (instance == null) {
+            synchronized (SaveService.class) {
+                if (instance == null) {
+                    instance = new SaveService();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Snapshots {@code progress} now and writes it to {@code path} in the background.
+     */
+    public void save(Path path, PlayerProgress progress) throws IOException {
+        submit(path, progress.toSaveBytes());
+    }
+
+    /**
+     * Snapshots {@code recording} now and writes it to {@code path} in the background.
+     */
+    public void save(Path path, BattleRecording recording) throws IOException {
+        submit(path, recording.toSaveBytes());
+    }
+
+    /**
+     * Deletes {@code path} in the background, after any write already queued for it.
+     */
+    public void delete(Path path) {
+        enqueue(path, new Write(null, false));
+    }
+
+    /**
+     * Loads a profile once every queued write to {@code path} has reached the disk.
+     */
+    public PlayerProgress loadProgress(Path path) {
+        awaitWritten(path);
+        return PlayerProgress.load(path);
+    }
+
+    /**
+     * Reads {@code path} once every queued write to it has reached the disk, or returns null if
+     * the file does not exist.
+     */
+    byte[] read(Path path) throws IOException {
+        awaitWritten(path);
+        if (!Files.exists(path)) return null;
+        return Files.readAllBytes(path);
+    }
+
+    /**
+     * Blocks until every queued write has been done.
+     */
+    public void flush() {
+        flush(0);
+    }
+
+    private void flush(long timeoutMs) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        synchronized (lock) {
+            while (!pending.isEmpty() || inFlight != null) {
+                long wait = 0;
+                if (timeoutMs > 0) {
+                    wait = deadline - System.currentTimeMillis();
+                    if (wait <= 0) {
+                        System.err.println("Gave up waiting for " + pending.size() + " pending save(s)");
+                        return;
+                    }
+                }
+                if (!await(wait)) return;
+            }
+        }
+    }
+
+    /**
+     * Queues bytes already encoded by {@link SaveFile#encode} to be written to {@code path}.
+     */
+    void submit(Path path, byte[] snapshot) {
+        enqueue(path, new Write(snapshot, false));
+    }
+
+    /**
+     * Queues {@code bytes} to be added to the end of {@code path}, creating it if needed. The
+     * bytes reach the disk after every write already queued for that file.
+     */
+    void append(Path path, byte[] bytes) {
+        synchronized (lock) {
+            awaitRoomFor(path);
+            Write queued = pending.get(path);
+            if (queued == null) {
+                pending.put(path, new Write(bytes, true));
+            } else if (queued.bytes == null) {
+                // Appending to a file that is about to be deleted leaves just these bytes
+                pending.put(path, new Write(bytes, false));
+            } else {
+                queued.bytes = concat(queued.bytes, bytes);
+            }
+            lock.notifyAll();
+        }
+    }
+
+    private void awaitWritten(Path path) {
+        synchronized (lock) {
+            while (pending.containsKey(path) || path.equals(inFlight)) {
+                if (!await(0)) break;
+            }
+        }
+    }
+
+    private void enqueue(Path path, Write write) {
+        synchronized (lock) {
+            awaitRoomFor(path);
+            pending.put(path, write);
+            lock.notifyAll();
+        }
+    }
+
+    // Backpressure: waits while too many other files are queued. Call holding the lock.
+    private void awaitRoomFor(Path path) {
+        while (!pending.containsKey(path) && pending.size() >= MAX_PENDING) {
+            if (!await(0)) break;
+        }
+    }
+
+    private void runWriter() {
+        while (true) {
+            Path path;
+            Write write;
+            synchronized (lock) {
+                while (pending.isEmpty()) {
+                    if (!await(0)) return;
+                }
+                Iterator<Map.Entry<Path, Write>> it = pending.entrySet().iterator();
+                Map.Entry<Path, Write> next = it.next();
+                path = next.getKey();
+                write = next.getValue();
+                it.remove();
+                inFlight = path;
+                lock.notifyAll();
+            }
+            try {
+                if (write.bytes == null) {
+                    Files.deleteIfExists(path);
+                } else if (write.append) {
+                    appendToFile(path, write.bytes);
+                } else {
+                    SaveFile.writeAtomically(path, write.bytes);
+                }
+            } catch (IOException | RuntimeException e) {
+                System.err.println("ERROR writing " + path + ": " + e.getMessage());
+            } finally {
+                synchronized (lock) {
+                    inFlight = null;
+                    lock.notifyAll();
+                }
+            }
+        }
+    }
+
+    private static void appendToFile(Path path, byte[] bytes) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    private static byte[] concat(byte[] head, byte[] tail) {
+        byte[] joined = Arrays.copyOf(head, head.length + tail.length);
+        System.arraycopy(tail, 0, joined, head.length, tail.length);
+        return joined;
+    }
+
+    // Waits on the lock; false if the thread was interrupted
+    private boolean await(long timeoutMs) {
+        try {
+            lock.wait(timeoutMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // A queued file operation: replace the file with bytes, add bytes to its end, or delete it (null bytes)
+    private static final class Write {
+        byte[] bytes;
+        final boolean append;
+
+        Write(byte[] bytes, boolean append) {
+            this.bytes = bytes;
+            this.append = append;
+        }
+    }
+}
@@ -8,7 +8,7 @@ import java.util.Properties;
 
 /**
  * Manages game settings persistence.
- * Saves and loads display and audio settings to/from settings.properties file.
+ * Saves and loads display, audio and battle settings to/from settings.properties file.
  */
 public class SettingsManager {
     private static final String SETTINGS_FILE = "settings.properties";
@@ -22,6 +22,8 @@ public class SettingsManager {
     private static final float DEFAULT_MUSIC_VOLUME = 0.75f;
     private static final float DEFAULT_SFX_VOLUME = 0.75f;
     private static final boolean DEFAULT_MUTED = false;
+    private static final int DEFAULT_BATTLE_SPEED = 1;
+    private static final boolean DEFAULT_CANVAS_BATTLE_VIEW = false;
     
     // Current settings
     private int width = DEFAULT_WIDTH;
@@ -31,6 +33,8 @@ public class SettingsManager {
     private float musicVolume = DEFAULT_MUSIC_VOLUME;
     private float sfxVolume = DEFAULT_SFX_VOLUME;
     private boolean muted = DEFAULT_MUTED;
+    private int battleSpeed = DEFAULT_BATTLE_SPEED;
+    private boolean canvasBattleView = DEFAULT_CANVAS_BATTLE_VIEW;
     
     private static SettingsManager instance;
     
@@ -69,6 +73,8 @@ public class SettingsManager {
             musicVolume = parseFloat(props.getProperty("musicVolume"), DEFAULT_MUSIC_VOLUME);
             sfxVolume = parseFloat(props.getProperty("sfxVolume"), DEFAULT_SFX_VOLUME);
             muted = parseBoolean(props.getProperty("muted"), DEFAULT_MUTED);
+            battleSpeed = parseInt(props.getProperty("battleSpeed"), DEFAULT_BATTLE_SPEED);
+            canvasBattleView = parseBoolean(props.getProperty("canvasBattleView"), DEFAULT_CANVAS_BATTLE_VIEW);
             
             // Clamp values to valid ranges
             width = Math.max(800, Math.min(3840, width));
@@ -76,6 +82,7 @@ public class SettingsManager {
             masterVolume = Math.max(0.0f, Math.min(1.0f, masterVolume));
             musicVolume = Math.max(0.0f, Math.min(1.0f, musicVolume));
             sfxVolume = Math.max(0.0f, Math.min(1.0f, sfxVolume));
+            battleSpeed = clampBattleSpeed(battleSpeed);
             
         } catch (IOException e) {
             System.err.println("Error loading settings: " + e.getMessage());
@@ -95,6 +102,8 @@ public class SettingsManager {
         props.setProperty("musicVolume", String.valueOf(musicVolume));
         props.setProperty("sfxVolume", String.valueOf(sfxVolume));
         props.setProperty("muted", String.valueOf(muted));
+        props.setProperty("battleSpeed", String.valueOf(battleSpeed));
+        props.setProperty("canvasBattleView", String.valueOf(canvasBattleView));
         
         try (OutputStream os = Files.newOutputStream(SETTINGS_PATH)) {
             props.store(os, "Defenders of Solara Game Settings");
@@ -167,7 +176,43 @@ public class SettingsManager {
         save();
     }
     
+    /**
+     * Battle pacing multiplier: 1, 2 or 4, or 0 for instant.
+     */
+    public int getBattleSpeed() {
+        return battleSpeed;
+    }
+    
+    public void setBattleSpeed(int speed) {
+        this.battleSpeed = clampBattleSpeed(speed);
+        save();
+    }
+    
+    /**
+     * Whether battles are drawn by the single-canvas view instead of the panel view.
+     */
+    public boolean isCanvasBattleView() {
+        return canvasBattleView;
+    }
+    
+    public void setCanvasBattleView(boolean canvasBattleView) {
+        this.canvasBattleView = canvasBattleView;
+        save();
+    }
+    
     // Helper methods
+    private int clampBattleSpeed(int speed) {
+        switch (speed) {
+            case 0:
+            case 1:
+            case 2:
+            case 4:
+                return speed;
+            default:
+                return DEFAULT_BATTLE_SPEED;
+        }
+    }
+    
     private float parseFloat(String value, float defaultValue) {
         if (value == null || value.isEmpty()) {
             return defaultValue;
@@ -10,6 +10,14 @@ public abstract class Skill {
 
     public abstract void execute(Character user, Character[] targets);
 
+    /**
+     * Executes with the battle's random stream. Skills with chance-based effects override this
+     * and roll on {@code rng} so seeded battles replay identically.
+     */
+    public void execute(Character user, Character[] targets, GameRandom rng) {
+        execute(user, targets);
+    }
+
     public boolean canUse(Character user) {
         return currentCooldown == 0 && user.currentMana >= manaCost;
     }
@@ -0,0 +1,9 @@
+package com.defendersofsolara.core;
+
+/**
+ * Creates a fresh skill instance for a spawned combatant.
+ */
+@FunctionalInterface
+public interface SkillFactory {
+    Skill create();
+}
@@ -1,11 +1,19 @@
 package com.defendersofsolara.core;
 
-public class StatusEffect {
-    public String type;
-    public int value;
-    public int duration;
+import java.io.Serializable;
 
-    public StatusEffect(String type, int value, int duration) {
+public class StatusEffect implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public final EffectType type;
+    public final int value;
+    /** Length in the affected character's own turns. */
+    public final int duration;
+
+    // Turn of the affected character on which this wears off; set by Character.applyEffect
+    int expiresOnTurn;
+
+    public StatusEffect(EffectType type, int value, int duration) {
         this.type = type;
         this.value = value;
         this.duration = duration;
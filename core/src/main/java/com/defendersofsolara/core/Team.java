@@ -0,0 +1,120 @@
+package com.defendersofsolara.core;
+
+import java.util.BitSet;
+
+/**
+ * One side of a battle with a live index of who is still standing. Characters report their own
+ * deaths and revivals, so checks, random picks and ordered walks over the living never scan the
+ * roster or allocate:
+ * <ul>
+ *   <li>a bitset of living slots gives ordered iteration via {@link #nextAlive(int)};</li>
+ *   <li>a dense array of the living gives O(1) {@link #randomAlive(GameRandom)};</li>
+ *   <li>{@link #alive()} hands out a cached array that is only rebuilt after someone dies or revives.</li>
+ * </ul>
+ */
+public final class Team {
+
+    private static final Character[] NONE = new Character[0];
+
+    private final Character[] members;
+    private final BitSet aliveSlots;
+    private final Character[] dense;
+    private final int[] densePosition;
+    private int aliveCount = 0;
+    private Character[] aliveSnapshot;
+
+    public Team(Character[] members) {
+        this.members = members != null ? members : NONE;
+        this.aliveSlots = new BitSet(this.members.length);
+        this.dense = new Character[this.members.length];
+        this.densePosition = new int[this.members.length];
+        for (int slot = 0; slot < this.members.length; slot++) {
+            Character c = this.members[slot];
+            densePosition[slot] = -1;
+            if (c == null) continue;
+            c.team = this;
+            c.teamSlot = slot;
+            if (c.isAlive()) {
+                markAlive(slot);
+            }
+        }
+    }
+
+    /** The full roster in slot order, fallen members included. */
+    public Character[] members() {
+        return members;
+    }
+
+    public boolean contains(Character c) {
+        return c != null && c.team == this;
+    }
+
+    public int aliveCount() {
+        return aliveCount;
+    }
+
+    public boolean anyAlive() {
+        return aliveCount > 0;
+    }
+
+    /**
+     * Slot of the first living member at or after {@code fromSlot}, or -1. Walk the living in
+     * roster order with {@code for (int i = team.nextAlive(0); i >= 0; i = team.nextAlive(i + 1))}.
+     */
+    public int nextAlive(int fromSlot) {
+        return aliveSlots.nextSetBit(fromSlot);
+    }
+
+    public Character randomAlive(GameRandom rng) {
+        if (aliveCount == 0) return null;
+        return dense[rng.nextInt(aliveCount)];
+    }
+
+    /**
+     * The living members in roster order. The array is shared and must not be modified; it stays
+     * valid (as a snapshot) after later deaths, which simply produce a new array on the next call.
+     */
+    public Character[] alive() {
+        if (aliveSnapshot == null) {
+            Character[] snapshot = new Character[aliveCount];
+            int n = 0;
+            for (int slot = aliveSlots.nextSetBit(0); slot >= 0; slot = aliveSlots.nextSetBit(slot + 1)) {
+                snapshot[n++] = members[slot];
+            }
+            aliveSnapshot = snapshot;
+        }
+        return aliveSnapshot;
+    }
+
+    /** Called by {@link Character} whenever its alive state may have changed. */
+    void update(Character c) {
+        int slot = c.teamSlot;
+        boolean indexed = aliveSlots.get(slot);
+        boolean alive = c.isAlive();
+        if (alive && !indexed) {
+            markAlive(slot);
+        } else if (!alive && indexed) {
+            markDead(slot);
+        }
+    }
+
+    private void markAlive(int slot) {
+        aliveSlots.set(slot);
+        dense[aliveCount] = members[slot];
+        densePosition[slot] = aliveCount;
+        aliveCount++;
+        aliveSnapshot = null;
+    }
+
+    private void markDead(int slot) {
+        aliveSlots.clear(slot);
+        int position = densePosition[slot];
+        int last = --aliveCount;
+        Character moved = dense[last];
+        dense[position] = moved;
+        densePosition[moved.teamSlot] = position;
+        dense[last] = null;
+        densePosition[slot] = -1;
+        aliveSnapshot = null;
+    }
+}
@@ -0,0 +1,256 @@
+package com.defendersofsolara.core;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * Action timeline: every combatant waits a delay derived from its current speed, and whoever's
+ * next action time comes first acts next. Backed by an indexed binary heap, so scheduling,
+ * removal and speed changes are O(log n) no matter how many combatants are on the field.
+ *
+ * <p>Ties go to whoever was scheduled first, which lets heroes open a battle ahead of equally
+ * fast enemies.
+ */
+public class TurnTimeline {
+
+    /** Gauge every combatant has to fill before acting; larger keeps integer delays precise. */
+    public static final long TURN_GAUGE = 1_000_000L;
+    /**
+     * Added to every combatant's speed before dividing the gauge. Compresses the gap between
+     * fast and slow combatants so speed matters without handing one side twice the turns.
+     */
+    public static final int SPEED_BASELINE = 100;
+    /** One round is the wait of a combatant with {@link #SPEED_BASELINE} speed. */
+    public static final long ROUND_TICKS = delayFor(SPEED_BASELINE);
+
+    private final Map<Character, Entry> entries = new IdentityHashMap<>();
+    private Entry[] heap = new Entry[16];
+    private int size = 0;
+    private long now = 0;
+    private long sequence = 0;
+
+    public static long delayFor(int speed) {
+        return TURN_GAUGE / (Math.max(1, speed) + SPEED_BASELINE);
+    }
+
+    /** Timeline time of the action most recently taken. */
+    public long now() {
+        return now;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(Character c) {
+        return entries.containsKey(c);
+    }
+
+    /** Schedules {@code c} one full delay from now, or re-schedules it if already present. */
+    public void schedule(Character c) {
+        Entry e = entries.get(c);
+        long time = now + delayFor(c.currentSpeed);
+        if (e == null) {
+            e = new Entry(c);
+            entries.put(c, e);
+            e.time = time;
+            e.order = sequence++;
+            e.speed = c.currentSpeed;
+            push(e);
+        } else {
+            e.time = time;
+            e.order = sequence++;
+            e.speed = c.currentSpeed;
+            fix(e.index);
+        }
+    }
+
+    public void remove(Character c) {
+        Entry e = entries.remove(c);
+        if (e == null) return;
+        int last = --size;
+        if (e.index != last) {
+            move(heap[last], e.index);
+            heap[last] = null;
+            fix(e.index);
+        } else {
+            heap[last] = null;
+        }
+    }
+
+    /**
+     * Brings {@code c}'s entry in line with its current state: dead combatants leave the timeline,
+     * revived ones rejoin it, and a speed change rescales the remaining wait.
+     */
+    public void refresh(Character c) {
+        Entry e = entries.get(c);
+        if (!c.isAlive()) {
+            if (e != null) remove(c);
+            return;
+        }
+        if (e == null) {
+            schedule(c);
+            return;
+        }
+        if (e.speed != c.currentSpeed) {
+            long remaining = Math.max(0, e.time - now);
+            long rescaled = remaining * (e.speed + SPEED_BASELINE) / (Math.max(1, c.currentSpeed) + SPEED_BASELINE);
+            e.time = now + rescaled;
+            e.speed = c.currentSpeed;
+            fix(e.index);
+        }
+    }
+
+    /**
+     * Removes and returns the next combatant to act, advancing the clock to its action time.
+     * The caller {@link #schedule}s it again once its action resolves.
+     */
+    public Character poll() {
+        if (size == 0) return null;
+        Entry top = heap[0];
+        remove(top.actor);
+        now = Math.max(now, top.time);
+        return top.actor;
+    }
+
+    public Character peek() {
+        return size == 0 ? null : heap[0].actor;
+    }
+
+    /**
+     * Up to {@code count} waiting combatants in the order they will act, for turn-order displays.
+     * Each appears once; re-scheduling after an action is not simulated. Walks the heap from the
+     * root without modifying it, so it costs O(k log k).
+     */
+    public List<Character> preview(int count) {
+        List<Character> order = new ArrayList<>();
+        if (size == 0 || count <= 0) return order;
+        PriorityQueue<Integer> frontier = new PriorityQueue<>((a, b) -> before(heap[a], heap[b]) ? -1 : 1);
+        frontier.add(0);
+        while (order.size() < count && !frontier.isEmpty()) {
+            int index = frontier.poll();
+            order.add(heap[index].actor);
+            int child = 2 * index + 1;
+            if (child < size) frontier.add(child);
+            if (child + 1 < size) frontier.add(child + 1);
+        }
+        return order;
+    }
+
+    public void clear() {
+        entries.clear();
+        for (int i = 0; i < size; i++) heap[i] = null;
+        size = 0;
+    }
+
+    // ==================== SAVE / RESTORE ====================
+
+    /**
+     * Writes the clock and every waiting entry. {@code ids} gives each combatant a number that the
+     * reader can turn back into the same combatant.
+     */
+    void writeTo(SaveFile.Writer out, ToIntFunction<Character> ids) throws IOException {
+        out.writeLong(now);
+        out.writeLong(sequence);
+        out.writeVarInt(size);
+        for (int i = 0; i < size; i++) {
+            Entry e = heap[i];
+            out.writeVarInt(ids.applyAsInt(e.actor));
+            out.writeLong(e.time);
+            out.writeLong(e.order);
+            out.writeVarInt(e.speed);
+        }
+    }
+
+    /**
+     * Replaces this timeline's contents with one written by {@link #writeTo}. Entries keep their
+     * saved times and tie-break order, so the restored timeline hands out turns exactly as the
+     * saved one would have.
+     */
+    void readFrom(SaveFile.Reader in, IntFunction<Character> combatants) throws IOException {
+        clear();
+        now = in.readLong();
+        sequence = in.readLong();
+        int count = in.readCount();
+        for (int i = 0; i < count; i++) {
+            Character c = combatants.apply(in.readVarInt());
+            if (c == null || entries.containsKey(c)) {
+                throw new IOException("Corrupt turn timeline in save file");
+            }
+            Entry e = new Entry(c);
+            e.time = in.readLong();
+            e.order = in.readLong();
+            e.speed = in.readVarInt();
+            entries.put(c, e);
+            push(e);
+        }
+    }
+
+    // ==================== HEAP ====================
+
+    private void push(Entry e) {
+        if (size == heap.length) {
+            Entry[] grown = new Entry[size * 2];
+            System.arraycopy(heap, 0, grown, 0, size);
+            heap = grown;
+        }
+        move(e, size++);
+        siftUp(e.index);
+    }
+
+    private void fix(int index) {
+        siftUp(index);
+        siftDown(index);
+    }
+
+    private void siftUp(int index) {
+        Entry e = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!before(e, heap[parent])) break;
+            move(heap[parent], index);
+            index = parent;
+        }
+        move(e, index);
+    }
+
+    private void siftDown(int index) {
+        Entry e = heap[index];
+        int half = size >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < size && before(heap[child + 1], heap[child])) child++;
+            if (!before(heap[child], e)) break;
+            move(heap[child], index);
+            index = child;
+        }
+        move(e, index);
+    }
+
+    private void move(Entry e, int index) {
+        heap[index] = e;
+        e.index = index;
+    }
+
+    private static boolean before(Entry a, Entry b) {
+        return a.time != b.time ? a.time < b.time : a.order < b.order;
+    }
+
+    private static final class Entry {
+        final Character actor;
+        long time;
+        long order;
+        int speed;
+        int index;
+
+        Entry(Character actor) {
+            this.actor = actor;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.defendersofsolara.core;
+
+/**
+ * One wave of enemies inside a world's battle plan.
+ */
+public class WaveEncounter {
+    public final int waveNumber;
+    public final boolean bossWave;
+    public final Character[] enemies;
+
+    public WaveEncounter(int waveNumber, boolean bossWave, Character[] enemies) {
+        this.waveNumber = waveNumber;
+        this.bossWave = bossWave;
+        this.enemies = enemies;
+    }
+}
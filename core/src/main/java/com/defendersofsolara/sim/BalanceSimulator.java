@@ -0,0 +1,249 @@
+package com.defendersofsolara.sim;
+
+import com.defendersofsolara.core.AutoBattlePolicy;
+import com.defendersofsolara.core.BattleEngine;
+import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.EncounterFactory;
+import com.defendersofsolara.core.GameRandom;
+import com.defendersofsolara.core.HeroPolicy;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Monte Carlo balance runner. Plays every world, player level and four-of-eight hero team
+ * through the real {@link BattleEngine} on a fork-join pool and writes win rates, rounds to
+ * clear and HP-remaining distributions as CSV and JSON.
+ *
+ * <p>Usage: {@code BalanceSimulator [--battles=100] [--worlds=1-5] [--levels=1-30]
+ * [--threads=N] [--seed=1] [--max-rounds=200] [--out=build/simulation]}
+ */
+public class BalanceSimulator {
+
+    private static final int TEAM_SIZE = 4;
+    /** Cells handled by one fork-join leaf; small enough to balance load, big enough to amortize forking. */
+    private static final int LEAF_CELLS = 4;
+
+    private final int battlesPerCell;
+    private final int maxRounds;
+    private final long seed;
+    private final HeroPolicy policy = new AutoBattlePolicy();
+
+    public BalanceSimulator(int battlesPerCell, int maxRounds, long seed) {
+        this.battlesPerCell = battlesPerCell;
+        this.maxRounds = maxRounds;
+        this.seed = seed;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int battles = 100;
+        int[] worlds = {1, EncounterFactory.WORLD_COUNT};
+        int[] levels = {1, 30};
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = 1L;
+        int maxRounds = 200;
+        Path out = Paths.get("build", "simulation");
+
+        for (String arg : args) {
+            String[] kv = arg.replaceFirst("^--", "").split("=", 2);
+            String value = kv.length > 1 ? kv[1] : "";
+            switch (kv[0]) {
+                case "battles": battles = Integer.parseInt(value); break;
+                case "worlds": worlds = parseRange(value); break;
+                case "levels": levels = parseRange(value); break;
+                case "threads": threads = Integer.parseInt(value); break;
+                case "seed": seed = Long.parseLong(value); break;
+                case "max-rounds": maxRounds = Integer.parseInt(value); break;
+                case "out": out = Paths.get(value); break;
+                default:
+                    System.err.println("Unknown option: " + arg);
+                    return;
+            }
+        }
+
+        List<List<String>> teams = allTeams(EncounterFactory.HERO_CLASSES, TEAM_SIZE);
+        List<CellResult> cells = new ArrayList<>();
+        for (int world = worlds[0]; world <= worlds[1]; world++) {
+            for (int level = levels[0]; level <= levels[1]; level++) {
+                for (List<String> team : teams) {
+                    cells.add(new CellResult(world, level, team, maxRounds));
+                }
+            }
+        }
+
+        long total = (long) cells.size() * battles;
+        System.out.printf(Locale.ROOT, "Simulating %,d battles (%d cells x %d) on %d threads%n",
+            total, cells.size(), battles, threads);
+
+        BalanceSimulator simulator = new BalanceSimulator(battles, maxRounds, seed);
+        // Mute skill console output so it neither floods the terminal nor contends on a lock.
+        // Only done here because System.out is global to the JVM
+        PrintStream console = System.out;
+        System.setOut(new NullPrintStream());
+        long start = System.nanoTime();
+        try {
+            simulator.runAll(cells, threads);
+        } finally {
+            System.setOut(console);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf(Locale.ROOT, "Done in %.1fs (%,.0f battles/s)%n", seconds, total / seconds);
+
+        Files.createDirectories(out);
+        writeCsv(cells, out.resolve("balance.csv"));
+        writeJson(cells, out.resolve("balance.json"));
+        System.out.println("Wrote " + out.resolve("balance.csv") + " and " + out.resolve("balance.json"));
+    }
+
+    /**
+     * Fills every cell, splitting the list across a dedicated fork-join pool. Skills still print
+     * to {@code System.out}; callers that care about the console or throughput mute it themselves,
+     * as {@link #main} does.
+     */
+    public void runAll(List<CellResult> cells, int threads) {
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, threads));
+        try {
+            pool.invoke(new CellRange(cells, 0, cells.size()));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    void simulateCell(CellResult cell, int cellIndex) {
+        for (int i = 0; i < battlesPerCell; i++) {
+            GameRandom random = new GameRandom(seed * 0x9E3779B97F4A7C15L + (long) cellIndex * battlesPerCell + i);
+            EncounterFactory encounters = new EncounterFactory(random, cell.playerLevel);
+            BattleEngine engine = BattleEngine.create(cell.worldId, encounters, cell.team);
+            boolean won = engine.run(policy, maxRounds);
+            cell.record(won, engine.getRoundCount(), hpFraction(engine.getPlayerTeam()));
+        }
+    }
+
+    private static double hpFraction(Character[] team) {
+        long current = 0;
+        long max = 0;
+        for (Character c : team) {
+            current += Math.max(0, c.currentHP);
+            max += c.maxHP;
+        }
+        return max == 0 ? 0 : (double) current / max;
+    }
+
+    private class CellRange extends RecursiveAction {
+        private final List<CellResult> cells;
+        private final int from;
+        private final int to;
+
+        CellRange(List<CellResult> cells, int from, int to) {
+            this.cells = cells;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_CELLS) {
+                for (int i = from; i < to; i++) {
+                    simulateCell(cells.get(i), i);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new CellRange(cells, from, mid), new CellRange(cells, mid, to));
+        }
+    }
+
+    // ==================== INPUT ====================
+
+    static int[] parseRange(String value) {
+        String[] parts = value.split("-", 2);
+        int lo = Integer.parseInt(parts[0].trim());
+        int hi = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : lo;
+        return new int[]{Math.min(lo, hi), Math.max(lo, hi)};
+    }
+
+    static List<List<String>> allTeams(List<String> heroes, int size) {
+        List<List<String>> teams = new ArrayList<>();
+        collectTeams(heroes, size, 0, new ArrayList<>(), teams);
+        return teams;
+    }
+
+    private static void collectTeams(List<String> heroes, int size, int start, List<String> current, List<List<String>> out) {
+        if (current.size() == size) {
+            out.add(new ArrayList<>(current));
+            return;
+        }
+        for (int i = start; i < heroes.size(); i++) {
+            current.add(heroes.get(i));
+            collectTeams(heroes, size, i + 1, current, out);
+            current.remove(current.size() - 1);
+        }
+    }
+
+    // ==================== OUTPUT ====================
+
+    private static String shortNames(List<String> team) {
+        StringBuilder sb = new StringBuilder();
+        for (String heroClass : team) {
+            if (sb.length() > 0) sb.append('+');
+            sb.append(heroClass.substring(heroClass.lastIndexOf('.') + 1));
+        }
+        return sb.toString();
+    }
+
+    static void writeCsv(List<CellResult> cells, Path file) throws IOException {
+        try (Writer w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            w.write("world,level,team,battles,wins,win_rate,rounds_mean,rounds_p50,rounds_p90,hp_remaining_mean\n");
+            for (CellResult c : cells) {
+                w.write(String.format(Locale.ROOT, "%d,%d,%s,%d,%d,%.4f,%.2f,%d,%d,%.4f%n",
+                    c.worldId, c.playerLevel, shortNames(c.team), c.battles, c.wins, c.winRate(),
+                    c.meanRoundsToClear(), c.roundsPercentile(0.5), c.roundsPercentile(0.9), c.meanHpRemaining()));
+            }
+        }
+    }
+
+    static void writeJson(List<CellResult> cells, Path file) throws IOException {
+        JsonArray rows = new JsonArray();
+        for (CellResult c : cells) {
+            JsonObject row = new JsonObject();
+            row.addProperty("world", c.worldId);
+            row.addProperty("level", c.playerLevel);
+            row.addProperty("team", shortNames(c.team));
+            row.addProperty("battles", c.battles);
+            row.addProperty("wins", c.wins);
+            row.addProperty("winRate", c.winRate());
+            row.addProperty("roundsMean", c.meanRoundsToClear());
+            row.add("roundsToClear", trimmedHistogram(c.roundsToClear));
+            row.add("hpRemainingBy5Percent", trimmedHistogram(c.hpRemaining));
+            rows.add(row);
+        }
+        try (Writer w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            new Gson().toJson(rows, w);
+        }
+    }
+
+    /** Drops trailing empty buckets so unused round counts do not bloat the file. */
+    private static JsonArray trimmedHistogram(int[] counts) {
+        int last = counts.length - 1;
+        while (last >= 0 && counts[last] == 0) last--;
+        JsonArray array = new JsonArray();
+        for (int count : Arrays.copyOf(counts, last + 1)) {
+            array.add(count);
+        }
+        return array;
+    }
+}
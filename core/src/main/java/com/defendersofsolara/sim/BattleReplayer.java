@@ -0,0 +1,118 @@
+package com.defendersofsolara.sim;
+
+import com.defendersofsolara.core.BattleEngine;
+import com.defendersofsolara.core.BattleRecording;
+import com.defendersofsolara.core.EncounterFactory;
+import com.defendersofsolara.core.GameRandom;
+import com.defendersofsolara.core.ReplayPolicy;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+/**
+ * Plays a {@link BattleRecording} back through the engine with no UI and no delays. Used to
+ * reproduce bug reports and as a fixed workload for performance comparisons.
+ *
+ * <p>Usage: {@code BattleReplayer [--file=profiles/replays/last-battle.rec] [--repeat=1]}
+ */
+public class BattleReplayer {
+
+    public static void main(String[] args) {
+        Path file = Paths.get("profiles", "replays", "last-battle.rec");
+        int repeat = 1;
+
+        for (String arg : args) {
+            String[] kv = arg.replaceFirst("^--", "").split("=", 2);
+            String value = kv.length > 1 ? kv[1] : "";
+            switch (kv[0]) {
+                case "file": file = Paths.get(value); break;
+                case "repeat": repeat = Integer.parseInt(value); break;
+                default:
+                    System.err.println("Unknown option: " + arg);
+                    return;
+            }
+        }
+        if (repeat < 1) {
+            System.err.println("--repeat must be at least 1");
+            return;
+        }
+
+        BattleRecording recording;
+        try {
+            recording = BattleRecording.load(file);
+        } catch (IOException e) {
+            System.err.println("Cannot read recording " + file + ": " + e.getMessage());
+            return;
+        }
+        if (recording == null) {
+            System.err.println("No recording at " + file);
+            return;
+        }
+
+        // Mute skill console output while timing; only done here because System.out is global
+        PrintStream console = System.out;
+        System.setOut(new NullPrintStream());
+        BattleEngine engine = null;
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < repeat; i++) {
+                engine = replay(recording);
+            }
+        } finally {
+            System.setOut(console);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf(Locale.ROOT, "World %d, level %d, seed %d: %d inputs, %s after %d rounds%n",
+            recording.getWorldId(), recording.getPlayerLevel(), recording.getSeed(), recording.getInputs().size(),
+            engine.isFinished() ? (engine.isVictory() ? "victory" : "defeat") : "unfinished", engine.getRoundCount());
+        System.out.printf(Locale.ROOT, "%d replay(s) in %.3fs (%,.0f battles/s)%n", repeat, seconds, repeat / seconds);
+        if (!matches(recording, engine)) {
+            System.out.printf(Locale.ROOT, "MISMATCH: recorded %s after %d rounds, %d actions, events %x; replayed %d actions, events %x%n",
+                recording.isVictory() ? "victory" : "defeat", recording.getRounds(), recording.getActions(),
+                recording.getEventDigest(), engine.getActionCount(), engine.getRecording().getEventDigest());
+        }
+    }
+
+    /**
+     * Rebuilds the recorded battle from its seed and feeds it the recorded hero inputs. Stops at
+     * the end of the battle, or at the first hero turn after the inputs run out.
+     *
+     * @throws IllegalStateException if the replay stops lining up with the recorded inputs
+     */
+    public static BattleEngine replay(BattleRecording recording) {
+        EncounterFactory encounters = new EncounterFactory(new GameRandom(recording.getSeed()), recording.getPlayerLevel());
+        BattleEngine engine = BattleEngine.create(recording.getWorldId(), encounters, recording.getSelectedTeam());
+        // Re-record as we go so the combat event digest can be compared afterwards
+        engine.startRecording(new BattleRecording(recording.getWorldId(), recording.getPlayerLevel(),
+            recording.getSeed(), recording.getSelectedTeam()));
+        ReplayPolicy policy = new ReplayPolicy(recording.getInputs());
+        BattleEngine.Step step = engine.nextTurn();
+        while (!engine.isFinished()) {
+            if (step == BattleEngine.Step.WAVE_CLEARED) {
+                step = engine.nextTurn();
+                continue;
+            }
+            if (step == BattleEngine.Step.HERO_TURN && !policy.hasNext()) break;
+            step = engine.playTurn(policy);
+        }
+        return engine;
+    }
+
+    /**
+     * True when the replay produced the same combat events and, for a finished recording, ended
+     * the same way.
+     */
+    public static boolean matches(BattleRecording recording, BattleEngine engine) {
+        BattleRecording replayed = engine.getRecording();
+        if (replayed != null && replayed.getEventDigest() != recording.getEventDigest()) return false;
+        if (!recording.isCompleted()) return true;
+        return engine.isFinished()
+            && engine.isVictory() == recording.isVictory()
+            && engine.getRoundCount() == recording.getRounds()
+            && engine.getActionCount() == recording.getActions();
+    }
+}
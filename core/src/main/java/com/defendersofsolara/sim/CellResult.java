@@ -0,0 +1,64 @@
+package com.defendersofsolara.sim;
+
+import java.util.List;
+
+/**
+ * Outcome counters for one (world, level, team) combination. Each instance is filled by a
+ * single worker thread, so no synchronization is needed.
+ */
+public class CellResult {
+    /** HP remaining is bucketed in 5% steps: bucket 0 is 0-4%, bucket 20 is exactly 100%. */
+    public static final int HP_BUCKETS = 21;
+
+    public final int worldId;
+    public final int playerLevel;
+    public final List<String> team;
+
+    int battles;
+    int wins;
+    long totalRounds;
+    double totalHpFraction;
+    final int[] roundsToClear;
+    final int[] hpRemaining = new int[HP_BUCKETS];
+
+    CellResult(int worldId, int playerLevel, List<String> team, int maxRounds) {
+        this.worldId = worldId;
+        this.playerLevel = playerLevel;
+        this.team = team;
+        this.roundsToClear = new int[maxRounds + 1];
+    }
+
+    void record(boolean won, int rounds, double hpFraction) {
+        battles++;
+        if (!won) return;
+        wins++;
+        totalRounds += rounds;
+        totalHpFraction += hpFraction;
+        roundsToClear[Math.min(rounds, roundsToClear.length - 1)]++;
+        hpRemaining[(int) Math.min(HP_BUCKETS - 1, Math.max(0, hpFraction * 20))]++;
+    }
+
+    public double winRate() {
+        return battles == 0 ? 0 : (double) wins / battles;
+    }
+
+    public double meanRoundsToClear() {
+        return wins == 0 ? 0 : (double) totalRounds / wins;
+    }
+
+    /** Rounds needed by the given fraction of winning battles, e.g. 0.9 for p90. */
+    public int roundsPercentile(double fraction) {
+        int needed = (int) Math.ceil(wins * fraction);
+        int seen = 0;
+        for (int rounds = 0; rounds < roundsToClear.length; rounds++) {
+            seen += roundsToClear[rounds];
+            if (seen >= needed && seen > 0) return rounds;
+        }
+        return 0;
+    }
+
+    /** Average fraction of the team's max HP left standing after a win. */
+    public double meanHpRemaining() {
+        return wins == 0 ? 0 : totalHpFraction / wins;
+    }
+}
@@ -0,0 +1,30 @@
+package com.defendersofsolara.sim;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Discards everything without taking PrintStream's lock, so skill console chatter costs
+ * nothing and does not serialize simulator threads.
+ */
+class NullPrintStream extends PrintStream {
+
+    NullPrintStream() {
+        super(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+        });
+    }
+
+    @Override public void write(int b) {}
+    @Override public void write(byte[] buf, int off, int len) {}
+    @Override public void print(String s) {}
+    @Override public void print(Object obj) {}
+    @Override public void println() {}
+    @Override public void println(String x) {}
+    @Override public void println(Object x) {}
+    @Override public PrintStream printf(String format, Object... args) { return this; }
+    @Override public PrintStream format(String format, Object... args) { return this; }
+    @Override public void flush() {}
+}
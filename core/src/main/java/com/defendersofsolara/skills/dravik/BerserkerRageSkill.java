@@ -1,6 +1,7 @@
 package com.defendersofsolara.skills.dravik;
 
 import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.EffectType;
 import com.defendersofsolara.core.Skill;
 import com.defendersofsolara.core.StatusEffect;
 import com.defendersofsolara.core.TargetType;
@@ -18,7 +19,7 @@ public class BerserkerRageSkill extends Skill {
     public void execute(Character user, Character[] targets) {
         user.currentMana -= manaCost;
         int attackBoost = scaleAmount(user, 100, 5);
-        user.applyEffect(new StatusEffect("buff", attackBoost, 4));
+        user.applyEffect(new StatusEffect(EffectType.ATTACK_UP, attackBoost, 4));
         resetCooldown();
     }
 }
@@ -1,6 +1,7 @@
 package com.defendersofsolara.skills.dravik;
 
 import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.EffectType;
 import com.defendersofsolara.core.Skill;
 import com.defendersofsolara.core.StatusEffect;
 import com.defendersofsolara.core.TargetType;
@@ -19,7 +20,7 @@ public class WrathUnleashedUltimate extends Skill {
         user.currentMana -= manaCost;
         double damagePercent = scalePercent(user, 2.0, 0.03);
         int attackBoost = scaleAmount(user, 150, 8);
-        user.applyEffect(new StatusEffect("buff", attackBoost, 5));
+        user.applyEffect(new StatusEffect(EffectType.ATTACK_UP, attackBoost, 5));
         for (Character target : targets) {
             if (target != null && target.isAlive()) {
                 int damage = (int) (user.currentAttack * damagePercent);
@@ -0,0 +1,51 @@
+package com.defendersofsolara.skills.enemy;
+
+import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.GameRandom;
+import com.defendersofsolara.core.Skill;
+import com.defendersofsolara.core.TargetType;
+
+public class AegisPulseSkill extends Skill {
+    private final int healAmount;
+
+    public AegisPulseSkill(String name, int healAmount) {
+        this.name = name;
+        this.healAmount = healAmount;
+        this.manaCost = 25;
+        this.cooldown = 3;
+        this.description = "Heals all allies for " + healAmount + " HP (only when caster HP ≤ 5%).";
+        this.targetType = TargetType.ALL_ALLIES;
+    }
+
+    @Override
+    public void execute(Character user, Character[] targets) {
+        execute(user, targets, GameRandom.unseeded());
+    }
+
+    @Override
+    public void execute(Character user, Character[] targets, GameRandom rng) {
+        if (targets == null || targets.length == 0) return;
+        if (user.currentMana < manaCost) return;
+        
+        // Priest enemies only heal when their HP is 5% or below
+        double hpPercent = (double) user.currentHP / user.maxHP;
+        if (hpPercent > 0.05) {
+            // HP is above 5%, don't heal
+            return;
+        }
+        
+        // Low to medium chance (35% chance) to actually heal
+        if (!rng.chance(0.35)) {
+            // Failed chance, don't heal
+            return;
+        }
+        
+        user.currentMana -= manaCost;
+        for (Character ally : targets) {
+            if (ally != null && ally.isAlive()) {
+                ally.restoreHealth(healAmount);
+            }
+        }
+        resetCooldown();
+    }
+}
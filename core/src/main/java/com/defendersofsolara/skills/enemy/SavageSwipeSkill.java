@@ -0,0 +1,26 @@
+package com.defendersofsolara.skills.enemy;
+
+import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.Skill;
+import com.defendersofsolara.core.TargetType;
+
+public class SavageSwipeSkill extends Skill {
+    private final double multiplier;
+
+    public SavageSwipeSkill(String name, double multiplier) {
+        this.name = name;
+        this.multiplier = multiplier;
+        this.manaCost = 0;
+        this.cooldown = 0;
+        this.description = "Deal " + Math.round(multiplier * 100) + "% attack damage to one foe.";
+        this.targetType = TargetType.SINGLE_ENEMY;
+    }
+
+    @Override
+    public void execute(Character user, Character[] targets) {
+        if (targets == null || targets.length == 0 || targets[0] == null) return;
+        Character target = targets[0];
+        int damage = (int) Math.max(5, user.currentAttack * multiplier);
+        target.takeDamage(damage);
+    }
+}
@@ -0,0 +1,33 @@
+package com.defendersofsolara.skills.enemy;
+
+import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.Skill;
+import com.defendersofsolara.core.TargetType;
+
+public class SoulDrainSkill extends Skill {
+    private final double multiplier;
+    private final double healRatio;
+
+    public SoulDrainSkill(String name, double multiplier, double healRatio) {
+        this.name = name;
+        this.multiplier = multiplier;
+        this.healRatio = healRatio;
+        this.manaCost = 18;
+        this.cooldown = 2;
+        this.description = "Damage one foe and restore health.";
+        this.targetType = TargetType.SINGLE_ENEMY;
+    }
+
+    @Override
+    public void execute(Character user, Character[] targets) {
+        if (targets == null || targets.length == 0 || targets[0] == null) return;
+        if (user.currentMana < manaCost) return;
+        user.currentMana -= manaCost;
+        Character target = targets[0];
+        int damage = (int) Math.max(6, user.currentAttack * multiplier);
+        target.takeDamage(damage);
+        int heal = (int) Math.max(5, damage * healRatio);
+        user.restoreHealth(heal);
+        resetCooldown();
+    }
+}
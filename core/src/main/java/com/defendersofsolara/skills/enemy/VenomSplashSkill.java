@@ -0,0 +1,32 @@
+package com.defendersofsolara.skills.enemy;
+
+import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.Skill;
+import com.defendersofsolara.core.TargetType;
+
+public class VenomSplashSkill extends Skill {
+    private final double multiplier;
+
+    public VenomSplashSkill(String name, double multiplier, int manaCost, int cooldown) {
+        this.name = name;
+        this.multiplier = multiplier;
+        this.manaCost = manaCost;
+        this.cooldown = cooldown;
+        this.description = "Hits all foes for " + Math.round(multiplier * 100) + "% attack damage.";
+        this.targetType = TargetType.ALL_ENEMIES;
+    }
+
+    @Override
+    public void execute(Character user, Character[] targets) {
+        if (targets == null || targets.length == 0) return;
+        if (user.currentMana < manaCost) return;
+        user.currentMana -= manaCost;
+        for (Character target : targets) {
+            if (target != null && target.isAlive()) {
+                int damage = (int) Math.max(4, user.currentAttack * multiplier);
+                target.takeDamage(damage);
+            }
+        }
+        resetCooldown();
+    }
+}
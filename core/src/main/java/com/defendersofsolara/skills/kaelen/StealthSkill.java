@@ -1,6 +1,7 @@
 package com.defendersofsolara.skills.kaelen;
 
 import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.EffectType;
 import com.defendersofsolara.core.Skill;
 import com.defendersofsolara.core.StatusEffect;
 import com.defendersofsolara.core.TargetType;
@@ -19,7 +20,7 @@ public class StealthSkill extends Skill {
         user.currentMana -= manaCost;
         // Stealth effect - high evasion/untargetable
         int speedBoost = scaleAmount(user, 50, 3);
-        user.applyEffect(new StatusEffect("buff", speedBoost, 2));
+        user.applyEffect(new StatusEffect(EffectType.SPEED_UP, speedBoost, 2));
         // Note: Untargetable would need special handling in battle system
         resetCooldown();
     }
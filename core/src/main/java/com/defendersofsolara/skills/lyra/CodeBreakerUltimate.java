@@ -1,6 +1,7 @@
 package com.defendersofsolara.skills.lyra;
 
 import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.EffectType;
 import com.defendersofsolara.core.Skill;
 import com.defendersofsolara.core.StatusEffect;
 import com.defendersofsolara.core.TargetType;
@@ -20,7 +21,7 @@ public class CodeBreakerUltimate extends Skill {
         if (targets.length > 0 && targets[0] != null) {
             Character enemy = targets[0];
             int debuff = scaleAmount(user, 45, 4);
-            enemy.applyEffect(new StatusEffect("debuff", debuff, 3));
+            enemy.applyEffect(new StatusEffect(EffectType.ATTACK_DOWN, debuff, 3));
             System.out.println(user.name + " unleashes an Astral Maelstrom on " + enemy.name + " (-" + debuff + " ATK)!");
         }
         resetCooldown();
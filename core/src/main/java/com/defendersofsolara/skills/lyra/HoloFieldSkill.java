@@ -1,6 +1,7 @@
 package com.defendersofsolara.skills.lyra;
 
 import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.EffectType;
 import com.defendersofsolara.core.Skill;
 import com.defendersofsolara.core.StatusEffect;
 import com.defendersofsolara.core.TargetType;
@@ -20,7 +21,7 @@ public class HoloFieldSkill extends Skill {
         for (Character ally : targets) {
             if (ally != null && ally.isAlive()) {
                 int defenseBoost = scaleAmount(user, 35, 3);
-                ally.applyEffect(new StatusEffect("buff", defenseBoost, 2));
+                ally.applyEffect(new StatusEffect(EffectType.DEFENSE_UP, defenseBoost, 2));
                 System.out.println("  → " + ally.name + " is guarded by a Blinding Flash (+" + defenseBoost + " DEF)!");
             }
         }
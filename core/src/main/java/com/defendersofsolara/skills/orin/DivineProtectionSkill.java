@@ -1,6 +1,7 @@
 package com.defendersofsolara.skills.orin;
 
 import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.EffectType;
 import com.defendersofsolara.core.Skill;
 import com.defendersofsolara.core.StatusEffect;
 import com.defendersofsolara.core.TargetType;
@@ -22,7 +23,7 @@ public class DivineProtectionSkill extends Skill {
         for (Character ally : targets) {
             if (ally != null && ally.isAlive()) {
                 ally.restoreHealth(healAmount + barrier);
-                ally.applyEffect(new StatusEffect("buff", 60, 2));
+                ally.applyEffect(new StatusEffect(EffectType.DEFENSE_UP, 60, 2));
             }
         }
         resetCooldown();
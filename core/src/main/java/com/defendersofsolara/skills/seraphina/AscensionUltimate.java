@@ -1,6 +1,7 @@
 package com.defendersofsolara.skills.seraphina;
 
 import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.EffectType;
 import com.defendersofsolara.core.Skill;
 import com.defendersofsolara.core.StatusEffect;
 import com.defendersofsolara.core.TargetType;
@@ -22,7 +23,7 @@ public class AscensionUltimate extends Skill {
         for (Character ally : targets) {
             if (ally != null && ally.isAlive()) {
                 ally.restoreHealth(healAmount);
-                ally.applyEffect(new StatusEffect("buff", buffAmount, 3));
+                ally.applyEffect(new StatusEffect(EffectType.EMPOWER, buffAmount, 3));
             }
         }
         resetCooldown();
@@ -1,6 +1,7 @@
 package com.defendersofsolara.skills.seraphina;
 
 import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.EffectType;
 import com.defendersofsolara.core.Skill;
 import com.defendersofsolara.core.StatusEffect;
 import com.defendersofsolara.core.TargetType;
@@ -21,7 +22,7 @@ public class TeamShieldSkill extends Skill {
         for (Character ally : targets) {
             if (ally != null && ally.isAlive()) {
                 ally.restoreHealth(barrier);
-                ally.applyEffect(new StatusEffect("buff", 50, 2));
+                ally.applyEffect(new StatusEffect(EffectType.DEFENSE_UP, 50, 2));
             }
         }
         resetCooldown();
@@ -1,6 +1,7 @@
 package com.defendersofsolara.skills.ylonne;
 
 import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.EffectType;
 import com.defendersofsolara.core.Skill;
 import com.defendersofsolara.core.StatusEffect;
 import com.defendersofsolara.core.TargetType;
@@ -20,7 +21,7 @@ public class SilentStepSkill extends Skill {
         int heal = scaleAmount(user, 180, 12);
         int buff = scaleAmount(user, 30, 3);
         user.restoreHealth(heal);
-        user.applyEffect(new StatusEffect("buff", buff, 2));
+        user.applyEffect(new StatusEffect(EffectType.SPEED_UP, buff, 2));
         System.out.println(user.name + " heals " + heal + " HP and sharpens instincts (+" + buff + ")!");
         resetCooldown();
     }
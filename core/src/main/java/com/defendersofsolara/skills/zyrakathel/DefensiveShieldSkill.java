@@ -1,6 +1,7 @@
 package com.defendersofsolara.skills.zyrakathel;
 
 import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.EffectType;
 import com.defendersofsolara.core.Skill;
 import com.defendersofsolara.core.StatusEffect;
 import com.defendersofsolara.core.TargetType;
@@ -20,7 +21,7 @@ public class DefensiveShieldSkill extends Skill {
         int defenseBoost = scaleAmount(user, 100, 5);
         int barrier = scaleAmount(user, 250, 15);
         user.restoreHealth(barrier / 2);
-        user.applyEffect(new StatusEffect("buff", defenseBoost, 3));
+        user.applyEffect(new StatusEffect(EffectType.DEFENSE_UP, defenseBoost, 3));
         resetCooldown();
     }
 }
@@ -1,6 +1,7 @@
 package com.defendersofsolara.skills.zyrakathel;
 
 import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.EffectType;
 import com.defendersofsolara.core.Skill;
 import com.defendersofsolara.core.StatusEffect;
 import com.defendersofsolara.core.TargetType;
@@ -19,7 +20,7 @@ public class LastStandUltimate extends Skill {
         user.currentMana -= manaCost;
         double damagePercent = scalePercent(user, 1.5, 0.02);
         int defenseBoost = scaleAmount(user, 120, 6);
-        user.applyEffect(new StatusEffect("buff", defenseBoost, 4));
+        user.applyEffect(new StatusEffect(EffectType.DEFENSE_UP, defenseBoost, 4));
         for (Character target : targets) {
             if (target != null && target.isAlive()) {
                 int damage = (int) (user.currentAttack * damagePercent);
@@ -0,0 +1,195 @@
+package com.defendersofsolara.ui;
+
+import com.defendersofsolara.core.EncounterFactory;
+import java.awt.BasicStroke;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+import javax.swing.JComponent;
+import javax.swing.JWindow;
+import javax.swing.SwingUtilities;
+
+/**
+ * Decodes the assets the first screens need on a pool of worker threads while a splash window
+ * shows real progress, then lets the Swing thread build the UI.
+ *
+ * Covers the menu background, the animated world icons and every hero's select screen
+ * animation, all put in the shared {@link ImageCache} (which is safe to fill from several
+ * threads) where {@link UnifiedGameUI}, {@link HeroSpriteAnimation} and {@link MetadataParser}
+ * look first. An asset that fails here is simply absent, and is loaded where it is used as
+ * before.
+ */
+public final class AssetPreloader {
+    private AssetPreloader() {
+    }
+
+    /**
+     * Shows the splash and preloads on a worker pool; once everything is in, runs
+     * {@code onLoaded} on the Swing thread and closes the splash. Call on the Swing thread.
+     */
+    public static void start(Runnable onLoaded) {
+        List<Task> tasks = tasks();
+        Splash splash = new Splash(tasks.size());
+        splash.setVisible(true);
+
+        int threads = Math.max(1, Math.min(tasks.size(), Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "asset-preload-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        AtomicInteger remaining = new AtomicInteger(tasks.size());
+        for (Task task : tasks) {
+            pool.execute(() -> {
+                try {
+                    task.load.run();
+                } catch (Throwable e) {
+                    // Errors too (out of memory decoding, a failed static init): the screens load
+                    // what is missing themselves, so the game still starts
+                    System.err.println("Preloading " + task.label + " failed: " + e);
+                } finally {
+                    // Queued behind every earlier progress update, so the splash ends at 100%
+                    SwingUtilities.invokeLater(() -> splash.advance(task.label));
+                    if (remaining.decrementAndGet() == 0) {
+                        pool.shutdown();
+                        SwingUtilities.invokeLater(() -> {
+                            splash.setStatus("Preparing the realm...");
+                            // Let the splash repaint before the screens are built
+                            SwingUtilities.invokeLater(() -> {
+                                onLoaded.run();
+                                splash.dispose();
+                            });
+                        });
+                    }
+                }
+            });
+        }
+    }
+
+    private static List<Task> tasks() {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(new Task("menu background", () -> loadImage(UnifiedGameUI.MENU_BACKGROUND)));
+        for (String path : UnifiedGameUI.WORLD_ICONS) {
+            tasks.add(new Task("world art", () -> loadIcon(path)));
+        }
+        for (String heroClass : EncounterFactory.HERO_CLASSES) {
+            String heroPath = UnifiedGameUI.getHeroResourcePath(heroClass);
+            // Caches the frames that the hero select screen's panels read
+            tasks.add(new Task("hero sprites", () -> new HeroSpriteAnimation(heroPath)));
+        }
+        return tasks;
+    }
+
+    private static void loadImage(String resourcePath) {
+        URL url = AssetPreloader.class.getResource(resourcePath);
+        if (url == null) return;
+        try {
+            BufferedImage image = ImageIO.read(url);
+            if (image != null) {
+                ImageCache.shared().put(ImageCache.imageKey(resourcePath), image, ImageCache.bytesOf(image));
+            }
+        } catch (IOException e) {
+            System.err.println("Error preloading " + resourcePath + ": " + e.getMessage());
+        }
+    }
+
+    private static void loadIcon(String resourcePath) {
+        URL url = AssetPreloader.class.getResource(resourcePath);
+        if (url == null) return;
+        // ImageIcon waits for the image (every frame of a GIF) before returning
+        ImageIcon icon = new ImageIcon(url);
+        if (icon.getIconWidth() > 0 && icon.getIconHeight() > 0) {
+            ImageCache.shared().put(ImageCache.iconKey(resourcePath), icon, ImageCache.bytesOf(icon));
+        }
+    }
+
+    private static final class Task {
+        final String label;
+        final Runnable load;
+
+        Task(String label, Runnable load) {
+            this.label = label;
+            this.load = load;
+        }
+    }
+
+    /** Undecorated window with the game title, what was loaded last and a progress bar. */
+    private static final class Splash extends JWindow {
+        private static final int WIDTH = 480;
+        private static final int HEIGHT = 180;
+
+        private final int total;
+        private int done;
+        private String status = "Loading...";
+
+        Splash(int total) {
+            this.total = total;
+            JComponent content = new JComponent() {
+                @Override
+                protected void paintComponent(Graphics g) {
+                    paintSplash((Graphics2D) g, getWidth(), getHeight());
+                }
+            };
+            content.setPreferredSize(new Dimension(WIDTH, HEIGHT));
+            setContentPane(content);
+            pack();
+            setLocationRelativeTo(null);
+        }
+
+        void advance(String label) {
+            done++;
+            status = "Loaded " + label + " (" + done + "/" + total + ")";
+            repaint();
+        }
+
+        void setStatus(String status) {
+            this.status = status;
+            repaint();
+        }
+
+        private void paintSplash(Graphics2D g2d, int width, int height) {
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            FontRenderingUtil.applyTextRenderingHints(g2d);
+            g2d.setColor(UITheme.BACKGROUND);
+            g2d.fillRect(0, 0, width, height);
+            g2d.setColor(UITheme.BRASS);
+            g2d.setStroke(new BasicStroke(2f));
+            g2d.drawRect(1, 1, width - 3, height - 3);
+
+            g2d.setFont(new Font("Serif", Font.BOLD, 26));
+            drawCentered(g2d, "Defenders of Solara", width, 62);
+            g2d.setColor(UITheme.TEXT_DIM);
+            g2d.setFont(new Font("Serif", Font.PLAIN, 14));
+            drawCentered(g2d, status, width, 132);
+
+            int barX = 40;
+            int barWidth = width - 80;
+            g2d.setColor(UITheme.BG_CARD);
+            g2d.fillRect(barX, 94, barWidth, 14);
+            g2d.setColor(UITheme.BRASS);
+            g2d.fillRect(barX, 94, total == 0 ? barWidth : barWidth * done / total, 14);
+            g2d.setColor(UITheme.BRASS_HIGHLIGHT);
+            g2d.setStroke(new BasicStroke(1f));
+            g2d.drawRect(barX, 94, barWidth, 14);
+        }
+
+        private static void drawCentered(Graphics2D g2d, String text, int width, int baseline) {
+            FontMetrics fm = g2d.getFontMetrics();
+            g2d.drawString(text, (width - fm.stringWidth(text)) / 2, baseline);
+        }
+    }
+}
@@ -0,0 +1,553 @@
+package com.defendersofsolara.ui;
+
+import com.defendersofsolara.core.BattleEngine;
+import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.Skill;
+import com.defendersofsolara.core.WaveEncounter;
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Cursor;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.swing.JComponent;
+
+/**
+ * The battlefield, character details, skills and log of the battle screen drawn by one component
+ * straight from the {@link BattleEngine}, as an alternative to the tree of panels, labels and
+ * progress bars that has to be rebuilt and revalidated as the battle moves on.
+ *
+ * A fixed-step loop on the {@link FrameClock} advances the view's own animation (bars easing
+ * toward the characters' real values, hero walk cycles, the target highlight) at
+ * {@link #STEPS_PER_SECOND} steps a second and asks for one repaint per frame. Painting renders
+ * the whole scene into a VolatileImage back buffer and copies that to the screen, so a frame
+ * costs the same however much changed. The loop only runs while the canvas is showing.
+ *
+ * This is a lightweight component rather than a Canvas with a BufferStrategy so that the screen
+ * fades and the pause overlay on the glass pane still draw over it.
+ */
+final class BattleCanvas extends JComponent {
+    static final int STEPS_PER_SECOND = 60;
+    private static final long STEP_NANOS = 1_000_000_000L / STEPS_PER_SECOND;
+    // After a stall the view catches up at most this far instead of stepping for a long time
+    private static final int MAX_STEPS_PER_FRAME = 5;
+    private static final int MAX_LOG_LINES = 300;
+    private static final int HERO_FRAME_MS = 150;
+
+    private static final int MARGIN = 10;
+    private static final int ROSTER_WIDTH = 80;
+    private static final int CARD_WIDTH = 260;
+    private static final int BOTTOM_HEIGHT = 200;
+    private static final int DETAILS_WIDTH = 200;
+    private static final int SKILLS_WIDTH = 240;
+    private static final int SKILL_HEIGHT = 45;
+
+    private static final Color BACKGROUND = new Color(5, 8, 12);
+    private static final Color PANEL = new Color(12, 15, 18, 240);
+    private static final Color CARD = new Color(8, 10, 12, 200);
+    private static final Color BAR_TRACK = new Color(30, 30, 30);
+    private static final Font DETAILS_NAME_FONT = new Font(Font.SANS_SERIF, Font.BOLD, 16);
+    private static final Font DETAILS_FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 12);
+    private static final Font SKILL_NAME_FONT = new Font(Font.SANS_SERIF, Font.BOLD, 13);
+    private static final Font SKILL_DESCRIPTION_FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 11);
+    private static final Font LOG_FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 11);
+    private static final Font SMALL_FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 10);
+    private static final Font BAR_FONT = new Font(Font.SANS_SERIF, Font.BOLD, 11);
+
+    /** What the canvas reads and reports back; implemented by the battle screen. */
+    interface Controller {
+        BattleEngine getEngine();
+
+        /** Whether the current hero may pick a skill right now. */
+        boolean areSkillsEnabled();
+
+        boolean isWaitingForTarget();
+
+        void skillChosen(Skill skill, Character user);
+
+        void targetChosen(Character target);
+    }
+
+    private final Controller controller;
+    private final FrameClock.Ticker loop;
+    private final Deque<String> log = new ArrayDeque<>();
+    // Log lines wrapped to the log's width, rebuilt when either changes
+    private List<String> wrappedLog = new ArrayList<>();
+    private int wrappedWidth = -1;
+    private boolean logChanged = true;
+
+    // Bar values as shown, {hp, mana}, easing toward the characters' real values
+    private final Map<Character, float[]> shownBars = new IdentityHashMap<>();
+    // The enemy team the bars were last eased for; the engine swaps in a new array each wave
+    private Character[] shownEnemies;
+    private final Map<String, HeroSpriteAnimation> heroSprites = new HashMap<>();
+    private long lastFrame;
+    private long accumulated;
+    private long elapsedSteps;
+
+    // Clickable areas as laid out by the last paint
+    private final List<Hit> hits = new ArrayList<>();
+    private Point mouse;
+    private VolatileImage backBuffer;
+
+    BattleCanvas(Controller controller) {
+        this.controller = controller;
+        setOpaque(true);
+        setPreferredSize(new Dimension(800, 500));
+        loop = FrameClock.schedule(this, FrameClock.TICK_MS, this::frame);
+        loop.start();
+
+        MouseAdapter mouseHandler = new MouseAdapter() {
+            @Override
+            public void mouseMoved(MouseEvent e) {
+                mouse = e.getPoint();
+                Hit hit = hitAt(mouse);
+                setCursor(hit != null && hit.enabled ? Cursor.getPredefinedCursor(Cursor.HAND_CURSOR) : Cursor.getDefaultCursor());
+            }
+
+            @Override
+            public void mouseExited(MouseEvent e) {
+                mouse = null;
+                setCursor(Cursor.getDefaultCursor());
+            }
+
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                Hit hit = hitAt(e.getPoint());
+                if (hit == null || !hit.enabled) return;
+                if (hit.skill != null) {
+                    controller.skillChosen(hit.skill, hit.character);
+                } else {
+                    controller.targetChosen(hit.character);
+                }
+            }
+        };
+        addMouseListener(mouseHandler);
+        addMouseMotionListener(mouseHandler);
+    }
+
+    void appendLog(String text) {
+        for (String line : text.split("\n", -1)) {
+            log.addLast(line);
+        }
+        while (log.size() > MAX_LOG_LINES) {
+            log.removeFirst();
+        }
+        logChanged = true;
+    }
+
+    /** The log as text, so another battle view can take it over. */
+    String getLogText() {
+        return String.join("\n", log);
+    }
+
+    void setLogText(String text) {
+        log.clear();
+        if (!text.isEmpty()) {
+            appendLog(text.endsWith("\n") ? text.substring(0, text.length() - 1) : text);
+        }
+    }
+
+    /** Stops the loop for good; the canvas is being replaced. */
+    void dispose() {
+        loop.cancel();
+        if (backBuffer != null) {
+            backBuffer.flush();
+            backBuffer = null;
+        }
+    }
+
+    // ==================== LOOP ====================
+
+    private void frame() {
+        long now = System.nanoTime();
+        if (lastFrame == 0) {
+            lastFrame = now;
+        }
+        accumulated += now - lastFrame;
+        lastFrame = now;
+        int steps = 0;
+        while (accumulated >= STEP_NANOS && steps < MAX_STEPS_PER_FRAME) {
+            step();
+            accumulated -= STEP_NANOS;
+            steps++;
+        }
+        if (steps == MAX_STEPS_PER_FRAME) {
+            accumulated = 0;
+        }
+        if (steps > 0) {
+            repaint();
+        }
+    }
+
+    private void step() {
+        elapsedSteps++;
+        BattleEngine engine = controller.getEngine();
+        if (engine == null) return;
+        Character[] enemies = engine.getEnemyTeam();
+        if (enemies != shownEnemies) {
+            // Drop the enemies of a cleared wave
+            if (shownEnemies != null) {
+                for (Character c : shownEnemies) {
+                    shownBars.remove(c);
+                }
+            }
+            shownEnemies = enemies;
+        }
+        easeBars(engine.getPlayerTeam());
+        easeBars(enemies);
+    }
+
+    private void easeBars(Character[] team) {
+        for (Character c : team) {
+            if (c == null) continue;
+            float[] shown = shownBars.get(c);
+            if (shown == null) {
+                shownBars.put(c, new float[] {c.currentHP, c.currentMana});
+                continue;
+            }
+            shown[0] = ease(shown[0], Math.max(0, c.currentHP));
+            shown[1] = ease(shown[1], Math.max(0, c.currentMana));
+        }
+    }
+
+    private static float ease(float shown, int target) {
+        float next = shown + (target - shown) * 0.15f;
+        return Math.abs(target - next) < 0.5f ? target : next;
+    }
+
+    // ==================== PAINTING ====================
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        int width = getWidth();
+        int height = getHeight();
+        if (width <= 0 || height <= 0) return;
+        GraphicsConfiguration config = getGraphicsConfiguration();
+        if (config == null) {
+            // Not on a screen (or headless): draw directly
+            render((Graphics2D) g, width, height);
+            return;
+        }
+        do {
+            if (backBuffer == null || backBuffer.getWidth() != width || backBuffer.getHeight() != height
+                    || backBuffer.validate(config) == VolatileImage.IMAGE_INCOMPATIBLE) {
+                if (backBuffer != null) {
+                    backBuffer.flush();
+                }
+                backBuffer = createVolatileImage(width, height);
+                if (backBuffer == null) {
+                    render((Graphics2D) g, width, height);
+                    return;
+                }
+            }
+            Graphics2D g2d = backBuffer.createGraphics();
+            render(g2d, width, height);
+            g2d.dispose();
+        } while (backBuffer.contentsLost());
+        g.drawImage(backBuffer, 0, 0, null);
+    }
+
+    private void render(Graphics2D g2d, int width, int height) {
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        FontRenderingUtil.applyMixedRenderingHints(g2d);
+        g2d.setColor(BACKGROUND);
+        g2d.fillRect(0, 0, width, height);
+        hits.clear();
+
+        BattleEngine engine = controller.getEngine();
+        if (engine == null) return;
+
+        int bottomHeight = Math.min(BOTTOM_HEIGHT, height / 3);
+        int fieldHeight = height - bottomHeight - MARGIN * 3;
+        drawRoster(g2d, engine, MARGIN, MARGIN, fieldHeight);
+        int fieldX = MARGIN * 2 + ROSTER_WIDTH;
+        int cardWidth = Math.min(CARD_WIDTH, (width - fieldX - MARGIN * 3) / 2);
+        drawTeam(g2d, engine, engine.getPlayerTeam(), true, fieldX, MARGIN, cardWidth, fieldHeight);
+        drawTeam(g2d, engine, engine.getEnemyTeam(), false, width - MARGIN - cardWidth, MARGIN, cardWidth, fieldHeight);
+        drawWave(g2d, engine, fieldX + cardWidth, width - MARGIN - cardWidth, MARGIN + 20);
+
+        int bottomY = height - MARGIN - bottomHeight;
+        Character hero = engine.getCurrentHero();
+        drawDetails(g2d, hero, MARGIN, bottomY, DETAILS_WIDTH, bottomHeight);
+        int skillsX = width - MARGIN - SKILLS_WIDTH;
+        drawSkills(g2d, hero, skillsX, bottomY, SKILLS_WIDTH, bottomHeight);
+        int logX = MARGIN * 2 + DETAILS_WIDTH;
+        drawLog(g2d, logX, bottomY, skillsX - MARGIN - logX, bottomHeight);
+    }
+
+    private void drawRoster(Graphics2D g2d, BattleEngine engine, int x, int y, int height) {
+        Character[] team = engine.getPlayerTeam();
+        int current = engine.getCurrentPlayerIndex();
+        int size = Math.min(60, team.length == 0 ? 60 : (height - 5 * team.length) / team.length);
+        g2d.setFont(SMALL_FONT);
+        for (int i = 0; i < team.length; i++) {
+            int top = y + i * (size + 5);
+            int left = x + (ROSTER_WIDTH - size) / 2;
+            if (i == current) {
+                g2d.setColor(withAlpha(UITheme.PRIMARY_GREEN, 150));
+                g2d.fillRect(left, top, size, size);
+            }
+            g2d.setColor(i == current ? UITheme.PRIMARY_GREEN : UITheme.BORDER_NORMAL);
+            g2d.setStroke(new BasicStroke(i == current ? 3f : 1f));
+            g2d.drawRect(left, top, size - 1, size - 1);
+            g2d.setColor(UITheme.PRIMARY_WHITE);
+            drawCentered(g2d, team[i].name, left, size, top + size / 2 + 4);
+        }
+    }
+
+    private void drawTeam(Graphics2D g2d, BattleEngine engine, Character[] team, boolean players,
+                          int x, int y, int width, int height) {
+        if (team.length == 0) return;
+        int cardHeight = Math.min(120, (height - 10 * (team.length - 1)) / team.length);
+        boolean targeting = !players && controller.isWaitingForTarget();
+        for (int i = 0; i < team.length; i++) {
+            Character c = team[i];
+            if (c == null) continue;
+            Rectangle card = new Rectangle(x, y + i * (cardHeight + 10), width, cardHeight);
+            boolean targetable = targeting && c.isAlive();
+            if (!players) {
+                hits.add(new Hit(card, c, null, targetable));
+            }
+            drawCard(g2d, c, players, card, targetable);
+        }
+    }
+
+    private void drawCard(Graphics2D g2d, Character c, boolean player, Rectangle card, boolean targetable) {
+        g2d.setColor(c.isAlive() ? CARD : UITheme.DEAD_GRAY);
+        g2d.fillRect(card.x, card.y, card.width, card.height);
+
+        Color border = UITheme.BORDER_NORMAL;
+        float stroke = 1f;
+        if (targetable) {
+            boolean hovered = mouse != null && card.contains(mouse);
+            // Pulses about once a second
+            float pulse = (float) (0.5 + 0.5 * Math.sin(elapsedSteps * 2 * Math.PI / STEPS_PER_SECOND));
+            border = hovered ? UITheme.BORDER_HOVER : withAlpha(UITheme.BORDER_HIGHLIGHT, 150 + (int) (105 * pulse));
+            stroke = hovered ? 3f : 2f;
+        }
+        g2d.setColor(border);
+        g2d.setStroke(new BasicStroke(stroke));
+        g2d.drawRect(card.x, card.y, card.width - 1, card.height - 1);
+
+        int textX = card.x + 8;
+        int textWidth = card.width - 16;
+        if (player) {
+            int spriteSize = Math.min(64, card.height - 10);
+            BufferedImage frame = heroFrame(c);
+            if (frame != null) {
+                g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+                g2d.drawImage(frame, card.x + 5, card.y + (card.height - spriteSize) / 2, spriteSize, spriteSize, null);
+            }
+            textX += spriteSize + 2;
+            textWidth -= spriteSize + 2;
+        }
+
+        g2d.setFont(UITheme.FONT_CARD_NAME);
+        g2d.setColor(UITheme.PRIMARY_WHITE);
+        FontMetrics fm = g2d.getFontMetrics();
+        g2d.drawString(fit(c.name, fm, textWidth), textX, card.y + 6 + fm.getAscent());
+
+        float[] shown = shownBars.get(c);
+        float hp = shown != null ? shown[0] : Math.max(0, c.currentHP);
+        float mana = shown != null ? shown[1] : Math.max(0, c.currentMana);
+        int barHeight = Math.max(10, Math.min(22, (card.height - fm.getHeight() - 20) / 2));
+        int barY = card.y + card.height - 8 - barHeight * 2 - 4;
+        drawBar(g2d, textX, barY, textWidth, barHeight, hp, c.maxHP, c.currentHP, UITheme.HP_GREEN);
+        drawBar(g2d, textX, barY + barHeight + 4, textWidth, barHeight, mana, c.maxMana, c.currentMana, UITheme.MANA_BLUE);
+    }
+
+    private void drawBar(Graphics2D g2d, int x, int y, int width, int height, float shown, int max, int actual, Color color) {
+        g2d.setColor(BAR_TRACK);
+        g2d.fillRect(x, y, width, height);
+        int filled = max <= 0 ? 0 : Math.round(width * Math.min(1f, shown / max));
+        g2d.setColor(color);
+        g2d.fillRect(x, y, filled, height);
+        g2d.setFont(BAR_FONT);
+        g2d.setColor(UITheme.PRIMARY_WHITE);
+        FontMetrics fm = g2d.getFontMetrics();
+        String text = actual + " / " + max;
+        g2d.drawString(text, x + (width - fm.stringWidth(text)) / 2, y + (height + fm.getAscent() - fm.getDescent()) / 2);
+    }
+
+    private void drawWave(Graphics2D g2d, BattleEngine engine, int left, int right, int baseline) {
+        WaveEncounter wave = engine.getActiveWave();
+        if (wave == null || right <= left) return;
+        g2d.setFont(UITheme.FONT_SMALL);
+        g2d.setColor(withAlpha(UITheme.PRIMARY_GREEN, 160));
+        String text = "Wave " + wave.waveNumber + " / " + engine.getWavePlan().size() + (wave.bossWave ? " (Boss)" : "");
+        drawCentered(g2d, text, left, right - left, baseline);
+    }
+
+    private void drawDetails(Graphics2D g2d, Character c, int x, int y, int width, int height) {
+        g2d.setColor(PANEL);
+        g2d.fillRect(x, y, width, height);
+        if (c == null) return;
+        int textX = x + 10;
+        int line = y + 10;
+        g2d.setFont(DETAILS_NAME_FONT);
+        g2d.setColor(UITheme.PRIMARY_WHITE);
+        line += g2d.getFontMetrics().getAscent();
+        g2d.drawString(fit(c.name, g2d.getFontMetrics(), width - 20), textX, line);
+        g2d.setFont(DETAILS_FONT);
+        int step = g2d.getFontMetrics().getHeight() + 2;
+        g2d.setColor(withAlpha(UITheme.PRIMARY_WHITE, 180));
+        g2d.drawString("Level " + c.level, textX, line += step);
+        g2d.setColor(UITheme.PRIMARY_WHITE);
+        line += 10;
+        g2d.drawString("❤ " + c.currentHP + "/" + c.maxHP, textX, line += step);
+        g2d.drawString("💙 " + c.currentMana + "/" + c.maxMana, textX, line += step);
+        g2d.drawString("⚔ " + c.currentAttack, textX, line += step);
+        g2d.drawString("🛡 " + c.currentDefense, textX, line + step);
+    }
+
+    private void drawSkills(Graphics2D g2d, Character hero, int x, int y, int width, int height) {
+        g2d.setColor(PANEL);
+        g2d.fillRect(x, y, width, height);
+        if (hero == null || hero.skills == null) return;
+        boolean enabled = controller.areSkillsEnabled() && !controller.isWaitingForTarget();
+        Color dim = withAlpha(UITheme.TEXT_GRAY, 150);
+        int top = y + 5;
+        for (Skill skill : hero.skills) {
+            if (top + SKILL_HEIGHT > y + height) break;
+            Rectangle area = new Rectangle(x + 5, top, width - 10, SKILL_HEIGHT);
+            boolean usable = enabled && skill.canUse(hero);
+            hits.add(new Hit(area, hero, skill, usable));
+            if (usable && mouse != null && area.contains(mouse)) {
+                g2d.setColor(withAlpha(UITheme.PRIMARY_GREEN, 30));
+                g2d.fillRect(area.x, area.y, area.width, area.height);
+            }
+            g2d.setFont(SKILL_NAME_FONT);
+            FontMetrics nameFm = g2d.getFontMetrics();
+            g2d.setColor(usable ? UITheme.PRIMARY_WHITE : dim);
+            g2d.drawString(fit(skill.getName(), nameFm, area.width - 10), area.x + 5, area.y + 5 + nameFm.getAscent());
+            g2d.setFont(SKILL_DESCRIPTION_FONT);
+            FontMetrics descriptionFm = g2d.getFontMetrics();
+            g2d.setColor(usable ? withAlpha(UITheme.PRIMARY_WHITE, 180) : withAlpha(UITheme.TEXT_GRAY, 120));
+            g2d.drawString(fit(skill.getDescription(), descriptionFm, area.width - 10), area.x + 5,
+                area.y + 5 + nameFm.getHeight() + descriptionFm.getAscent());
+            top += SKILL_HEIGHT + 3;
+        }
+    }
+
+    private void drawLog(Graphics2D g2d, int x, int y, int width, int height) {
+        if (width <= 20) return;
+        g2d.setColor(PANEL);
+        g2d.fillRect(x, y, width, height);
+        g2d.setFont(LOG_FONT);
+        FontMetrics fm = g2d.getFontMetrics();
+        if (logChanged || wrappedWidth != width) {
+            wrappedLog = wrap(log, fm, width - 16);
+            wrappedWidth = width;
+            logChanged = false;
+        }
+        g2d.setColor(withAlpha(UITheme.LOG_TEXT, 200));
+        int lineHeight = fm.getHeight();
+        int visible = Math.max(0, (height - 10) / lineHeight);
+        int first = Math.max(0, wrappedLog.size() - visible);
+        int baseline = y + 5 + fm.getAscent();
+        for (int i = first; i < wrappedLog.size(); i++, baseline += lineHeight) {
+            g2d.drawString(wrappedLog.get(i), x + 8, baseline);
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    /** The hero's walk cycle frame for the current time, or null for enemies and missing sprites. */
+    private BufferedImage heroFrame(Character c) {
+        String heroClass = c.getClass().getName();
+        HeroSpriteAnimation sprite = heroSprites.get(heroClass);
+        if (sprite == null) {
+            sprite = new HeroSpriteAnimation(UnifiedGameUI.getHeroResourcePath(heroClass));
+            heroSprites.put(heroClass, sprite);
+        }
+        int count = sprite.getFrameCount();
+        if (count == 0 || sprite.getSelectedAnimation() == null) return null;
+        long elapsedMs = elapsedSteps * 1000 / STEPS_PER_SECOND;
+        return sprite.getFrame((int) ((elapsedMs / HERO_FRAME_MS) % count));
+    }
+
+    private Hit hitAt(Point point) {
+        for (Hit hit : hits) {
+            if (hit.area.contains(point)) return hit;
+        }
+        return null;
+    }
+
+    private static List<String> wrap(Iterable<String> lines, FontMetrics fm, int width) {
+        List<String> wrapped = new ArrayList<>();
+        for (String line : lines) {
+            if (fm.stringWidth(line) <= width) {
+                wrapped.add(line);
+                continue;
+            }
+            StringBuilder current = new StringBuilder();
+            for (String word : line.split(" ")) {
+                if (current.length() > 0 && fm.stringWidth(current + " " + word) > width) {
+                    wrapped.add(current.toString());
+                    current.setLength(0);
+                }
+                if (current.length() > 0) {
+                    current.append(' ');
+                }
+                current.append(word);
+            }
+            wrapped.add(current.toString());
+        }
+        return wrapped;
+    }
+
+    private static String fit(String text, FontMetrics fm, int width) {
+        if (text == null) return "";
+        if (fm.stringWidth(text) <= width) return text;
+        String ellipsis = "...";
+        int end = text.length();
+        while (end > 0 && fm.stringWidth(text.substring(0, end) + ellipsis) > width) {
+            end--;
+        }
+        return text.substring(0, end) + ellipsis;
+    }
+
+    private static void drawCentered(Graphics2D g2d, String text, int left, int width, int baseline) {
+        FontMetrics fm = g2d.getFontMetrics();
+        String fitted = fit(text, fm, width);
+        g2d.drawString(fitted, left + (width - fm.stringWidth(fitted)) / 2, baseline);
+    }
+
+    private static Color withAlpha(Color color, int alpha) {
+        return new Color(color.getRed(), color.getGreen(), color.getBlue(), Math.max(0, Math.min(255, alpha)));
+    }
+
+    /** A clickable area: a skill of {@code character}, or {@code character} as a target. */
+    private static final class Hit {
+        final Rectangle area;
+        final Character character;
+        final Skill skill;
+        final boolean enabled;
+
+        Hit(Rectangle area, Character character, Skill skill, boolean enabled) {
+            this.area = area;
+            this.character = character;
+            this.skill = skill;
+            this.enabled = enabled;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.defendersofsolara.ui;
+
+import java.util.ArrayDeque;
+
+/**
+ * Sequences the delayed steps of a battle (start, hero follow-through, enemy
+ * turns, wave transitions) on a single Swing timer.
+ *
+ * Delays are given at 1x speed and divided by the current multiplier; a
+ * multiplier of 0 means instant and runs each step on the next timer tick.
+ * While paused the pending step keeps whatever delay it had left and nothing
+ * fires, so a modal pause menu really stops the battle. Fast-forward drops
+ * the delays entirely until {@link #endFastForward()} is called.
+ *
+ * All methods must be called on the event dispatch thread.
+ */
+final class BattlePacer {
+
+    /** Speed multipliers offered by the battle speed toggle, in cycle order. */
+    static final int[] SPEEDS = {1, 2, 4, 0};
+
+    private static final class Step {
+        final Runnable action;
+        int remainingMs;
+
+        Step(Runnable action, int remainingMs) {
+            this.action = action;
+            this.remainingMs = remainingMs;
+        }
+    }
+
+    private final ArrayDeque<Step> steps = new ArrayDeque<>();
+    private final javax.swing.Timer timer;
+    private int speed = 1;
+    private boolean paused;
+    private boolean fastForward;
+    private boolean armed;
+    private long dueAt;
+
+    BattlePacer() {
+        timer = new javax.swing.Timer(0, e -> fire());
+        timer.setRepeats(false);
+    }
+
+    /**
+     * Queues an action to run after {@code baseDelayMs} at 1x speed, once
+     * every previously scheduled step has run.
+     */
+    void schedule(int baseDelayMs, Runnable action) {
+        steps.add(new Step(action, scale(baseDelayMs)));
+        arm();
+    }
+
+    int getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Sets the multiplier (see {@link #SPEEDS}). The step already waiting is
+     * rescaled so a switch to a faster speed takes effect immediately.
+     */
+    void setSpeed(int speed) {
+        int previous = this.speed;
+        this.speed = Math.max(0, speed);
+        Step head = steps.peek();
+        if (head != null && previous != this.speed) {
+            disarm();
+            head.remainingMs = previous == 0 ? 0 : scale(head.remainingMs * previous);
+            arm();
+        }
+    }
+
+    /** Returns the multiplier that follows the current one in {@link #SPEEDS}. */
+    int nextSpeed() {
+        for (int i = 0; i < SPEEDS.length; i++) {
+            if (SPEEDS[i] == speed) {
+                return SPEEDS[(i + 1) % SPEEDS.length];
+            }
+        }
+        return SPEEDS[0];
+    }
+
+    static String label(int speed) {
+        return speed == 0 ? "»" : speed + "x";
+    }
+
+    void pause() {
+        if (paused) return;
+        paused = true;
+        disarm();
+    }
+
+    void resume() {
+        if (!paused) return;
+        paused = false;
+        arm();
+    }
+
+    boolean isPaused() {
+        return paused;
+    }
+
+    /** Runs queued and future steps without delay until {@link #endFastForward()}. */
+    void fastForward() {
+        if (fastForward) return;
+        fastForward = true;
+        Step head = steps.peek();
+        if (head != null) {
+            disarm();
+            head.remainingMs = 0;
+            arm();
+        }
+    }
+
+    void endFastForward() {
+        fastForward = false;
+    }
+
+    boolean isFastForwarding() {
+        return fastForward;
+    }
+
+    /** Drops every pending step, e.g. when the battle screen is left. */
+    void cancel() {
+        timer.stop();
+        armed = false;
+        steps.clear();
+        paused = false;
+        fastForward = false;
+    }
+
+    private int scale(int baseDelayMs) {
+        if (fastForward || speed == 0) return 0;
+        return baseDelayMs / speed;
+    }
+
+    private void arm() {
+        Step head = steps.peek();
+        if (armed || paused || head == null) return;
+        armed = true;
+        dueAt = System.nanoTime() + head.remainingMs * 1_000_000L;
+        timer.setInitialDelay(head.remainingMs);
+        timer.restart();
+    }
+
+    private void disarm() {
+        if (!armed) return;
+        timer.stop();
+        armed = false;
+        Step head = steps.peek();
+        if (head != null) {
+            long left = (dueAt - System.nanoTime()) / 1_000_000L;
+            head.remainingMs = (int) Math.max(0, left);
+        }
+    }
+
+    private void fire() {
+        armed = false;
+        Step step = steps.poll();
+        if (step == null) return;
+        step.action.run();
+        arm();
+    }
+}
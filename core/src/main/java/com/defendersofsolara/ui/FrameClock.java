@@ -0,0 +1,131 @@
+package com.defendersofsolara.ui;
+
+import java.awt.Component;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The one Swing timer that drives every UI animation.
+ *
+ * Animations register a {@link Ticker} with their own period instead of owning a timer. The
+ * clock fires every {@link #TICK_MS} ms and runs each ticker that is due. A ticker with an owner
+ * component only runs while that component is showing, so animations on a screen the CardLayout
+ * has hidden stop by themselves. When no ticker is running the timer is stopped altogether, and
+ * a static screen costs nothing.
+ *
+ * All tickers due at the same moment run in the same timer event. Their repaint() calls reach
+ * the RepaintManager together and are painted in one pass, as the union of their dirty regions.
+ *
+ * Use from the Swing thread only.
+ */
+final class FrameClock {
+    /** The clock's resolution; periods are rounded up to whole ticks. */
+    static final int TICK_MS = 16;
+
+    private static final javax.swing.Timer TIMER = new javax.swing.Timer(TICK_MS, e -> tick());
+    private static final List<Ticker> RUNNING = new ArrayList<>();
+
+    private FrameClock() {
+    }
+
+    /**
+     * A stopped ticker that, once started, runs {@code onTick} every {@code periodMs} while
+     * {@code owner} is showing, or always if {@code owner} is null.
+     */
+    static Ticker schedule(Component owner, int periodMs, Runnable onTick) {
+        return new Ticker(owner, periodMs, onTick);
+    }
+
+    private static void tick() {
+        long now = System.nanoTime();
+        // A ticker may stop itself or start another
+        for (Ticker ticker : RUNNING.toArray(new Ticker[0])) {
+            if (ticker.active && now >= ticker.due) {
+                // Frames missed while the app was busy are skipped rather than run in a burst
+                ticker.due = Math.max(ticker.due + ticker.periodNanos, now + ticker.periodNanos / 2);
+                ticker.onTick.run();
+            }
+        }
+    }
+
+    private static void activate(Ticker ticker) {
+        if (ticker.active) return;
+        ticker.active = true;
+        ticker.due = System.nanoTime() + ticker.periodNanos;
+        RUNNING.add(ticker);
+        if (!TIMER.isRunning()) {
+            TIMER.start();
+        }
+    }
+
+    private static void deactivate(Ticker ticker) {
+        if (!ticker.active) return;
+        ticker.active = false;
+        RUNNING.remove(ticker);
+        if (RUNNING.isEmpty()) {
+            TIMER.stop();
+        }
+    }
+
+    /** One animation's registration with the clock. */
+    static final class Ticker {
+        private final Component owner;
+        private final long periodNanos;
+        private final Runnable onTick;
+        private final HierarchyListener showingListener;
+        // Started by its animation; active when also showing, and then in RUNNING
+        private boolean started;
+        private boolean active;
+        private long due;
+
+        private Ticker(Component owner, int periodMs, Runnable onTick) {
+            this.owner = owner;
+            this.periodNanos = Math.max(TICK_MS, periodMs) * 1_000_000L;
+            this.onTick = onTick;
+            if (owner != null) {
+                showingListener = e -> {
+                    if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) != 0) {
+                        update();
+                    }
+                };
+                owner.addHierarchyListener(showingListener);
+            } else {
+                showingListener = null;
+            }
+        }
+
+        /** Starts ticking, a full period from now; restarting a running ticker resets its period. */
+        void start() {
+            started = true;
+            deactivate(this);
+            update();
+        }
+
+        void stop() {
+            started = false;
+            deactivate(this);
+        }
+
+        /** Stops for good and detaches from the owner; a ticker is cancelled when it is replaced. */
+        void cancel() {
+            stop();
+            if (showingListener != null) {
+                owner.removeHierarchyListener(showingListener);
+            }
+        }
+
+        boolean isRunning() {
+            return started;
+        }
+
+        private void update() {
+            if (started && (owner == null || owner.isShowing())) {
+                activate(this);
+            } else {
+                deactivate(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.defendersofsolara.ui;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.ref.SoftReference;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.imageio.ImageIO;
+
+/**
+ * Hero animation frames packed at build time by {@link HeroAtlasPacker}.
+ *
+ * The build composites each hero's animation once and packs the frames into a few atlas pages
+ * (atlas/heroes-0.png, ...) described by atlas/heroes.json. A frame is then just a region of an
+ * already decoded page, so the hero select screen needs neither the layer files nor any
+ * compositing. Pages are decoded the first time one of their frames is asked for, and only
+ * softly held after that: {@link HeroSpriteAnimation} copies the frames into palette indices, so
+ * a page is garbage once every hero on it is loaded.
+ *
+ * When the index is missing (running from sources without the build step) every lookup misses
+ * and {@link HeroSpriteAnimation} composites from the layers as before.
+ */
+final class HeroAtlas {
+    static final String DIRECTORY = "atlas";
+    static final String INDEX = "heroes.json";
+    /** Bump when the index layout changes; an index of another version is ignored. */
+    static final int VERSION = 1;
+
+    private static final HeroAtlas INSTANCE = load();
+
+    private final Map<String, Animation> animations = new HashMap<>();
+    private final List<String> pageNames;
+    private final List<SoftReference<BufferedImage>> pages = new ArrayList<>();
+
+    private HeroAtlas(Index index) {
+        this.pageNames = index.pages;
+        for (int i = 0; i < index.pages.size(); i++) {
+            pages.add(new SoftReference<>(null));
+        }
+        for (Animation animation : index.animations) {
+            animations.put(key(animation.hero, animation.animation), animation);
+        }
+    }
+
+    static HeroAtlas get() {
+        return INSTANCE;
+    }
+
+    /**
+     * The frames of {@code animation} for the hero in {@code heroFolder} (e.g. "lyra"), or null if
+     * the build did not pack it or its page cannot be read.
+     */
+    List<BufferedImage> getFrames(String heroFolder, String animation) {
+        Animation packed = animations.get(key(heroFolder, animation));
+        if (packed == null) return null;
+        List<BufferedImage> frames = new ArrayList<>(packed.frames.length);
+        // Held here so a page cannot be dropped and decoded again between two frames
+        Map<Integer, BufferedImage> pagesInUse = new HashMap<>();
+        for (int[] frame : packed.frames) {
+            BufferedImage page = pagesInUse.computeIfAbsent(frame[0], this::page);
+            if (page == null) return null;
+            frames.add(page.getSubimage(frame[1], frame[2], packed.width, packed.height));
+        }
+        return frames;
+    }
+
+    private synchronized BufferedImage page(int index) {
+        if (index < 0 || index >= pages.size()) return null;
+        BufferedImage page = pages.get(index).get();
+        if (page == null) {
+            String path = "/" + DIRECTORY + "/" + pageNames.get(index);
+            try (InputStream is = HeroAtlas.class.getResourceAsStream(path)) {
+                BufferedImage decoded = is != null ? ImageIO.read(is) : null;
+                if (decoded == null) {
+                    System.err.println("Missing hero atlas page " + path);
+                    return null;
+                }
+                page = toIntArgb(decoded);
+                pages.set(index, new SoftReference<>(page));
+            } catch (IOException e) {
+                System.err.println("Error reading hero atlas page " + path + ": " + e.getMessage());
+                return null;
+            }
+        }
+        return page;
+    }
+
+    // Same pixel layout as composited frames, so drawing either takes the same Java2D loops
+    private static BufferedImage toIntArgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_ARGB) return image;
+        BufferedImage converted = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = converted.createGraphics();
+        g2d.drawImage(image, 0, 0, null);
+        g2d.dispose();
+        return converted;
+    }
+
+    private static String key(String heroFolder, String animation) {
+        return heroFolder + "/" + animation;
+    }
+
+    private static HeroAtlas load() {
+        Index index = null;
+        try (InputStream is = HeroAtlas.class.getResourceAsStream("/" + DIRECTORY + "/" + INDEX)) {
+            if (is != null) {
+                try (Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
+                    index = new Gson().fromJson(reader, Index.class);
+                }
+            }
+        } catch (IOException | JsonParseException e) {
+            System.err.println("Ignoring hero atlas index: " + e.getMessage());
+        }
+        if (index == null || index.version != VERSION || index.pages == null || index.animations == null) {
+            index = new Index();
+        }
+        return new HeroAtlas(index);
+    }
+
+    /** atlas/heroes.json as written by {@link HeroAtlasPacker}. */
+    static final class Index {
+        int version = VERSION;
+        List<String> pages = new ArrayList<>();
+        List<Animation> animations = new ArrayList<>();
+    }
+
+    /** One hero animation: its frame size and, per frame, {page, x, y}. */
+    static final class Animation {
+        String hero;
+        String animation;
+        int width;
+        int height;
+        int[][] frames;
+    }
+}
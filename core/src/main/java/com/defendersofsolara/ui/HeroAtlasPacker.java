@@ -0,0 +1,143 @@
+package com.defendersofsolara.ui;
+
+import com.defendersofsolara.core.EncounterFactory;
+import com.google.gson.Gson;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import javax.imageio.ImageIO;
+
+/**
+ * Build step that composites the hero animations the game shows and packs them into the
+ * {@link HeroAtlas}. Run by the core:packHeroAtlas Gradle task before processResources; the
+ * output directory gets atlas/heroes.json and the atlas pages.
+ *
+ * Each hero contributes the animation {@link HeroSpriteAnimation} would pick for it, composited
+ * from its layer files exactly as at runtime. Frames are placed on shelves, left to right, on
+ * pages of at most {@link #PAGE_SIZE} pixels square.
+ *
+ * Usage: HeroAtlasPacker &lt;output directory&gt;
+ */
+public final class HeroAtlasPacker {
+    static final int PAGE_SIZE = 1024;
+    private static final int PADDING = 1;
+
+    private final List<BufferedImage> pages = new ArrayList<>();
+    private BufferedImage page;
+    private int shelfX;
+    private int shelfY;
+    private int shelfHeight;
+    // Furthest extent used on the current page, so it can be trimmed when closed
+    private int usedWidth;
+    private int usedHeight;
+
+    private HeroAtlasPacker() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: HeroAtlasPacker <output directory>");
+            System.exit(2);
+        }
+        Path directory = Paths.get(args[0]).resolve(HeroAtlas.DIRECTORY);
+        Files.createDirectories(directory);
+
+        HeroAtlasPacker packer = new HeroAtlasPacker();
+        HeroAtlas.Index index = new HeroAtlas.Index();
+        for (String heroFolder : heroFolders()) {
+            HeroSpriteAnimation source = new HeroSpriteAnimation("/" + heroFolder + "/", false);
+            if (source.getSelectedAnimation() == null) {
+                System.err.println("No animation to pack for " + heroFolder);
+                continue;
+            }
+            index.animations.add(packer.add(heroFolder, source.getSelectedAnimation(), source.getFrames()));
+        }
+        packer.closePage();
+
+        for (int i = 0; i < packer.pages.size(); i++) {
+            String name = "heroes-" + i + ".png";
+            ImageIO.write(packer.pages.get(i), "png", directory.resolve(name).toFile());
+            index.pages.add(name);
+        }
+        try (Writer out = Files.newBufferedWriter(directory.resolve(HeroAtlas.INDEX), StandardCharsets.UTF_8)) {
+            new Gson().toJson(index, out);
+        }
+        System.out.println("Packed " + index.animations.size() + " hero animations into "
+            + index.pages.size() + " atlas page(s) in " + directory);
+    }
+
+    /** Folder names of every hero the game offers, in roster order. */
+    private static Set<String> heroFolders() {
+        Set<String> folders = new LinkedHashSet<>();
+        for (String heroClass : EncounterFactory.HERO_CLASSES) {
+            String path = SpriteConfig.getResourcePath(heroClass);
+            if (path == null) {
+                System.err.println("No sprite folder for " + heroClass);
+                continue;
+            }
+            // "/lyra/standard/idle/" -> "lyra"
+            folders.add(path.substring(1, path.indexOf('/', 1)));
+        }
+        return folders;
+    }
+
+    private HeroAtlas.Animation add(String heroFolder, String animationName, List<BufferedImage> frames) {
+        HeroAtlas.Animation animation = new HeroAtlas.Animation();
+        animation.hero = heroFolder;
+        animation.animation = animationName;
+        animation.width = frames.get(0).getWidth();
+        animation.height = frames.get(0).getHeight();
+        animation.frames = new int[frames.size()][];
+        for (int i = 0; i < frames.size(); i++) {
+            BufferedImage frame = frames.get(i);
+            if (frame.getWidth() != animation.width || frame.getHeight() != animation.height) {
+                throw new IllegalStateException(heroFolder + "/" + animationName + " has frames of different sizes");
+            }
+            animation.frames[i] = place(frame);
+        }
+        return animation;
+    }
+
+    /** Draws {@code frame} onto the current shelf and returns {page, x, y}. */
+    private int[] place(BufferedImage frame) {
+        int width = frame.getWidth();
+        int height = frame.getHeight();
+        if (width > PAGE_SIZE || height > PAGE_SIZE) {
+            throw new IllegalStateException("Frame of " + width + "x" + height + " does not fit an atlas page");
+        }
+        if (page != null && shelfX + width > PAGE_SIZE) {
+            shelfX = 0;
+            shelfY += shelfHeight + PADDING;
+            shelfHeight = 0;
+        }
+        if (page != null && shelfY + height > PAGE_SIZE) {
+            closePage();
+        }
+        if (page == null) {
+            page = new BufferedImage(PAGE_SIZE, PAGE_SIZE, BufferedImage.TYPE_INT_ARGB);
+            shelfX = shelfY = shelfHeight = usedWidth = usedHeight = 0;
+        }
+
+        int[] region = {pages.size(), shelfX, shelfY};
+        page.setRGB(shelfX, shelfY, width, height, frame.getRGB(0, 0, width, height, null, 0, width), 0, width);
+        shelfX += width + PADDING;
+        shelfHeight = Math.max(shelfHeight, height);
+        usedWidth = Math.max(usedWidth, region[1] + width);
+        usedHeight = Math.max(usedHeight, region[2] + height);
+        return region;
+    }
+
+    private void closePage() {
+        if (page == null) return;
+        pages.add(page.getSubimage(0, 0, usedWidth, usedHeight));
+        page = null;
+    }
+}
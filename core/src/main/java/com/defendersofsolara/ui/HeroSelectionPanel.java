@@ -65,10 +65,10 @@ public class HeroSelectionPanel extends JPanel {
         // Enable double buffering for smooth rendering
         setDoubleBuffered(true);
         
-        // Set up animation repaint callback
-        animation.setRepaintCallback(() -> {
+        // Set up animation repaint callback; only the portrait changes between frames
+        animation.setRepaintCallback(this, () -> {
             if (isHovered || isSelected) {
-                repaint();
+                repaint(portraitBounds());
             }
         });
         
@@ -101,6 +101,13 @@ public class HeroSelectionPanel extends JPanel {
         setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
     }
     
+    /** The area the portrait may cover, at its hover scale. */
+    private Rectangle portraitBounds() {
+        int scaledSize = (int) Math.ceil(PORTRAIT_SIZE * HOVER_SCALE);
+        return new Rectangle((getWidth() - scaledSize) / 2 - 1, 15 - (scaledSize - PORTRAIT_SIZE) / 2 - 1,
+            scaledSize + 2, scaledSize + 2);
+    }
+    
     /**
      * Sets the callback to execute when this panel is clicked.
      */
@@ -3,12 +3,16 @@ package com.defendersofsolara.ui;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 import java.io.IOException;
 import java.net.URL;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
 
 /**
  * Handles sprite animation for hero characters in the character selection screen.
@@ -24,8 +28,10 @@ import java.util.Map;
  */
 public class HeroSpriteAnimation {
     
-    // Animation frame cache to avoid reloading images
-    private static final Map<String, List<BufferedImage>> frameCache = new HashMap<>();
+    // Loaded animations live in the shared ImageCache under this prefix plus the hero path, filled
+    // from the preload threads too. Frames are kept palette-indexed where possible and expanded
+    // one at a time for display
+    private static final String CACHE_PREFIX = "hero-frames:";
     
     // Default animation preferences - prioritize walk for forward-facing animation
     private static final String[] ANIMATION_PRIORITY = {"walk", "idle", "run", "combat"};
@@ -35,13 +41,22 @@ public class HeroSpriteAnimation {
     private static final int DEFAULT_FRAME_WIDTH = 64; // Default sprite frame width
     private static final int DEFAULT_FRAME_HEIGHT = 64; // Default sprite frame height
     
+    // Exactly one of frames and indexedFrames is set once loaded
     private List<BufferedImage> frames;
+    private IndexedFrames indexedFrames;
+    // The indexed frame last expanded for display, reused for the next one
+    private BufferedImage expandedFrame;
+    private int expandedIndex = -1;
     private int currentFrameIndex = 0;
-    private javax.swing.Timer animationTimer;
+    // Advances the frame on the shared FrameClock
+    private FrameClock.Ticker animationTicker;
+    private Runnable repaintCallback;
     private boolean isAnimating = false;
     private String heroResourcePath;
     private String selectedAnimation;
     private MetadataParser.AnimationMetadata metadata;
+    // False when building the atlas itself: always composite from the layer files
+    private final boolean usePacked;
     
     /**
      * Creates a new HeroSpriteAnimation for the specified hero.
@@ -49,6 +64,15 @@ public class HeroSpriteAnimation {
      * @param heroResourcePath The resource path to the hero's folder (e.g., "/lyra/")
      */
     public HeroSpriteAnimation(String heroResourcePath) {
+        this(heroResourcePath, true);
+    }
+    
+    /**
+     * @param usePacked whether frames may come from the {@link HeroAtlas} and the
+     *                  {@link SpriteFrameCache}; {@link HeroAtlasPacker} passes false
+     */
+    HeroSpriteAnimation(String heroResourcePath, boolean usePacked) {
+        this.usePacked = usePacked;
         // Normalize the path: ensure it starts with / and ends with /
         String normalized = heroResourcePath;
         if (!normalized.startsWith("/")) {
@@ -63,10 +87,56 @@ public class HeroSpriteAnimation {
         // Extract hero folder name for metadata parsing (remove leading/trailing slashes)
         String heroFolder = normalized.replace("/", "").replace("\\", "");
         
+        if (usePacked) {
+            LoadedAnimation cached = ImageCache.shared().get(CACHE_PREFIX + normalized, LoadedAnimation.class);
+            if (cached != null) {
+                use(cached);
+                return;
+            }
+            if (loadFromAtlas(heroFolder)) {
+                cacheFrames(normalized);
+                return;
+            }
+        }
+        
         // Load metadata.json for this hero
         this.metadata = MetadataParser.parseMetadata(heroFolder);
         
         loadAnimation();
+        if (usePacked && selectedAnimation != null) {
+            cacheFrames(normalized);
+        }
+    }
+    
+    /**
+     * Puts the loaded animation in the frame cache, indexed if its colors fit a palette, and
+     * switches this instance to the cached copy so the full-color frames can be collected.
+     */
+    private void cacheFrames(String normalizedPath) {
+        LoadedAnimation loaded = new LoadedAnimation(selectedAnimation, frames);
+        use(ImageCache.shared().putIfAbsent(CACHE_PREFIX + normalizedPath, loaded, loaded.bytes()));
+    }
+    
+    private void use(LoadedAnimation cached) {
+        selectedAnimation = cached.name;
+        indexedFrames = cached.indexed;
+        frames = cached.frames;
+    }
+    
+    /**
+     * Takes the first animation in priority order that the build packed into the
+     * {@link HeroAtlas}; no metadata or layer files are read.
+     */
+    private boolean loadFromAtlas(String heroFolder) {
+        for (String animName : ANIMATION_PRIORITY) {
+            List<BufferedImage> packed = HeroAtlas.get().getFrames(heroFolder, animName);
+            if (packed != null && !packed.isEmpty()) {
+                frames = packed;
+                selectedAnimation = animName;
+                return true;
+            }
+        }
+        return false;
     }
     
     /**
@@ -74,21 +144,12 @@ public class HeroSpriteAnimation {
      * Tries animations in priority order until one is found.
      */
     private void loadAnimation() {
-        String cacheKey = heroResourcePath + "_" + selectedAnimation;
-        
-        // Check cache first
-        if (frameCache.containsKey(cacheKey)) {
-            frames = frameCache.get(cacheKey);
-            return;
-        }
-        
         // Try to find an available animation
         for (String animName : ANIMATION_PRIORITY) {
             List<BufferedImage> loadedFrames = loadAnimationFrames(animName);
             if (!loadedFrames.isEmpty()) {
                 frames = loadedFrames;
                 selectedAnimation = animName;
-                frameCache.put(cacheKey, frames);
                 System.out.println("✓ Loaded animation '" + animName + "' for " + heroResourcePath + " (" + frames.size() + " frames)");
                 return;
             }
@@ -125,7 +186,7 @@ public class HeroSpriteAnimation {
         if (metadata != null) {
             List<String> layerFiles = MetadataParser.getAnimationLayers(metadata, animationName);
             if (!layerFiles.isEmpty()) {
-                frameList = compositeFramesFromMetadata(animationName, layerFiles);
+                frameList = loadFramesFromMetadata(animationName, layerFiles);
                 if (!frameList.isEmpty()) {
                     return frameList;
                 }
@@ -184,6 +245,36 @@ public class HeroSpriteAnimation {
         return frameList;
     }
     
+    /**
+     * Metadata-driven frames, taken from the {@link SpriteFrameCache} when metadata.json and the
+     * layer files are unchanged since they were last composited, and composited (then cached)
+     * otherwise.
+     */
+    private List<BufferedImage> loadFramesFromMetadata(String animationName, List<String> layerFiles) {
+        String heroFolder = heroResourcePath.replace("/", "");
+        String animationPath = "/" + heroFolder + "/standard/" + animationName + "/";
+        List<String> sources = new ArrayList<>();
+        sources.add("/" + heroFolder + "/credits/metadata.json");
+        sources.add("/" + heroFolder + "/metadata.json");
+        for (String layerFile : layerFiles) {
+            sources.add(animationPath + layerFile);
+            sources.add(animationPath + layerFile + ".png");
+        }
+        if (!usePacked) {
+            return compositeFramesFromMetadata(animationName, layerFiles);
+        }
+        String cacheName = heroFolder + "-" + animationName;
+        long fingerprint = SpriteFrameCache.fingerprint(cacheName, sources);
+
+        List<BufferedImage> cached = SpriteFrameCache.load(cacheName, fingerprint);
+        if (cached != null) {
+            return cached;
+        }
+        List<BufferedImage> composited = compositeFramesFromMetadata(animationName, layerFiles);
+        SpriteFrameCache.store(cacheName, fingerprint, composited);
+        return composited;
+    }
+
     /**
      * Composites animation frames using layer files from metadata.json.
      * This ensures accurate frame composition based on the metadata.
@@ -193,7 +284,6 @@ public class HeroSpriteAnimation {
      * @return List of composited frames
      */
     private List<BufferedImage> compositeFramesFromMetadata(String animationName, List<String> layerFiles) {
-        List<BufferedImage> frames = new ArrayList<>();
         // Normalize path to avoid double slashes
         String normalizedPath = heroResourcePath.endsWith("/") 
             ? heroResourcePath.substring(0, heroResourcePath.length() - 1) 
@@ -202,65 +292,34 @@ public class HeroSpriteAnimation {
         
         int frameSize = (metadata != null) ? metadata.frameSize : DEFAULT_FRAME_WIDTH;
         
+        // Decode each layer sheet once, in parallel; every frame is cut from the same sheets
+        BufferedImage[] decoded = new BufferedImage[layerFiles.size()];
+        IntStream.range(0, decoded.length).parallel().forEach(i -> {
+            // Try both .png and .png.png extensions (Lyra files use .png.png)
+            String layerFile = layerFiles.get(i);
+            BufferedImage layerSheet = loadSheetRows(animationPath + layerFile, frameSize);
+            if (layerSheet == null && layerFile.endsWith(".png")) {
+                layerSheet = loadSheetRows(animationPath + layerFile + ".png", frameSize);
+            }
+            decoded[i] = layerSheet;
+        });
+        List<BufferedImage> layerSheets = new ArrayList<>();
+        for (BufferedImage layerSheet : decoded) {
+            if (layerSheet != null) {
+                layerSheets.add(layerSheet);
+            }
+        }
+        BufferedImage firstSheet = decoded.length > 0 ? decoded[0] : null;
+        
         // Determine frame count - try to detect from first layer file
         int frameCount = 12; // Default LPC walk cycle has 9 frames, but we'll try up to 12
         if (metadata != null && metadata.frameCounts.containsKey(animationName)) {
             frameCount = metadata.frameCounts.get(animationName);
-        } else {
-            // Try to detect frame count from first layer file
-            if (!layerFiles.isEmpty()) {
-                String firstLayer = layerFiles.get(0);
-                // Try both .png and .png.png extensions
-                BufferedImage testSheet = loadImage(animationPath + firstLayer);
-                if (testSheet == null && firstLayer.endsWith(".png")) {
-                    // Try with double .png extension
-                    testSheet = loadImage(animationPath + firstLayer + ".png");
-                }
-                if (testSheet != null && testSheet.getWidth() >= frameSize) {
-                    frameCount = testSheet.getWidth() / frameSize;
-                }
-            }
-        }
-        
-        // Composite frames by loading each layer and extracting frames
-        for (int frameIndex = 0; frameIndex < frameCount; frameIndex++) {
-            List<BufferedImage> frameLayers = new ArrayList<>();
-            
-            // Load each layer for this frame
-            for (String layerFile : layerFiles) {
-                // Try both .png and .png.png extensions (Lyra files use .png.png)
-                String layerPath = animationPath + layerFile;
-                BufferedImage layerSheet = loadImage(layerPath);
-                
-                // If not found, try with double .png extension
-                if (layerSheet == null && layerFile.endsWith(".png")) {
-                    layerPath = animationPath + layerFile + ".png";
-                    layerSheet = loadImage(layerPath);
-                }
-                
-                if (layerSheet != null) {
-                    int sheetWidth = layerSheet.getWidth();
-                    int sheetHeight = layerSheet.getHeight();
-                    int framesInSheet = sheetWidth / frameSize;
-                    
-                    if (frameIndex < framesInSheet) {
-                        int x = frameIndex * frameSize;
-                        if (x + frameSize <= sheetWidth) {
-                            BufferedImage frame = layerSheet.getSubimage(x, 0, frameSize, sheetHeight);
-                            frameLayers.add(frame);
-                        }
-                    }
-                }
-            }
-            
-            // Composite all layers for this frame
-            if (!frameLayers.isEmpty()) {
-                BufferedImage composite = SpriteSheetUtil.compositeLayers(frameLayers, frameSize, frameSize);
-                frames.add(composite);
-            }
+        } else if (firstSheet != null && firstSheet.getWidth() >= frameSize) {
+            frameCount = firstSheet.getWidth() / frameSize;
         }
         
-        return frames;
+        return SpriteSheetUtil.compositeStrips(layerSheets, frameSize, frameSize, frameCount);
     }
     
     /**
@@ -533,30 +592,7 @@ public class HeroSpriteAnimation {
         }
         
         // Composite frames from all layers
-        for (int frameIndex = 0; frameIndex < frameCount; frameIndex++) {
-            List<BufferedImage> frameLayers = new ArrayList<>();
-            
-            for (BufferedImage sheet : layerSheets) {
-                int frameWidth = 64;
-                int frameHeight = sheet.getHeight();
-                int framesInSheet = sheet.getWidth() / frameWidth;
-                
-                if (frameIndex < framesInSheet) {
-                    int x = frameIndex * frameWidth;
-                    if (x + frameWidth <= sheet.getWidth()) {
-                        BufferedImage frame = sheet.getSubimage(x, 0, frameWidth, frameHeight);
-                        frameLayers.add(frame);
-                    }
-                }
-            }
-            
-            if (!frameLayers.isEmpty()) {
-                BufferedImage composite = SpriteSheetUtil.compositeLayers(frameLayers, 64, 64);
-                frames.add(composite);
-            }
-        }
-        
-        return frames;
+        return SpriteSheetUtil.compositeStrips(layerSheets, 64, 64, frameCount);
     }
     
     /**
@@ -564,26 +600,7 @@ public class HeroSpriteAnimation {
      */
     private BufferedImage loadImage(String resourcePath) {
         try {
-            // Ensure path starts with /
-            String normalizedPath = resourcePath;
-            if (!normalizedPath.startsWith("/")) {
-                normalizedPath = "/" + normalizedPath;
-            }
-            
-            // Try multiple methods to load the resource
-            URL url = HeroSpriteAnimation.class.getResource(normalizedPath);
-            if (url == null) {
-                // Try with ClassLoader (without leading slash)
-                url = HeroSpriteAnimation.class.getClassLoader().getResource(normalizedPath.substring(1));
-            }
-            if (url == null) {
-                // Try Thread's context class loader
-                ClassLoader cl = Thread.currentThread().getContextClassLoader();
-                if (cl != null) {
-                    url = cl.getResource(normalizedPath.substring(1));
-                }
-            }
-            
+            URL url = findResource(resourcePath);
             if (url == null) {
                 return null;
             }
@@ -613,6 +630,66 @@ public class HeroSpriteAnimation {
         }
     }
     
+    /**
+     * Decodes only the top {@code rows} rows of a layer sheet. LPC sheets stack four facing
+     * directions and only the first is shown, so most of each sheet need not be decoded.
+     */
+    private BufferedImage loadSheetRows(String resourcePath, int rows) {
+        URL url = findResource(resourcePath);
+        if (url == null) {
+            return null;
+        }
+        try (java.io.InputStream is = url.openStream();
+             ImageInputStream in = ImageIO.createImageInputStream(is)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceRegion(new Rectangle(0, 0, reader.getWidth(0), Math.min(rows, reader.getHeight(0))));
+                BufferedImage img = reader.read(0, param);
+                return img != null && img.getWidth() > 0 && img.getHeight() > 0 ? img : null;
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Resolves a resource through this class, its class loader and then the context class loader.
+     */
+    private URL findResource(String resourcePath) {
+        // Ensure path starts with /
+        String normalizedPath = resourcePath;
+        if (!normalizedPath.startsWith("/")) {
+            normalizedPath = "/" + normalizedPath;
+        }
+        // Most of the names tried by the strategies above do not exist
+        if (!ResourceManifest.mayExist(normalizedPath)) {
+            return null;
+        }
+        
+        // Try multiple methods to load the resource
+        URL url = HeroSpriteAnimation.class.getResource(normalizedPath);
+        if (url == null) {
+            // Try with ClassLoader (without leading slash)
+            url = HeroSpriteAnimation.class.getClassLoader().getResource(normalizedPath.substring(1));
+        }
+        if (url == null) {
+            // Try Thread's context class loader
+            ClassLoader cl = Thread.currentThread().getContextClassLoader();
+            if (cl != null) {
+                url = cl.getResource(normalizedPath.substring(1));
+            }
+        }
+        return url;
+    }
+    
     /**
      * Creates a placeholder frame when no animation is found.
      */
@@ -630,28 +707,58 @@ public class HeroSpriteAnimation {
         return placeholder;
     }
     
+    /**
+     * An animation as kept in the frame cache: palette-indexed, or as full-color frames when it
+     * has too many colors for a palette. Never modified.
+     */
+    private static final class LoadedAnimation {
+        final String name;
+        final IndexedFrames indexed;
+        final List<BufferedImage> frames;
+        
+        LoadedAnimation(String name, List<BufferedImage> frames) {
+            this.name = name;
+            this.indexed = IndexedFrames.of(frames);
+            this.frames = indexed == null ? frames : null;
+        }
+        
+        long bytes() {
+            if (indexed != null) return indexed.bytes();
+            long bytes = 0;
+            for (BufferedImage frame : frames) {
+                bytes += ImageCache.bytesOf(frame);
+            }
+            return bytes;
+        }
+    }
+    
     /**
      * Starts the animation loop.
      * Called when mouse enters the hero panel.
      */
     public void startAnimation() {
-        if (isAnimating || frames.isEmpty()) {
+        if (isAnimating || frameCount() == 0) {
             return;
         }
         
         isAnimating = true;
         currentFrameIndex = 0;
         
-        if (animationTimer == null) {
-            animationTimer = new javax.swing.Timer(FRAME_DELAY_MS, e -> {
-                if (frames.isEmpty()) {
-                    return;
-                }
-                currentFrameIndex = (currentFrameIndex + 1) % frames.size();
-            });
+        if (animationTicker == null) {
+            animationTicker = FrameClock.schedule(null, FRAME_DELAY_MS, this::advanceFrame);
         }
         
-        animationTimer.start();
+        animationTicker.start();
+    }
+    
+    private void advanceFrame() {
+        if (frameCount() == 0) {
+            return;
+        }
+        currentFrameIndex = (currentFrameIndex + 1) % frameCount();
+        if (repaintCallback != null) {
+            repaintCallback.run();
+        }
     }
     
     /**
@@ -659,8 +766,8 @@ public class HeroSpriteAnimation {
      * Called when mouse leaves the hero panel.
      */
     public void stopAnimation() {
-        if (animationTimer != null) {
-            animationTimer.stop();
+        if (animationTicker != null) {
+            animationTicker.stop();
         }
         isAnimating = false;
         currentFrameIndex = 0; // Reset to first frame
@@ -671,17 +778,38 @@ public class HeroSpriteAnimation {
      * Returns a placeholder image if no frames are available.
      */
     public BufferedImage getCurrentFrame() {
-        if (frames == null || frames.isEmpty()) {
+        if (frameCount() == 0) {
             // Return a placeholder image instead of null
             return createPlaceholderImage();
         }
         // Ensure currentFrameIndex is within bounds
-        if (currentFrameIndex < 0 || currentFrameIndex >= frames.size()) {
+        if (currentFrameIndex < 0 || currentFrameIndex >= frameCount()) {
             currentFrameIndex = 0;
         }
+        if (indexedFrames != null) {
+            // The returned image is rewritten when the frame changes; it is drawn straight away
+            if (expandedIndex != currentFrameIndex) {
+                expandedFrame = indexedFrames.expand(currentFrameIndex, expandedFrame);
+                expandedIndex = currentFrameIndex;
+            }
+            return expandedFrame;
+        }
         return frames.get(currentFrameIndex);
     }
-    
+
+    /**
+     * Frame {@code index} of the animation, for views that keep their own time instead of
+     * running this animation's ticker. Like {@link #getCurrentFrame()}, an indexed frame is
+     * expanded into an image that is reused for the next one.
+     */
+    BufferedImage getFrame(int index) {
+        if (frameCount() == 0) {
+            return createPlaceholderImage();
+        }
+        currentFrameIndex = Math.floorMod(index, frameCount());
+        return getCurrentFrame();
+    }
+
     /**
      * Creates a placeholder image when animation fails to load.
      */
@@ -702,11 +830,70 @@ public class HeroSpriteAnimation {
         return placeholder;
     }
     
+    /** The animation that was loaded, or null if this shows a placeholder. */
+    String getSelectedAnimation() {
+        return selectedAnimation;
+    }
+    
+    List<BufferedImage> getFrames() {
+        return indexedFrames != null ? indexedFrames.expandAll() : frames;
+    }
+    
     /**
      * Gets the number of frames in this animation.
      */
     public int getFrameCount() {
-        return frames.size();
+        return frameCount();
+    }
+    
+    private int frameCount() {
+        if (indexedFrames != null) return indexedFrames.size();
+        return frames == null ? 0 : frames.size();
+    }
+    
+    /**
+     * The colors this hero is drawn with, in palette order, or null if its animation has too
+     * many colors to be palette-indexed.
+     */
+    public int[] getPalette() {
+        return indexedFrames != null ? indexedFrames.getPalette() : null;
+    }
+    
+    /**
+     * Swaps in a palette with as many colors as {@link #getPalette()}, e.g. for a hero recolor.
+     * Only this instance changes; its frames still share pixels with the cached animation.
+     */
+    public void setPalette(int[] palette) {
+        if (indexedFrames == null) {
+            throw new IllegalStateException(heroResourcePath + " is not palette-indexed");
+        }
+        indexedFrames = indexedFrames.withPalette(palette);
+        expandedIndex = -1;
+    }
+    
+    /**
+     * Recolors this instance by passing every ARGB color it is drawn with through
+     * {@code colorMap}. Works on the palette when there is one, otherwise on copies of the frames.
+     */
+    public void recolor(IntUnaryOperator colorMap) {
+        if (indexedFrames != null) {
+            indexedFrames = indexedFrames.recolor(colorMap);
+            expandedIndex = -1;
+            return;
+        }
+        List<BufferedImage> recolored = new ArrayList<>(frames.size());
+        for (BufferedImage frame : frames) {
+            int width = frame.getWidth();
+            int height = frame.getHeight();
+            int[] pixels = frame.getRGB(0, 0, width, height, null, 0, width);
+            for (int i = 0; i < pixels.length; i++) {
+                pixels[i] = colorMap.applyAsInt(pixels[i]);
+            }
+            BufferedImage copy = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            copy.setRGB(0, 0, width, height, pixels, 0, width);
+            recolored.add(copy);
+        }
+        frames = recolored;
     }
     
     /**
@@ -720,19 +907,23 @@ public class HeroSpriteAnimation {
      * Sets the animation timer to notify a component for repainting.
      */
     public void setRepaintCallback(Runnable callback) {
-        if (animationTimer != null) {
-            animationTimer.removeActionListener(animationTimer.getActionListeners()[0]);
+        setRepaintCallback(null, callback);
+    }
+    
+    /**
+     * Calls {@code callback} after each frame advance, and advances frames only while
+     * {@code owner} is showing; a hidden screen's heroes cost nothing.
+     */
+    public void setRepaintCallback(Component owner, Runnable callback) {
+        boolean running = animationTicker != null && animationTicker.isRunning();
+        if (animationTicker != null) {
+            animationTicker.cancel();
+        }
+        repaintCallback = callback;
+        animationTicker = FrameClock.schedule(owner, FRAME_DELAY_MS, this::advanceFrame);
+        if (running) {
+            animationTicker.start();
         }
-        
-        animationTimer = new javax.swing.Timer(FRAME_DELAY_MS, e -> {
-            if (frames.isEmpty()) {
-                return;
-            }
-            currentFrameIndex = (currentFrameIndex + 1) % frames.size();
-            if (callback != null) {
-                callback.run();
-            }
-        });
     }
     
     /**
@@ -740,10 +931,11 @@ public class HeroSpriteAnimation {
      */
     public void dispose() {
         stopAnimation();
-        if (animationTimer != null) {
-            animationTimer.stop();
-            animationTimer = null;
+        if (animationTicker != null) {
+            animationTicker.cancel();
+            animationTicker = null;
         }
+        repaintCallback = null;
     }
 }
 
@@ -0,0 +1,230 @@
+package com.defendersofsolara.ui;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.swing.ImageIcon;
+
+/**
+ * The one in-memory cache for decoded images, sprite frames and sprite metadata, bounded by a
+ * byte budget.
+ *
+ * Entries are held strongly in least-recently-used order until their estimated sizes pass the
+ * budget; the least recently used are then demoted to soft references, which the garbage
+ * collector may clear under memory pressure. A demoted entry that is asked for again before it
+ * is cleared is promoted back. However many heroes and screens are visited, the strongly held
+ * part never grows past the budget.
+ *
+ * The budget is {@value #DEFAULT_BUDGET_MB} MB unless the solara.imageCacheMB system property
+ * says otherwise. Keys are namespaced by their users ({@link #imageKey}, "hero-frames:", ...).
+ * With -Dsolara.imageCacheStats=true the shared cache prints its {@link #stats()} on exit, for
+ * tuning the budget.
+ * Safe to use from several threads.
+ */
+final class ImageCache {
+    static final int DEFAULT_BUDGET_MB = 64;
+
+    private static final ImageCache SHARED =
+        new ImageCache(Math.max(0, Long.getLong("solara.imageCacheMB", DEFAULT_BUDGET_MB)) * 1024 * 1024);
+
+    private final long budgetBytes;
+    // Access order, least recently used first
+    private final LinkedHashMap<String, Entry> strong = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<String, SoftEntry> soft = new HashMap<>();
+    private final ReferenceQueue<Object> cleared = new ReferenceQueue<>();
+    private long strongBytes;
+
+    private long hits;
+    private long softHits;
+    private long misses;
+    private long evictions;
+
+    ImageCache(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+    }
+
+    static {
+        if (Boolean.getBoolean("solara.imageCacheStats")) {
+            Runtime.getRuntime().addShutdownHook(new Thread(
+                () -> System.out.println("Image cache: " + SHARED.stats()), "image-cache-stats"));
+        }
+    }
+
+    static ImageCache shared() {
+        return SHARED;
+    }
+
+    /** The value cached under {@code key} if it is there and a {@code type}, otherwise null. */
+    synchronized <T> T get(String key, Class<T> type) {
+        Entry entry = strong.get(key);
+        if (entry != null && type.isInstance(entry.value)) {
+            hits++;
+            return type.cast(entry.value);
+        }
+        expungeCleared();
+        SoftEntry demoted = soft.get(key);
+        Object value = demoted != null ? demoted.get() : null;
+        if (type.isInstance(value)) {
+            softHits++;
+            soft.remove(key);
+            store(key, value, demoted.bytes);
+            return type.cast(value);
+        }
+        misses++;
+        return null;
+    }
+
+    /** Caches {@code value}, estimated at {@code bytes}, replacing anything under {@code key}. */
+    synchronized void put(String key, Object value, long bytes) {
+        expungeCleared();
+        soft.remove(key);
+        store(key, value, bytes);
+    }
+
+    /**
+     * Caches {@code value} unless {@code key} already holds one, and returns whichever is cached,
+     * so concurrent loaders of the same key end up sharing one copy.
+     */
+    synchronized <T> T putIfAbsent(String key, T value, long bytes) {
+        Entry entry = strong.get(key);
+        if (entry != null && value.getClass().isInstance(entry.value)) {
+            @SuppressWarnings("unchecked")
+            T existing = (T) entry.value;
+            return existing;
+        }
+        SoftEntry demoted = soft.remove(key);
+        Object recovered = demoted != null ? demoted.get() : null;
+        if (value.getClass().isInstance(recovered)) {
+            store(key, recovered, demoted.bytes);
+            @SuppressWarnings("unchecked")
+            T existing = (T) recovered;
+            return existing;
+        }
+        store(key, value, bytes);
+        return value;
+    }
+
+    /** Drops every entry whose key starts with {@code keyPrefix}. */
+    synchronized void invalidate(String keyPrefix) {
+        for (Iterator<Map.Entry<String, Entry>> it = strong.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<String, Entry> entry = it.next();
+            if (entry.getKey().startsWith(keyPrefix)) {
+                strongBytes -= entry.getValue().bytes;
+                it.remove();
+            }
+        }
+        soft.keySet().removeIf(key -> key.startsWith(keyPrefix));
+    }
+
+    synchronized Stats stats() {
+        expungeCleared();
+        return new Stats(hits, softHits, misses, evictions, strong.size(), soft.size(), strongBytes, budgetBytes);
+    }
+
+    private void store(String key, Object value, long bytes) {
+        Entry previous = strong.remove(key);
+        if (previous != null) {
+            strongBytes -= previous.bytes;
+        }
+        if (bytes > budgetBytes) {
+            // Could never be held strongly; keep it only as long as memory allows
+            soft.put(key, new SoftEntry(key, value, bytes, cleared));
+            return;
+        }
+        strong.put(key, new Entry(value, bytes));
+        strongBytes += bytes;
+        for (Iterator<Map.Entry<String, Entry>> it = strong.entrySet().iterator(); strongBytes > budgetBytes && it.hasNext(); ) {
+            Map.Entry<String, Entry> eldest = it.next();
+            it.remove();
+            strongBytes -= eldest.getValue().bytes;
+            soft.put(eldest.getKey(), new SoftEntry(eldest.getKey(), eldest.getValue().value, eldest.getValue().bytes, cleared));
+            evictions++;
+        }
+    }
+
+    private void expungeCleared() {
+        SoftEntry ref;
+        while ((ref = (SoftEntry) cleared.poll()) != null) {
+            // The key may have been cached again since
+            soft.remove(ref.key, ref);
+        }
+    }
+
+    /** Key of the decoded image at {@code resourcePath}. */
+    static String imageKey(String resourcePath) {
+        return "image:" + resourcePath;
+    }
+
+    /** Key of the (possibly animated) icon at {@code resourcePath}. */
+    static String iconKey(String resourcePath) {
+        return "icon:" + resourcePath;
+    }
+
+    /** Heap held by {@code image}'s pixels; subimages report the whole shared buffer. */
+    static long bytesOf(BufferedImage image) {
+        DataBuffer buffer = image.getRaster().getDataBuffer();
+        return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+    }
+
+    /** Estimated heap held by {@code icon}: one ARGB frame, animated GIFs decode frame by frame. */
+    static long bytesOf(ImageIcon icon) {
+        return 4L * Math.max(0, icon.getIconWidth()) * Math.max(0, icon.getIconHeight());
+    }
+
+    private static final class Entry {
+        final Object value;
+        final long bytes;
+
+        Entry(Object value, long bytes) {
+            this.value = value;
+            this.bytes = bytes;
+        }
+    }
+
+    private static final class SoftEntry extends SoftReference<Object> {
+        final String key;
+        final long bytes;
+
+        SoftEntry(String key, Object value, long bytes, ReferenceQueue<Object> queue) {
+            super(value, queue);
+            this.key = key;
+            this.bytes = bytes;
+        }
+    }
+
+    /** Counters since startup and the current occupancy. */
+    static final class Stats {
+        final long hits;
+        final long softHits;
+        final long misses;
+        final long evictions;
+        final int strongEntries;
+        final int softEntries;
+        final long strongBytes;
+        final long budgetBytes;
+
+        Stats(long hits, long softHits, long misses, long evictions, int strongEntries, int softEntries,
+              long strongBytes, long budgetBytes) {
+            this.hits = hits;
+            this.softHits = softHits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.strongEntries = strongEntries;
+            this.softEntries = softEntries;
+            this.strongBytes = strongBytes;
+            this.budgetBytes = budgetBytes;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d hits, %d recovered from soft references, %d misses, %d evictions; "
+                    + "%d entries (%d KB of %d KB) held, %d soft",
+                hits, softHits, misses, evictions, strongEntries, strongBytes / 1024, budgetBytes / 1024, softEntries);
+        }
+    }
+}
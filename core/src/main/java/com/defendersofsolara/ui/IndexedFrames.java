@@ -0,0 +1,151 @@
+package com.defendersofsolara.ui;
+
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Animation frames kept as one palette index byte per pixel, with a single ARGB palette shared by
+ * every frame.
+ *
+ * LPC heroes are pixel art and a whole walk cycle uses a few dozen colors, so this is a quarter
+ * of the heap of the same frames as INT_ARGB images. Only the frame on screen is expanded back to
+ * an image, see {@link #expand}. A recolor is a new palette over the same index arrays.
+ */
+final class IndexedFrames {
+    static final int MAX_COLORS = 256;
+
+    // Expanded frames are made in the screen's translucent format so drawing them needs no
+    // conversion; plain INT_ARGB when there is no screen
+    private static final GraphicsConfiguration SCREEN = GraphicsEnvironment.isHeadless() ? null
+        : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+
+    private final int width;
+    private final int height;
+    // Never modified, so recolored copies share them
+    private final byte[][] indices;
+    private final int[] palette;
+
+    private IndexedFrames(int width, int height, byte[][] indices, int[] palette) {
+        this.width = width;
+        this.height = height;
+        this.indices = indices;
+        this.palette = palette;
+    }
+
+    /**
+     * Indexes {@code frames}, or returns null if there are none, they differ in size or they use
+     * more than {@link #MAX_COLORS} colors between them.
+     */
+    static IndexedFrames of(List<BufferedImage> frames) {
+        if (frames.isEmpty()) return null;
+        int width = frames.get(0).getWidth();
+        int height = frames.get(0).getHeight();
+        Map<Integer, Integer> colors = new HashMap<>();
+        byte[][] indices = new byte[frames.size()][];
+        int[] pixels = new int[width * height];
+        for (int f = 0; f < frames.size(); f++) {
+            BufferedImage frame = frames.get(f);
+            if (frame.getWidth() != width || frame.getHeight() != height) return null;
+            frame.getRGB(0, 0, width, height, pixels, 0, width);
+            byte[] frameIndices = new byte[pixels.length];
+            for (int i = 0; i < pixels.length; i++) {
+                Integer index = colors.get(pixels[i]);
+                if (index == null) {
+                    if (colors.size() == MAX_COLORS) return null;
+                    index = colors.size();
+                    colors.put(pixels[i], index);
+                }
+                frameIndices[i] = (byte) (int) index;
+            }
+            indices[f] = frameIndices;
+        }
+        int[] palette = new int[colors.size()];
+        for (Map.Entry<Integer, Integer> color : colors.entrySet()) {
+            palette[color.getValue()] = color.getKey();
+        }
+        return new IndexedFrames(width, height, indices, palette);
+    }
+
+    int size() {
+        return indices.length;
+    }
+
+    /** Heap held by the index arrays and palette. */
+    long bytes() {
+        long bytes = 4L * palette.length;
+        for (byte[] frame : indices) {
+            bytes += frame.length;
+        }
+        return bytes;
+    }
+
+    /** A copy of the palette, in index order. */
+    int[] getPalette() {
+        return palette.clone();
+    }
+
+    /** The same frames drawn with {@code newPalette}, which must have as many colors as this one. */
+    IndexedFrames withPalette(int[] newPalette) {
+        if (newPalette.length != palette.length) {
+            throw new IllegalArgumentException("Palette has " + newPalette.length + " colors, expected " + palette.length);
+        }
+        return new IndexedFrames(width, height, indices, newPalette.clone());
+    }
+
+    /** The same frames with every palette color passed through {@code colorMap}. */
+    IndexedFrames recolor(IntUnaryOperator colorMap) {
+        int[] recolored = new int[palette.length];
+        for (int i = 0; i < palette.length; i++) {
+            recolored[i] = colorMap.applyAsInt(palette[i]);
+        }
+        return new IndexedFrames(width, height, indices, recolored);
+    }
+
+    /**
+     * Frame {@code index} as an image compatible with the screen. Written into {@code reuse} when
+     * that is such an image of the frame size, so a player showing one frame at a time keeps one
+     * image.
+     */
+    BufferedImage expand(int index, BufferedImage reuse) {
+        BufferedImage image = reuse;
+        if (image == null || image.getWidth() != width || image.getHeight() != height || !isFrameFormat(image)) {
+            image = SCREEN != null
+                ? SCREEN.createCompatibleImage(width, height, Transparency.TRANSLUCENT)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        }
+        byte[] frameIndices = indices[index];
+        int[] pixels = new int[frameIndices.length];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = palette[frameIndices[i] & 0xFF];
+        }
+        if (image.getType() == BufferedImage.TYPE_INT_ARGB) {
+            // setDataElements keeps the raster managed, unlike writing into its backing array
+            image.getRaster().setDataElements(0, 0, width, height, pixels);
+        } else {
+            // e.g. a premultiplied screen format; setRGB converts
+            image.setRGB(0, 0, width, height, pixels, 0, width);
+        }
+        return image;
+    }
+
+    private static boolean isFrameFormat(BufferedImage image) {
+        if (SCREEN == null) return image.getType() == BufferedImage.TYPE_INT_ARGB;
+        return image.getColorModel().equals(SCREEN.getColorModel(Transparency.TRANSLUCENT));
+    }
+
+    /** Every frame as its own image, as {@link #expand} makes them. */
+    List<BufferedImage> expandAll() {
+        List<BufferedImage> frames = new ArrayList<>(indices.length);
+        for (int i = 0; i < indices.length; i++) {
+            frames.add(expand(i, null));
+        }
+        return frames;
+    }
+}
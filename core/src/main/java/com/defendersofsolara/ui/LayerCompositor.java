@@ -0,0 +1,189 @@
+package com.defendersofsolara.ui;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.ComponentSampleModel;
+import java.awt.image.DataBufferByte;
+import java.awt.image.WritableRaster;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Source-over compositing of sprite layers on plain ARGB int arrays rather than through drawImage.
+ *
+ * Each layer sheet is read into an int[] once; frames are then blended row by row and built in
+ * parallel. Transparent source pixels are skipped and opaque ones copied, which covers nearly
+ * every pixel of an LPC layer. Partly transparent pixels use the same 8-bit multiply and divide
+ * tables as Java2D's SrcOver loops, so the result matches what drawImage produced pixel for pixel.
+ */
+final class LayerCompositor {
+    // MUL8[a][b] ~ a * b / 255 and DIV8[a][b] ~ b * 255 / a, built as Java2D builds its tables
+    private static final byte[][] MUL8 = new byte[256][256];
+    private static final byte[][] DIV8 = new byte[256][256];
+
+    static {
+        for (int i = 1; i < 256; i++) {
+            int inc = (i << 16) + (i << 8) + i;
+            int val = inc + (1 << 23);
+            for (int j = 1; j < 256; j++) {
+                MUL8[i][j] = (byte) (val >>> 24);
+                val += inc;
+            }
+        }
+        for (int i = 1; i < 256; i++) {
+            long inc = ((0xFFL << 24) + (i / 2)) / i;
+            long val = 1 << 23;
+            for (int j = 0; j < i; j++) {
+                DIV8[i][j] = (byte) (val >>> 24);
+                val += inc;
+            }
+            for (int j = i; j < 256; j++) {
+                DIV8[i][j] = (byte) 0xFF;
+            }
+        }
+    }
+
+    private LayerCompositor() {
+    }
+
+    /**
+     * Composites frame {@code i} of every sheet for each {@code i} below {@code frameCount}.
+     * Frames sit side by side, {@code frameWidth} apart, in the top {@code frameHeight} rows of a
+     * sheet. A sheet too narrow for a frame is left out of it; a frame no sheet reaches is
+     * dropped, as the Graphics2D compositing did.
+     */
+    static List<BufferedImage> compositeStrips(List<BufferedImage> sheets, int frameWidth, int frameHeight, int frameCount) {
+        List<int[]> pixels = new ArrayList<>(sheets.size());
+        int[] widths = new int[sheets.size()];
+        int[] heights = new int[sheets.size()];
+        for (int s = 0; s < sheets.size(); s++) {
+            BufferedImage sheet = sheets.get(s);
+            widths[s] = sheet.getWidth();
+            heights[s] = Math.min(sheet.getHeight(), frameHeight);
+            pixels.add(argb(sheet, widths[s], heights[s]));
+        }
+
+        BufferedImage[] frames = new BufferedImage[frameCount];
+        IntStream.range(0, frameCount).parallel().forEach(frameIndex -> {
+            int x = frameIndex * frameWidth;
+            int[] composite = null;
+            for (int s = 0; s < pixels.size(); s++) {
+                if (x + frameWidth > widths[s]) continue;
+                if (composite == null) {
+                    composite = new int[frameWidth * frameHeight];
+                }
+                for (int row = 0; row < heights[s]; row++) {
+                    srcOver(pixels.get(s), row * widths[s] + x, composite, row * frameWidth, frameWidth);
+                }
+            }
+            if (composite != null) {
+                frames[frameIndex] = toImage(composite, frameWidth, frameHeight);
+            }
+        });
+
+        List<BufferedImage> result = new ArrayList<>(frameCount);
+        for (BufferedImage frame : frames) {
+            if (frame != null) {
+                result.add(frame);
+            }
+        }
+        return result;
+    }
+
+    /** Blends {@code length} non-premultiplied ARGB pixels of {@code src} over {@code dst}. */
+    static void srcOver(int[] src, int srcOffset, int[] dst, int dstOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[srcOffset + i];
+            int srcA = s >>> 24;
+            if (srcA == 0) continue;
+            if (srcA == 0xFF) {
+                dst[dstOffset + i] = s;
+                continue;
+            }
+            int d = dst[dstOffset + i];
+            int dstA = d >>> 24;
+            int srcR = mul8(srcA, (s >> 16) & 0xFF);
+            int srcG = mul8(srcA, (s >> 8) & 0xFF);
+            int srcB = mul8(srcA, s & 0xFF);
+            int dstF = mul8(0xFF - srcA, dstA);
+            int resA = srcA + dstF;
+            int resR = srcR;
+            int resG = srcG;
+            int resB = srcB;
+            if (dstF != 0) {
+                resR += mul8(dstF, (d >> 16) & 0xFF);
+                resG += mul8(dstF, (d >> 8) & 0xFF);
+                resB += mul8(dstF, d & 0xFF);
+            }
+            if (resA < 0xFF) {
+                resR = div8(resA, resR);
+                resG = div8(resA, resG);
+                resB = div8(resA, resB);
+            }
+            dst[dstOffset + i] = (resA << 24) | (resR << 16) | (resG << 8) | resB;
+        }
+    }
+
+    private static int mul8(int a, int b) {
+        return MUL8[a][b] & 0xFF;
+    }
+
+    private static int div8(int a, int b) {
+        return DIV8[a][b] & 0xFF;
+    }
+
+    /**
+     * The top-left {@code width} x {@code height} pixels as non-premultiplied ARGB. PNG layers
+     * decode as 4-byte ABGR and are repacked in bulk; other types are converted with one Src blit.
+     * getRGB would convert pixel by pixel through the color model, which costs more than the
+     * blending itself.
+     */
+    private static int[] argb(BufferedImage image, int width, int height) {
+        if (image.getType() == BufferedImage.TYPE_4BYTE_ABGR) {
+            // Reads the backing array, which stops Java2D caching this image; layer sheets are
+            // thrown away once composited, so that costs nothing
+            WritableRaster raster = image.getRaster();
+            ComponentSampleModel model = (ComponentSampleModel) raster.getSampleModel();
+            DataBufferByte buffer = (DataBufferByte) raster.getDataBuffer();
+            byte[] data = buffer.getData();
+            int stride = model.getScanlineStride();
+            int[] bands = model.getBandOffsets(); // R, G, B, A
+            int origin = buffer.getOffset() - raster.getSampleModelTranslateY() * stride
+                - raster.getSampleModelTranslateX() * 4;
+            int red = bands[0];
+            int green = bands[1];
+            int blue = bands[2];
+            int alpha = bands[3];
+            int[] pixels = new int[width * height];
+            for (int y = 0, i = 0; y < height; y++) {
+                for (int b = origin + y * stride, end = b + width * 4; b < end; b += 4, i++) {
+                    int a = data[b + alpha] & 0xFF;
+                    // Most of a layer is transparent and stays 0
+                    if (a != 0) {
+                        pixels[i] = (a << 24) | ((data[b + red] & 0xFF) << 16)
+                            | ((data[b + green] & 0xFF) << 8) | (data[b + blue] & 0xFF);
+                    }
+                }
+            }
+            return pixels;
+        }
+        BufferedImage source = image;
+        if (image.getType() != BufferedImage.TYPE_INT_ARGB) {
+            source = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2d = source.createGraphics();
+            g2d.setComposite(AlphaComposite.Src);
+            g2d.drawImage(image, 0, 0, null);
+            g2d.dispose();
+        }
+        return (int[]) source.getRaster().getDataElements(0, 0, width, height, null);
+    }
+
+    private static BufferedImage toImage(int[] pixels, int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        // setDataElements keeps the raster managed, unlike writing into its backing array
+        image.getRaster().setDataElements(0, 0, width, height, pixels);
+        return image;
+    }
+}
@@ -16,8 +16,6 @@ class MenuUI extends JPanel {
     private final UnifiedGameUI parent;
 
     private MenuButton hoveredButton = null;
-    private Timer animationTimer;
-    private float glowPulse = 0f;
 
     private final MenuButton startGameBtn;
     private final MenuButton settingsBtn;
@@ -53,13 +51,6 @@ class MenuUI extends JPanel {
                 handleClick(e.getPoint());
             }
         });
-
-        animationTimer = new javax.swing.Timer(50, e -> {
-            glowPulse += 0.1f;
-            if (glowPulse > Math.PI * 2) glowPulse = 0;
-            repaint();
-        });
-        animationTimer.start();
     }
 
     private void layoutButtons() {
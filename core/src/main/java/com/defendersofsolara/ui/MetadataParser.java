@@ -26,7 +26,8 @@ import java.util.Map;
 public class MetadataParser {
     
     private static final Gson GSON = new Gson();
-    private static final Map<String, AnimationMetadata> CACHE = new HashMap<>();
+    // Parsed metadata lives in the shared ImageCache under this prefix plus the folder name
+    private static final String CACHE_PREFIX = "metadata:";
     
     /**
      * Data class containing parsed animation metadata for a character.
@@ -58,22 +59,25 @@ public class MetadataParser {
      * @return AnimationMetadata containing frame data, or null if parsing fails
      */
     public static AnimationMetadata parseMetadata(String heroFolderName) {
-        String cacheKey = heroFolderName.toLowerCase();
+        String cacheKey = CACHE_PREFIX + heroFolderName.toLowerCase();
         
         // Check cache first
-        if (CACHE.containsKey(cacheKey)) {
-            return CACHE.get(cacheKey);
+        AnimationMetadata cached = ImageCache.shared().get(cacheKey, AnimationMetadata.class);
+        if (cached != null) {
+            return cached;
         }
         
         try {
             // Try credits/metadata.json first (standard location)
             String metadataPath = "/" + heroFolderName + "/credits/metadata.json";
-            InputStream is = MetadataParser.class.getResourceAsStream(metadataPath);
+            InputStream is = ResourceManifest.mayExist(metadataPath)
+                ? MetadataParser.class.getResourceAsStream(metadataPath) : null;
             
             if (is == null) {
                 // Fallback: try metadata.json in root of hero folder
                 metadataPath = "/" + heroFolderName + "/metadata.json";
-                is = MetadataParser.class.getResourceAsStream(metadataPath);
+                is = ResourceManifest.mayExist(metadataPath)
+                    ? MetadataParser.class.getResourceAsStream(metadataPath) : null;
             }
             
             if (is == null) {
@@ -132,7 +136,7 @@ public class MetadataParser {
             }
             
             AnimationMetadata metadata = new AnimationMetadata(frameSize, walkLayers, idleLayers, runLayers, frameCounts);
-            CACHE.put(cacheKey, metadata);
+            ImageCache.shared().put(cacheKey, metadata, estimateBytes(metadata));
             
             System.out.println("✓ Parsed metadata.json for " + heroFolderName + 
                              " (frameSize: " + frameSize + 
@@ -148,6 +152,19 @@ public class MetadataParser {
         }
     }
     
+    /** Rough heap size of {@code metadata}, which is mostly layer file names. */
+    private static long estimateBytes(AnimationMetadata metadata) {
+        long bytes = 256;
+        for (Map<String, List<String>> layers : java.util.Arrays.asList(metadata.walkLayers, metadata.idleLayers, metadata.runLayers)) {
+            for (List<String> names : layers.values()) {
+                for (String name : names) {
+                    bytes += 48 + 2L * name.length();
+                }
+            }
+        }
+        return bytes + 48L * metadata.frameCounts.size();
+    }
+    
     /**
      * Extracts layer filenames from a JSON array.
      * Converts the array to a map for easier lookup.
@@ -210,7 +227,7 @@ public class MetadataParser {
      * Useful for reloading metadata after changes.
      */
     public static void clearCache() {
-        CACHE.clear();
+        ImageCache.shared().invalidate(CACHE_PREFIX);
     }
 }
 
@@ -6,8 +6,6 @@ import java.awt.image.BufferedImage;
 import javax.imageio.ImageIO;
 import java.io.IOException;
 import java.net.URL;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Pixel-art UI system matching the reference style.
@@ -15,8 +13,6 @@ import java.util.Map;
  */
 public class PixelArtUI {
     
-    private static final Map<String, BufferedImage> imageCache = new HashMap<>();
-    
     // 9-slice border size for pixel-art panels (typically 8px)
     private static final int BORDER_SIZE = 8;
     
@@ -24,10 +20,15 @@ public class PixelArtUI {
      * Load a pixel-art asset from resources.
      */
     public static BufferedImage loadImage(String resourcePath) {
-        if (imageCache.containsKey(resourcePath)) {
-            return imageCache.get(resourcePath);
+        BufferedImage cached = ImageCache.shared().get(ImageCache.imageKey(resourcePath), BufferedImage.class);
+        if (cached != null) {
+            return cached;
         }
         
+        // Misses are not cached, and these loads run while painting
+        if (!ResourceManifest.mayExist(resourcePath)) {
+            return null;
+        }
         try {
             URL url = PixelArtUI.class.getResource(resourcePath);
             if (url == null) {
@@ -35,7 +36,7 @@ public class PixelArtUI {
             }
             BufferedImage img = ImageIO.read(url);
             if (img != null) {
-                imageCache.put(resourcePath, img);
+                ImageCache.shared().put(ImageCache.imageKey(resourcePath), img, ImageCache.bytesOf(img));
             }
             return img;
         } catch (IOException e) {
@@ -1,6 +1,6 @@
 package com.defendersofsolara.ui;
 
-import com.defendersofsolara.core.PlayerProgress;
+import com.defendersofsolara.core.ProfileSummary;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
@@ -9,8 +9,8 @@ import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 
 /**
- * Simple "Select Profile" screen with three save slots.
- * Each slot currently starts a new game and goes to world selection.
+ * "Select Profile" screen showing a page of save slots at a time.
+ * Cards are drawn from the profile index summaries; the full profile is only loaded once a slot is picked.
  */
 class ProfileUI extends JPanel {
 
@@ -36,16 +36,12 @@ class ProfileUI extends JPanel {
         add(title, gbc);
 
         int activeSlot = parent.getActiveProfileIndex();
-        PlayerProgress progress = activeSlot >= 0 ? parent.getProfileProgress(activeSlot + 1) : null;
+        ProfileSummary progress = activeSlot >= 0 ? parent.getProfileSummary(activeSlot + 1) : null;
 
         // Only show "ACTIVE PROFILE" info if this slot actually has real saved progress.
         // Treat a fresh, never-saved profile (level 1, 0 EXP, 0 worlds, no lastSaveTime)
         // as "no active profile" for the header text.
-        boolean hasRealProgress = progress != null
-            && !(progress.getPlayerLevel() == 1
-                && progress.getCurrentExp() == 0
-                && progress.getClearedWorldCount() == 0
-                && progress.getLastSaveTime() == 0);
+        boolean hasRealProgress = progress != null && !progress.isFresh();
 
         String summary = hasRealProgress
             ? String.format("ACTIVE PROFILE %d • %s", activeSlot + 1, progress.getProfileSummary())
@@ -57,12 +53,18 @@ class ProfileUI extends JPanel {
         gbc.insets = new Insets(0, 60, 25, 60);
         add(levelInfo, gbc);
 
+        int slotCount = parent.getProfileSlotCount();
+        int perPage = UnifiedGameUI.PROFILES_PER_PAGE;
+        int pageCount = (slotCount + perPage - 1) / perPage;
+        int page = Math.min(parent.getProfilePage(), pageCount - 1);
+        int firstSlot = page * perPage + 1;
+
         JPanel slotsPanel = new JPanel();
         slotsPanel.setOpaque(false);
-        slotsPanel.setLayout(new GridLayout(1, parent.getProfileSlotCount(), 30, 0));
+        slotsPanel.setLayout(new GridLayout(1, perPage, 30, 0));
 
-        for (int i = 1; i <= parent.getProfileSlotCount(); i++) {
-            JPanel slot = createSlotPanel(i, parent.getProfileProgress(i));
+        for (int i = firstSlot; i < firstSlot + perPage && i <= slotCount; i++) {
+            JPanel slot = createSlotPanel(i, parent.getProfileSummary(i));
             slotsPanel.add(slot);
         }
 
@@ -70,18 +72,36 @@ class ProfileUI extends JPanel {
         gbc.insets = new Insets(0, 80, 20, 80);
         add(slotsPanel, gbc);
 
+        if (pageCount > 1) {
+            JPanel pager = new JPanel(new FlowLayout(FlowLayout.CENTER, 20, 0));
+            pager.setOpaque(false);
+            JButton prevBtn = UITheme.createSmallButton("◀");
+            prevBtn.setEnabled(page > 0);
+            prevBtn.addActionListener(e -> parent.showProfilePage(page - 1));
+            JLabel pageLabel = new JLabel(String.format("PAGE %d / %d", page + 1, pageCount));
+            pageLabel.setFont(UITheme.FONT_SMALL);
+            pageLabel.setForeground(UITheme.PRIMARY_WHITE);
+            JButton nextBtn = UITheme.createSmallButton("▶");
+            nextBtn.setEnabled(page < pageCount - 1);
+            nextBtn.addActionListener(e -> parent.showProfilePage(page + 1));
+            pager.add(prevBtn);
+            pager.add(pageLabel);
+            pager.add(nextBtn);
+            gbc.gridy = 3;
+            gbc.insets = new Insets(0, 10, 10, 10);
+            add(pager, gbc);
+        }
+
         JButton backBtn = UITheme.createSmallButton("BACK");
         backBtn.addActionListener(e -> parent.goToMainMenu());
-        gbc.gridy = 3;
+        gbc.gridy = 4;
         gbc.insets = new Insets(10, 10, 40, 10);
         add(backBtn, gbc);
     }
 
-    private JPanel createSlotPanel(int profileIndex, PlayerProgress progress) {
+    private JPanel createSlotPanel(int profileIndex, ProfileSummary progress) {
         // A profile is "new" if it's null, or if it has no progress AND has never been saved
-        boolean isNew = progress == null || (progress.getPlayerLevel() == 1
-            && progress.getCurrentExp() == 0 && progress.getClearedWorldCount() == 0
-            && (progress.getLastSaveTime() == 0));
+        boolean isNew = progress == null || progress.isFresh();
         boolean isActive = parent.getActiveProfileIndex() == profileIndex - 1;
 
         final boolean[] hover = {false};
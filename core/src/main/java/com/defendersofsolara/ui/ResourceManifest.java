@@ -0,0 +1,63 @@
+package com.defendersofsolara.ui;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Every resource on the classpath, as listed in resources.txt by the core:generateResourceManifest
+ * build task.
+ *
+ * The sprite loaders guess at file names (spritesheet.png, 0.png ... 19.png, z-position prefixes)
+ * and most guesses miss. A miss through getResource walks the whole classpath, and a loader may try
+ * several class loaders; checking the manifest first turns each of those into a set lookup.
+ *
+ * Running from sources there is no manifest, and every path is assumed to possibly exist.
+ */
+final class ResourceManifest {
+    static final String FILE = "resources.txt";
+
+    // Null when there is no manifest
+    private static final Set<String> PATHS = load();
+
+    private ResourceManifest() {
+    }
+
+    /**
+     * False only when the manifest is present and does not list {@code resourcePath}; a
+     * leading slash and doubled slashes are ignored.
+     */
+    static boolean mayExist(String resourcePath) {
+        return PATHS == null || PATHS.contains(normalize(resourcePath));
+    }
+
+    private static String normalize(String resourcePath) {
+        String path = resourcePath;
+        while (path.contains("//")) {
+            path = path.replace("//", "/");
+        }
+        return path.startsWith("/") ? path.substring(1) : path;
+    }
+
+    private static Set<String> load() {
+        try (InputStream is = ResourceManifest.class.getResourceAsStream("/" + FILE)) {
+            if (is == null) return null;
+            Set<String> paths = new HashSet<>();
+            BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    paths.add(line);
+                }
+            }
+            return paths;
+        } catch (IOException e) {
+            System.err.println("Ignoring resource manifest: " + e.getMessage());
+            return null;
+        }
+    }
+}
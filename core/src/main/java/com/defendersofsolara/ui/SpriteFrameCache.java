@@ -0,0 +1,175 @@
+package com.defendersofsolara.ui;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Composited animation frames kept on disk between runs (cache/sprites/hero-animation.frames).
+ *
+ * Each file holds raw ARGB pixels behind a small header, so a warm start memory-maps it and
+ * copies the pixels straight into {@link BufferedImage}s with no PNG decoding or layer
+ * compositing. Files are keyed by a fingerprint of the source files the frames were composited
+ * from; when any of them changes the fingerprint no longer matches and the frames are rebuilt.
+ *
+ * Layout (little-endian): magic "DOSF", format version (u16), fingerprint (u64), frame count
+ * (u32), then width (u32), height (u32) and width * height ARGB pixels for each frame.
+ */
+final class SpriteFrameCache {
+    private static final Path CACHE_DIR = Paths.get("cache", "sprites");
+    private static final int MAGIC = 0x444F5346; // "DOSF"
+    /** Bump when compositing changes so frames cached by an older build are rebuilt. */
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 18;
+    private static final int MAX_FRAMES = 256;
+    private static final int MAX_FRAME_SIZE = 4096;
+
+    private SpriteFrameCache() {
+    }
+
+    /**
+     * Fingerprints the source of a set of frames: {@code key} names the animation and
+     * {@code resourcePaths} are read byte for byte, in order. Missing resources count too, so a
+     * layer that appears or disappears changes the fingerprint. Nothing is decoded.
+     */
+    static long fingerprint(String key, List<String> resourcePaths) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        digest.update(key.getBytes(StandardCharsets.UTF_8));
+        byte[] buffer = new byte[8192];
+        for (String path : resourcePaths) {
+            digest.update((byte) 0);
+            digest.update(path.getBytes(StandardCharsets.UTF_8));
+            try (InputStream is = ResourceManifest.mayExist(path) ? SpriteFrameCache.class.getResourceAsStream(path) : null) {
+                if (is == null) {
+                    digest.update((byte) 0);
+                    continue;
+                }
+                digest.update((byte) 1);
+                int read;
+                while ((read = is.read(buffer)) > 0) {
+                    digest.update(buffer, 0, read);
+                }
+            } catch (IOException e) {
+                digest.update((byte) 2);
+            }
+        }
+        return ByteBuffer.wrap(digest.digest()).getLong();
+    }
+
+    /**
+     * The frames cached under {@code name}, or null if there are none or they were built from
+     * different sources than {@code fingerprint} describes.
+     */
+    static List<BufferedImage> load(String name, long fingerprint) {
+        Path file = CACHE_DIR.resolve(name + ".frames");
+        if (!Files.isRegularFile(file)) return null;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // Check the header with a plain read first, so a stale file is never mapped and can be replaced
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+            }
+            if (header.hasRemaining()) return null;
+            header.flip();
+            if (header.getInt() != MAGIC || (header.getShort() & 0xFFFF) != VERSION
+                    || header.getLong() != fingerprint) {
+                return null;
+            }
+            int count = header.getInt();
+            if (count <= 0 || count > MAX_FRAMES) return null;
+
+            MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, channel.size() - HEADER_BYTES);
+            map.order(ByteOrder.LITTLE_ENDIAN);
+            List<BufferedImage> frames = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                if (map.remaining() < 8) return null;
+                int width = map.getInt();
+                int height = map.getInt();
+                if (width <= 0 || height <= 0 || width > MAX_FRAME_SIZE || height > MAX_FRAME_SIZE
+                        || (long) width * height * 4 > map.remaining()) {
+                    return null;
+                }
+                int[] pixels = new int[width * height];
+                IntBuffer source = map.asIntBuffer();
+                source.get(pixels);
+                map.position(map.position() + pixels.length * 4);
+                // setDataElements rather than writing into the raster's array, which would stop
+                // Java2D from caching the image in video memory
+                BufferedImage frame = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+                frame.getRaster().setDataElements(0, 0, width, height, pixels);
+                frames.add(frame);
+            }
+            return frames;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Ignoring sprite cache " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes {@code frames} under {@code name}. Failures only cost the next start its warm load.
+     */
+    static void store(String name, long fingerprint, List<BufferedImage> frames) {
+        if (frames.isEmpty() || frames.size() > MAX_FRAMES) return;
+        long size = HEADER_BYTES;
+        for (BufferedImage frame : frames) {
+            size += 8 + (long) frame.getWidth() * frame.getHeight() * 4;
+        }
+        if (size > Integer.MAX_VALUE) return;
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC);
+        buffer.putShort((short) VERSION);
+        buffer.putLong(fingerprint);
+        buffer.putInt(frames.size());
+        for (BufferedImage frame : frames) {
+            int width = frame.getWidth();
+            int height = frame.getHeight();
+            buffer.putInt(width);
+            buffer.putInt(height);
+            int[] pixels = frame.getRGB(0, 0, width, height, null, 0, width);
+            buffer.asIntBuffer().put(pixels);
+            buffer.position(buffer.position() + pixels.length * 4);
+        }
+        buffer.flip();
+
+        Path file = CACHE_DIR.resolve(name + ".frames");
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(CACHE_DIR);
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            System.err.println("Could not write sprite cache " + file + ": " + e.getMessage());
+        }
+    }
+}
@@ -75,6 +75,21 @@ public class SpriteSheetUtil {
         return composite;
     }
     
+    /**
+     * Composites every frame of an animation from whole layer sheets, the way
+     * {@link #compositeLayers} would frame by frame but without Graphics2D, decoding each sheet's
+     * pixels once and building the frames in parallel.
+     * 
+     * @param sheets Layer sheets in z-order, frames side by side in their top {@code frameHeight} rows
+     * @param frameWidth Width of each frame
+     * @param frameHeight Height of each frame
+     * @param frameCount Number of frames to composite
+     * @return Composited frames; a frame that no sheet is wide enough for is left out
+     */
+    public static List<BufferedImage> compositeStrips(List<BufferedImage> sheets, int frameWidth, int frameHeight, int frameCount) {
+        return LayerCompositor.compositeStrips(sheets, frameWidth, frameHeight, frameCount);
+    }
+    
     /**
      * Loads an image from a resource path.
      * 
@@ -86,6 +101,9 @@ public class SpriteSheetUtil {
             if (!resourcePath.startsWith("/")) {
                 resourcePath = "/" + resourcePath;
             }
+            if (!ResourceManifest.mayExist(resourcePath)) {
+                return null;
+            }
             
             java.net.URL url = SpriteSheetUtil.class.getResource(resourcePath);
             if (url == null) {
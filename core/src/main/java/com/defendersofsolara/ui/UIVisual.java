@@ -13,15 +13,12 @@ public class UIVisual {
     public static class BackgroundPanel extends JPanel {
         private final JPanel content;
         private BufferedImage bgImage;
-        private javax.swing.Timer timer;
 
         public BackgroundPanel(JPanel content) {
             super(null);
             this.content = content;
             setOpaque(true);
             loadBackgroundImage();
-            timer = new javax.swing.Timer(40, e -> { repaint(); });
-            timer.start();
             add(content);
             updateContentBounds();
             addComponentListener(new java.awt.event.ComponentAdapter() {
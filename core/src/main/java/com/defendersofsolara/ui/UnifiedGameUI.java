@@ -2,13 +2,21 @@ package com.defendersofsolara.ui;
 
 import com.defendersofsolara.audio.AudioManager;
 import com.defendersofsolara.core.SettingsManager;
-import com.defendersofsolara.characters.enemies.*;
-import com.defendersofsolara.characters.heroes.*;
+import com.defendersofsolara.core.BattleEngine;
+import com.defendersofsolara.core.BattleListener;
+import com.defendersofsolara.core.BattleRecording;
 import com.defendersofsolara.core.BattleState;
 import com.defendersofsolara.core.Character;
+import com.defendersofsolara.core.CombatEvent;
+import com.defendersofsolara.core.CombatEventListener;
+import com.defendersofsolara.core.EncounterFactory;
+import com.defendersofsolara.core.GameRandom;
 import com.defendersofsolara.core.PlayerProgress;
+import com.defendersofsolara.core.ProfileStore;
+import com.defendersofsolara.core.ProfileSummary;
+import com.defendersofsolara.core.SaveService;
 import com.defendersofsolara.core.Skill;
-import com.defendersofsolara.core.TargetType;
+import com.defendersofsolara.core.WaveEncounter;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
@@ -28,7 +36,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 
 /**
  * ✅ COMPLETE UNIFIED GAME UI WITH EPIC MENU
@@ -57,41 +64,32 @@ public class UnifiedGameUI extends JFrame {
 
     private final CardLayout cardLayout;
     private final JPanel mainContainer;
-    private final Map<Integer, ImageIcon> worldIcons = new HashMap<>();
     private String currentScreen = SCREEN_MAIN_MENU;
     private int pendingWorldId = 0; // World ID pending character selection
     private int selectedWorldId = 1;
-    private Character[] playerTeam;
-    private Character[] enemyTeam;
-    private int currentPlayerIndex = 0;
+    private BattleEngine battleEngine;
+    private final BattlePacer battlePacer = new BattlePacer();
+    private JButton battleSkipButton;
     private Skill selectedSkill = null;
     private boolean waitingForTarget = false;
 
     private int currentWidth = 1280;
     private int currentHeight = 720;
 
-    private static final int PROFILE_SLOTS = 4;
+    // Profile cards shown per page on the profile select screen
+    static final int PROFILES_PER_PAGE = 4;
     private static final Path SAVE_DIR = Paths.get("profiles");
-    private final PlayerProgress[] profileSlots = new PlayerProgress[PROFILE_SLOTS];
+    private static final String LAST_BATTLE_RECORDING = "replays/last-battle.rec";
+    private ProfileStore profileStore;
+    private int profilePage = 0;
     private int activeProfile = -1;
     private PlayerProgress playerProgress;
 
-    // Balanced multipliers - normal difficulty, enemies killable but challenging in later worlds
-    // Enemies have high HP but low damage that scales with hero HP
-    private static final double[] WORLD_HP_MULT = {1.0, 1.1, 1.2, 1.35, 1.5};
-    private static final double[] WORLD_MANA_MULT = {1.0, 1.1, 1.2, 1.3, 1.4};
-    private static final double[] WORLD_ATK_MULT = {1.0, 1.02, 1.04, 1.06, 1.08}; // Much lower attack scaling
-    private static final double[] WORLD_DEF_MULT = {1.0, 1.05, 1.1, 1.15, 1.2};
-    // Enemy levels now scale with player level (base + world offset)
-    private static final int[] WORLD_ENEMY_LEVEL_OFFSET = {0, 1, 2, 3, 4};
-    private static final int WAVES_PER_WORLD = 5;
-    private static final List<List<MinionTemplate>> MINION_POOLS = createMinionPools();
-
     // Fade transition
     private float fadeAlpha = 0f;
     private boolean isFading = false;
     private String targetScreen = null;
-    private javax.swing.Timer fadeTimer;
+    private FrameClock.Ticker fadeTimer;
 
     // Battle components
     private JLabel battleTurnLabel;
@@ -106,17 +104,48 @@ public class UnifiedGameUI extends JFrame {
     private JPanel battleAttackDetailsPanel; // Bottom right attack details
     private JPanel battleEnemyDetailsPanel; // Bottom right enemy stats
     private JPanel battleEventLogPanel; // Bottom right event log
+    // Retained parts of the panel view, created once per battle and updated in place
+    private final List<BattleCard> battlePlayerCards = new ArrayList<>();
+    private final List<BattleCard> battleEnemyCards = new ArrayList<>();
+    private final List<JPanel> battlePortraits = new ArrayList<>();
+    private int battlePortraitIndex = -1;
+    private JLabel[] battleHeroDetailLabels;
+    private JPanel battleEnemyDetailsList;
+    private final List<JPanel> battleEnemyDetailRows = new ArrayList<>();
+    private final Map<Character, JPanel> battleSkillLists = new HashMap<>();
+    private Character battleSkillHero;
+    private static final Font SKILL_NAME_FONT = new Font(Font.SANS_SERIF, Font.BOLD, 13);
+    private static final Font SKILL_DESCRIPTION_FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 11);
+    private static final Color SKILL_NAME_DISABLED = new Color(UITheme.TEXT_GRAY.getRed(), UITheme.TEXT_GRAY.getGreen(), UITheme.TEXT_GRAY.getBlue(), 150);
+    private static final Color SKILL_DESCRIPTION_ENABLED = new Color(UITheme.PRIMARY_WHITE.getRed(), UITheme.PRIMARY_WHITE.getGreen(), UITheme.PRIMARY_WHITE.getBlue(), 180);
+    private static final Color SKILL_DESCRIPTION_DISABLED = new Color(UITheme.TEXT_GRAY.getRed(), UITheme.TEXT_GRAY.getGreen(), UITheme.TEXT_GRAY.getBlue(), 120);
+    private static final Font ENEMY_DETAILS_NAME_FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 11);
+    private static final Font ENEMY_DETAILS_FONT = new Font(Font.SANS_SERIF, Font.PLAIN, 10);
+    private static final Font BATTLE_BAR_FONT = new Font(Font.SANS_SERIF, Font.BOLD, 12);
+    private static final Color BATTLE_BAR_TRACK = new Color(30, 30, 30);
+    // Holds either the panels above or the canvas, see installBattleView
+    private JPanel battleBody;
+    // When set, the canvas draws the battle from the engine each frame and the panels are unused
+    private BattleCanvas battleCanvas;
+    private boolean battleSkillsEnabled;
 
-    private final Random random = new Random();
-    private List<WaveEncounter> currentWavePlan = new ArrayList<>();
-    private int activeWaveIndex = 0;
     
     // Background image
-    private BufferedImage menuBackground = null;
+    // Both are held by the ImageCache rather than here, and reloaded if it has dropped them
+    static final String MENU_BACKGROUND = "/image/menu.png";
+    private boolean menuBackgroundMissing = false;
+    static final String[] WORLD_ICONS = {
+        "/image/AetherionWorld.gif",
+        "/image/ChronovaleWorld.gif",
+        "/image/ElarionWorld.gif",
+        "/image/GravemireWorld.gif",
+        "/image/Umbros.gif"
+    };
     
     // Audio manager
     private AudioManager audioManager;
     private SettingsManager settingsManager;
+    private final SaveService saveService = SaveService.getInstance();
     
 
     // ==================== CONSTRUCTOR ====================
@@ -149,7 +178,7 @@ public class UnifiedGameUI extends JFrame {
         configureDisplayScale();
         initializeProfiles();
         loadWorldIcons();
-        loadMenuBackground();
+        menuBackground(); // Up front rather than on the first paint
         
         // Apply saved audio settings
         audioManager.setMasterVolume(settingsManager.getMasterVolume());
@@ -206,6 +235,8 @@ public class UnifiedGameUI extends JFrame {
                 if (settingsManager != null) {
                     settingsManager.save();
                 }
+                // Let queued profile saves reach the disk before the JVM exits
+                saveService.flush();
                 // Shutdown audio
                 if (audioManager != null) {
                     audioManager.shutdown();
@@ -307,10 +338,8 @@ public class UnifiedGameUI extends JFrame {
         return playerProgress;
     }
 
-    PlayerProgress getProfileProgress(int slotIndex) {
-        int idx = slotIndex - 1;
-        if (idx < 0 || idx >= PROFILE_SLOTS) return null;
-        return profileSlots[idx];
+    ProfileSummary getProfileSummary(int slotIndex) {
+        return profileStore.getSummary(slotIndex);
     }
 
     int getActiveProfileIndex() {
@@ -318,12 +347,23 @@ public class UnifiedGameUI extends JFrame {
     }
 
     int getProfileSlotCount() {
-        return PROFILE_SLOTS;
+        return profileStore.getSlotCount();
+    }
+
+    int getProfilePage() {
+        return profilePage;
+    }
+
+    void showProfilePage(int page) {
+        int pages = (getProfileSlotCount() + PROFILES_PER_PAGE - 1) / PROFILES_PER_PAGE;
+        profilePage = Math.max(0, Math.min(page, pages - 1));
+        refreshProfileSelect();
+        cardLayout.show(mainContainer, SCREEN_PROFILE_SELECT);
     }
 
     // for Start Game flow
     void onProfileSelected(int profileIndex) {
-        int idx = Math.max(1, Math.min(PROFILE_SLOTS, profileIndex)) - 1;
+        int idx = Math.max(1, Math.min(getProfileSlotCount(), profileIndex)) - 1;
         if (activeProfile != idx) {
             // End session for previous profile
             if (playerProgress != null) {
@@ -332,34 +372,18 @@ public class UnifiedGameUI extends JFrame {
             saveActiveProfile(); // Save previous profile before switching
             activeProfile = idx;
             
-            // Load profile from disk if not already in memory
-            if (profileSlots[activeProfile] == null) {
-                Path file = SAVE_DIR.resolve("profile" + (activeProfile + 1) + ".dat");
-                PlayerProgress loaded = PlayerProgress.load(file);
-                if (loaded != null) {
-                    profileSlots[activeProfile] = loaded;
-                    System.out.println("Loaded profile " + (activeProfile + 1) + " from disk: Level " + loaded.getPlayerLevel() + 
-                        ", EXP " + loaded.getCurrentExp() + "/" + loaded.getExpToNext() + 
-                        ", Worlds: " + loaded.getClearedWorldCount());
-                } else {
-                profileSlots[activeProfile] = new PlayerProgress();
-            }
-            }
-            
-            playerProgress = profileSlots[activeProfile];
+            // Only the selected profile is loaded in full; the others stay as index summaries
+            playerProgress = loadProfile(activeProfile);
             // Start session for new profile
             if (playerProgress != null) {
                 playerProgress.startSession();
                 
                 // Auto-resume: if there's an active battle, go directly to it
                 if (playerProgress.hasActiveBattle()) {
-                    BattleState battleState = playerProgress.getBattleState();
-                    if (battleState != null) {
-                        int savedWorldId = battleState.getWorldId();
-                        System.out.println("Auto-resuming battle in World " + savedWorldId);
-                        showBattle(savedWorldId);
-                        return;
-                    }
+                    int savedWorldId = playerProgress.getActiveBattleWorldId();
+                    System.out.println("Auto-resuming battle in World " + savedWorldId);
+                    showBattle(savedWorldId);
+                    return;
                 }
             }
         }
@@ -384,12 +408,11 @@ public class UnifiedGameUI extends JFrame {
         fadeAlpha = 0f;
         getGlassPane().repaint();
 
-        fadeTimer = new javax.swing.Timer(16, null); // ~60 FPS
-        fadeTimer.addActionListener(new ActionListener() {
+        fadeTimer = FrameClock.schedule(null, FrameClock.TICK_MS, new Runnable() { // ~60 FPS
             private boolean switched = false;
 
             @Override
-            public void actionPerformed(ActionEvent e) {
+            public void run() {
                 if (!switched) {
                     fadeAlpha += 0.07f;
                     if (fadeAlpha >= 1f) {
@@ -670,12 +693,22 @@ public class UnifiedGameUI extends JFrame {
         return label;
     }
     
-    private void loadMenuBackground() {
+    /**
+     * The menu background from the {@link ImageCache}, loaded again if it was evicted; null if
+     * there is none, in which case it is not looked for again.
+     */
+    private BufferedImage menuBackground() {
+        BufferedImage cached = ImageCache.shared().get(ImageCache.imageKey(MENU_BACKGROUND), BufferedImage.class);
+        if (cached != null || menuBackgroundMissing) {
+            return cached;
+        }
         try {
-            java.net.URL url = getClass().getResource("/image/menu.png");
+            java.net.URL url = getClass().getResource(MENU_BACKGROUND);
             if (url != null) {
-                menuBackground = javax.imageio.ImageIO.read(url);
+                BufferedImage menuBackground = javax.imageio.ImageIO.read(url);
+                ImageCache.shared().put(ImageCache.imageKey(MENU_BACKGROUND), menuBackground, ImageCache.bytesOf(menuBackground));
                 System.out.println("✓ Loaded menu background: " + menuBackground.getWidth() + "x" + menuBackground.getHeight());
+                return menuBackground;
             } else {
                 System.err.println("✗ Menu background not found: /image/menu.png");
             }
@@ -683,6 +716,8 @@ public class UnifiedGameUI extends JFrame {
             System.err.println("ERROR loading menu background: " + e.getMessage());
             e.printStackTrace();
                 }
+        menuBackgroundMissing = true;
+        return null;
     }
 
     private void initializeProfiles() {
@@ -692,47 +727,56 @@ public class UnifiedGameUI extends JFrame {
             System.err.println("Error creating save directory: " + e.getMessage());
         }
 
-        for (int i = 0; i < PROFILE_SLOTS; i++) {
-            Path file = SAVE_DIR.resolve("profile" + (i + 1) + ".dat");
-            PlayerProgress data = PlayerProgress.load(file);
-            if (data == null) {
-                data = new PlayerProgress();
-            }
-            profileSlots[i] = data;
-        }
+        profileStore = ProfileStore.open(SAVE_DIR, saveService);
         // Set first profile as active if none selected
         if (activeProfile < 0) {
         activeProfile = 0;
         }
-        if (activeProfile >= 0 && activeProfile < PROFILE_SLOTS) {
-        playerProgress = profileSlots[activeProfile];
-            if (playerProgress != null) {
-                // Don't auto-start session on initialization
-                // Session will start when entering battle or selecting profile
-            }
-        }
+        // Don't auto-start session on initialization
+        // Session will start when entering battle or selecting profile
+        playerProgress = loadProfile(activeProfile);
         }
 
+    /**
+     * Loads the full progress for a 0-based slot, or a fresh profile if the slot is empty.
+     */
+    private PlayerProgress loadProfile(int slotIndex) {
+        PlayerProgress loaded = profileStore.load(slotIndex + 1);
+        if (loaded == null) {
+            return new PlayerProgress();
+        }
+        System.out.println("Loaded profile " + (slotIndex + 1) + " from disk: Level " + loaded.getPlayerLevel() + 
+            ", EXP " + loaded.getCurrentExp() + "/" + loaded.getExpToNext() + 
+            ", Worlds: " + loaded.getClearedWorldCount());
+        return loaded;
+    }
+
     private void loadWorldIcons() {
-        worldIcons.clear();
-        String[] resources = {
-            "/image/AetherionWorld.gif",
-            "/image/ChronovaleWorld.gif",
-            "/image/ElarionWorld.gif",
-            "/image/GravemireWorld.gif",
-            "/image/Umbros.gif"
-        };
         System.out.println("Loading world icons...");
-        for (int i = 0; i < resources.length; i++) {
-            ImageIcon icon = loadWorldIcon(resources[i]);
-            if (icon != null) {
-                worldIcons.put(i + 1, icon);
+        int loaded = 0;
+        for (int i = 0; i < WORLD_ICONS.length; i++) {
+            if (worldIcon(i + 1) != null) {
+                loaded++;
                 System.out.println("  ✓ World " + (i + 1) + " icon loaded");
             } else {
                 System.err.println("  ✗ World " + (i + 1) + " icon failed to load");
             }
         }
-        System.out.println("Total icons loaded: " + worldIcons.size() + "/5");
+        System.out.println("Total icons loaded: " + loaded + "/5");
+    }
+
+    /** World {@code worldId}'s animated icon from the {@link ImageCache}, loaded again if evicted. */
+    private ImageIcon worldIcon(int worldId) {
+        if (worldId < 1 || worldId > WORLD_ICONS.length) return null;
+        String path = WORLD_ICONS[worldId - 1];
+        ImageIcon icon = ImageCache.shared().get(ImageCache.iconKey(path), ImageIcon.class);
+        if (icon == null) {
+            icon = loadWorldIcon(path);
+            if (icon != null) {
+                ImageCache.shared().put(ImageCache.iconKey(path), icon, ImageCache.bytesOf(icon));
+            }
+        }
+        return icon;
     }
 
     private ImageIcon loadWorldIcon(String resourcePath) {
@@ -812,6 +856,7 @@ public class UnifiedGameUI extends JFrame {
      */
     void paintBackground(Graphics2D g2d, int width, int height) {
         // Draw menu.png background if available, otherwise use solid color
+        BufferedImage menuBackground = menuBackground();
         if (menuBackground != null) {
             // Scale and center the background image
             int imgW = menuBackground.getWidth();
@@ -1424,14 +1469,15 @@ public class UnifiedGameUI extends JFrame {
             "for only they can still the Obsidian Crown and seal the dungeons forever.\n\n"
         };
 
-        javax.swing.Timer typewriterTimer = new javax.swing.Timer(50, null);
-        typewriterTimer.addActionListener(new ActionListener() {
+        // Array so the ticker can stop itself
+        FrameClock.Ticker[] typewriterTimer = new FrameClock.Ticker[1];
+        typewriterTimer[0] = FrameClock.schedule(panel, 50, new Runnable() {
             private int lineIndex = 0;
             private int charIndex = 0;
             private StringBuilder currentText = new StringBuilder();
 
             @Override
-            public void actionPerformed(ActionEvent e) {
+            public void run() {
                 if (lineIndex < storyLines.length) {
                     if (charIndex < storyLines[lineIndex].length()) {
                         currentText.append(storyLines[lineIndex].charAt(charIndex));
@@ -1442,7 +1488,7 @@ public class UnifiedGameUI extends JFrame {
                         charIndex = 0;
                     }
                 } else {
-                    typewriterTimer.stop();
+                    typewriterTimer[0].stop();
                     javax.swing.Timer autoStart = new javax.swing.Timer(2000, evt -> {
                         showScreen(SCREEN_WORLD_SELECT);
                         ((javax.swing.Timer) evt.getSource()).stop();
@@ -1457,7 +1503,7 @@ public class UnifiedGameUI extends JFrame {
             @Override
             public void componentShown(ComponentEvent e) {
                 storyText.setText("");
-                typewriterTimer.restart();
+                typewriterTimer[0].start();
             }
         });
 
@@ -1470,7 +1516,7 @@ public class UnifiedGameUI extends JFrame {
      * Maps hero class names to their resource folder paths.
      * This mapping is used to load hero sprite animations.
      */
-    private String getHeroResourcePath(String heroClass) {
+    static String getHeroResourcePath(String heroClass) {
         // Map hero class names to their resource folder paths
         Map<String, String> heroResourceMap = new HashMap<>();
         heroResourceMap.put("com.defendersofsolara.characters.heroes.Ka", "/ka/");
@@ -1520,16 +1566,7 @@ public class UnifiedGameUI extends JFrame {
         titlePanel.add(instruction);
         
         // All 8 available heroes
-        String[] heroClasses = {
-            "com.defendersofsolara.characters.heroes.Ka",
-            "com.defendersofsolara.characters.heroes.ZyraKathelDraven",
-            "com.defendersofsolara.characters.heroes.Lyra",
-            "com.defendersofsolara.characters.heroes.YlonneKryx",
-            "com.defendersofsolara.characters.heroes.Seraphina",
-            "com.defendersofsolara.characters.heroes.DravikThorn",
-            "com.defendersofsolara.characters.heroes.Kaelen",
-            "com.defendersofsolara.characters.heroes.OrinKaelus"
-        };
+        String[] heroClasses = EncounterFactory.HERO_CLASSES.toArray(new String[0]);
         
         String[] heroNames = {
             "Ka",
@@ -1562,6 +1599,19 @@ public class UnifiedGameUI extends JFrame {
         final HeroSelectionPanel[] heroPanels = new HeroSelectionPanel[8];
         final boolean[] isSelected = new boolean[8];
         
+        JLabel selectedCount = createReadableLabel(
+            "Selected: 0 / 4",
+            UITheme.FONT_TEXT,
+            UITheme.PRIMARY_ORANGE,
+            SwingConstants.CENTER
+        );
+        
+        // Update count label whenever the selection changes
+        Runnable updateSelectedCount = () -> {
+            selectedCount.setText("Selected: " + selectedHeroes.size() + " / 4");
+            selectedCount.setForeground(selectedHeroes.size() == 4 ? UITheme.PRIMARY_GREEN : UITheme.PRIMARY_ORANGE);
+        };
+        
         // Create animated hero selection panels
         for (int i = 0; i < 8; i++) {
             final int index = i;
@@ -1581,11 +1631,13 @@ public class UnifiedGameUI extends JFrame {
                     isSelected[index] = false;
                     selectedHeroes.remove(heroClass);
                     heroPanel.setSelected(false);
+                    updateSelectedCount.run();
                 } else if (selectedHeroes.size() < 4) {
                     // Select
                     isSelected[index] = true;
                     selectedHeroes.add(heroClass);
                     heroPanel.setSelected(true);
+                    updateSelectedCount.run();
                 } else {
                     showStyledMessageDialog(panel, "You can only select 4 heroes!", "Team Full");
                 }
@@ -1594,20 +1646,6 @@ public class UnifiedGameUI extends JFrame {
             heroesPanel.add(heroPanel);
         }
         
-        JLabel selectedCount = createReadableLabel(
-            "Selected: 0 / 4",
-            UITheme.FONT_TEXT,
-            UITheme.PRIMARY_ORANGE,
-            SwingConstants.CENTER
-        );
-        
-        // Update count label
-        javax.swing.Timer updateTimer = new javax.swing.Timer(100, e -> {
-            selectedCount.setText("Selected: " + selectedHeroes.size() + " / 4");
-            selectedCount.setForeground(selectedHeroes.size() == 4 ? UITheme.PRIMARY_GREEN : UITheme.PRIMARY_ORANGE);
-        });
-        updateTimer.start();
-        
         JButton confirmBtn = UITheme.createSmallButton("CONFIRM TEAM");
         confirmBtn.setPreferredSize(new Dimension(200, 45));
         confirmBtn.addActionListener(e -> {
@@ -1657,27 +1695,12 @@ public class UnifiedGameUI extends JFrame {
     private JPanel createWorldSelection() {
         // Ensure playerProgress is set - if not, load it from the active profile
         if (playerProgress == null && activeProfile >= 0) {
-            if (profileSlots[activeProfile] == null) {
-                Path file = SAVE_DIR.resolve("profile" + (activeProfile + 1) + ".dat");
-                PlayerProgress loaded = PlayerProgress.load(file);
-                if (loaded != null) {
-                    profileSlots[activeProfile] = loaded;
-                    playerProgress = loaded;
-                } else {
-                    profileSlots[activeProfile] = new PlayerProgress();
-                    playerProgress = profileSlots[activeProfile];
-                }
-            } else {
-                playerProgress = profileSlots[activeProfile];
-            }
+            playerProgress = loadProfile(activeProfile);
         }
         
         // Safety check - if still null, create a new progress
         if (playerProgress == null) {
             playerProgress = new PlayerProgress();
-            if (activeProfile >= 0) {
-                profileSlots[activeProfile] = playerProgress;
-            }
         }
         
         JPanel panel = new JPanel(new BorderLayout(10, 10)) {
@@ -1809,18 +1832,13 @@ public class UnifiedGameUI extends JFrame {
         
         // Add "Resume Battle" button if there's a saved battle state
         if (playerProgress != null && playerProgress.hasActiveBattle()) {
-            BattleState battleState = playerProgress.getBattleState();
-            if (battleState != null) {
-                JButton resumeBtn = UITheme.createSmallButton("RESUME BATTLE");
-                resumeBtn.setPreferredSize(new Dimension(180, 40));
-                resumeBtn.setMinimumSize(new Dimension(180, 40));
-                resumeBtn.addActionListener(e -> {
-                    int savedWorldId = battleState.getWorldId();
-                    showBattle(savedWorldId);
-                });
-                bottomPanel.add(resumeBtn);
-                bottomPanel.add(Box.createHorizontalStrut(20));
-            }
+            int savedWorldId = playerProgress.getActiveBattleWorldId();
+            JButton resumeBtn = UITheme.createSmallButton("RESUME BATTLE");
+            resumeBtn.setPreferredSize(new Dimension(180, 40));
+            resumeBtn.setMinimumSize(new Dimension(180, 40));
+            resumeBtn.addActionListener(e -> showBattle(savedWorldId));
+            bottomPanel.add(resumeBtn);
+            bottomPanel.add(Box.createHorizontalStrut(20));
         }
         
         bottomPanel.add(backBtn);
@@ -1917,7 +1935,7 @@ public class UnifiedGameUI extends JFrame {
         contentPanel.setOpaque(false);
         contentPanel.setLayout(new BoxLayout(contentPanel, BoxLayout.Y_AXIS));
 
-        ImageIcon animatedIcon = worldIcons.get(worldId);
+        ImageIcon animatedIcon = worldIcon(worldId);
         JLabel iconLabel = null;
         
         if (animatedIcon != null) {
@@ -1938,7 +1956,7 @@ public class UnifiedGameUI extends JFrame {
             System.out.println("  ✓ Icon label added to World " + worldId + " card");
         } else {
             // Debug: check if icon failed to load
-            System.err.println("Warning: No icon found for World " + worldId + " (total loaded: " + worldIcons.size() + ")");
+            System.err.println("Warning: No icon found for World " + worldId);
             // Add spacer at the top if no icon
             contentPanel.add(Box.createVerticalStrut(20));
         }
@@ -2024,7 +2042,7 @@ public class UnifiedGameUI extends JFrame {
         private float textAlpha = 0f;
         private int currentSentenceIndex = 0;
         private String[] sentences;
-        private javax.swing.Timer fadeTimer;
+        private FrameClock.Ticker fadeTimer;
         private boolean isFadingIn = true;
         private boolean isFadingOut = false;
         private boolean storyComplete = false;
@@ -2161,14 +2179,13 @@ public class UnifiedGameUI extends JFrame {
         }
         
         private void startFadeAnimation() {
-            if (fadeTimer != null && fadeTimer.isRunning()) {
-                fadeTimer.stop();
+            if (fadeTimer != null) {
+                fadeTimer.cancel();
             }
             
-                fadeTimer = new javax.swing.Timer(16, null); // ~60 FPS
-                fadeTimer.addActionListener(new ActionListener() {
+                fadeTimer = FrameClock.schedule(this, FrameClock.TICK_MS, new Runnable() { // ~60 FPS
                     @Override
-                    public void actionPerformed(ActionEvent e) {
+                    public void run() {
                         if (storyComplete) {
                             fadeTimer.stop();
                             return;
@@ -2276,38 +2293,49 @@ public class UnifiedGameUI extends JFrame {
     // ==================== BATTLE SYSTEM ====================
 
     private JPanel createBattle(int worldId) {
+        int playerLevel = playerProgress != null ? playerProgress.getPlayerLevel() : 1;
+        long seed = GameRandom.newSeed();
+        EncounterFactory encounters = new EncounterFactory(new GameRandom(seed), playerLevel);
+
+        battlePacer.cancel();
+        battlePacer.setSpeed(settingsManager.getBattleSpeed());
+
         // Check if there's a saved battle state to restore
-        final boolean restored;
-        if (playerProgress != null && playerProgress.hasActiveBattle()) {
+        battleEngine = null;
+        if (playerProgress != null && playerProgress.getActiveBattleWorldId() == worldId) {
+            // Journaled battles replay to exactly where they were left; older saves hold a snapshot
             BattleState savedState = playerProgress.getBattleState();
-            if (savedState != null && savedState.getWorldId() == worldId) {
-                boolean restoreResult = restoreBattleState(savedState);
-                restored = restoreResult;
-                if (restored) {
-                    System.out.println("Restored battle state: World " + worldId + ", Wave " + (activeWaveIndex + 1));
-                }
-            } else {
-                restored = false;
+            if (savedState != null) {
+                battleEngine = BattleEngine.restore(savedState, encounters);
+            } else if (activeProfile >= 0) {
+                battleEngine = profileStore.resumeBattle(activeProfile + 1, encounters);
+            }
+            if (battleEngine != null) {
+                System.out.println("Restored battle state: World " + worldId + ", Wave " + (battleEngine.getActiveWaveIndex() + 1));
             }
-        } else {
-            restored = false;
         }
-        
+        final boolean restored = battleEngine != null;
+
         // If no saved state or restoration failed, create new battle
         if (!restored) {
-            playerTeam = createPlayerTeam();
-            currentWavePlan = buildWaveSchedule(worldId);
-            if (currentWavePlan.isEmpty()) {
-                currentWavePlan.add(new WaveEncounter(1, false, legacyEnemyPack(worldId)));
-            }
-            activeWaveIndex = 0;
-            WaveEncounter openingWave = currentWavePlan.get(0);
-            enemyTeam = openingWave.enemies;
-            applyEnemyScaling(worldId, openingWave);
-            currentPlayerIndex = 0;
-            selectedSkill = null;
-            waitingForTarget = false;
+            List<String> selectedTeam = playerProgress != null ? playerProgress.getSelectedTeam() : null;
+            battleEngine = BattleEngine.create(worldId, encounters, selectedTeam);
+            battleEngine.startRecording(new BattleRecording(worldId, playerLevel, seed, selectedTeam));
+        }
+        if (battleEngine.getJournal() == null && activeProfile >= 0) {
+            battleEngine.startJournal(profileStore.newBattleJournal(activeProfile + 1));
         }
+        BattleLogListener logListener = new BattleLogListener();
+        battleEngine.addListener(logListener);
+        battleEngine.getEvents().subscribe(logListener);
+        selectedSkill = null;
+        waitingForTarget = false;
+        battleSkillsEnabled = false;
+        if (battleCanvas != null) {
+            battleCanvas.dispose();
+            battleCanvas = null;
+        }
+        battleLog = null;
 
         // Dark battle background panel
         JPanel panel = new JPanel(new BorderLayout(10, 10)) {
@@ -2327,337 +2355,63 @@ public class UnifiedGameUI extends JFrame {
 
         // Restructured battle UI to match reference layout
         panel.add(createBattleTopBar(), BorderLayout.NORTH);
-        panel.add(createBattleMainArea(), BorderLayout.CENTER);
-        panel.add(createBattleBottomDetails(), BorderLayout.SOUTH);
+        battleBody = new JPanel(new BorderLayout(10, 10));
+        battleBody.setOpaque(false);
+        panel.add(battleBody, BorderLayout.CENTER);
+        installBattleView(settingsManager.isCanvasBattleView());
 
         // Rebuild character panels after restoration
         final boolean wasRestored = restored;
         if (wasRestored) {
-            buildBattleCharacterPanels();
+            updateBattleCharacterPanels();
             updateWaveLabel();
         }
 
-        javax.swing.Timer startTimer = new javax.swing.Timer(500, e -> {
+        battlePacer.schedule(500, () -> {
             if (wasRestored) {
                 resumeBattle();
             } else {
                 startBattle();
             }
-            ((javax.swing.Timer) e.getSource()).stop();
         });
-        startTimer.setRepeats(false);
-        startTimer.start();
 
         return panel;
     }
 
-    private List<WaveEncounter> buildWaveSchedule(int worldId) {
-        List<WaveEncounter> waves = new ArrayList<>();
-        for (int wave = 1; wave <= WAVES_PER_WORLD; wave++) {
-            boolean bossWave = wave == WAVES_PER_WORLD;
-            Character[] enemies = bossWave
-                ? buildBossWave(worldId)
-                : buildMinionWave(worldId, wave);
-            waves.add(new WaveEncounter(wave, bossWave, enemies));
-        }
-        return waves;
-    }
-
-    private Character[] buildMinionWave(int worldId, int waveNumber) {
-        List<MinionTemplate> pool = getMinionPool(worldId);
-        int count = 2 + random.nextInt(4); // 2-5 minions
-        Character[] enemies = new Character[count];
-        int index = Math.max(0, Math.min(worldId - 1, WORLD_ENEMY_LEVEL_OFFSET.length - 1));
-        
-        // Scale with player level instead of fixed levels
-        int playerLevel = playerProgress != null ? playerProgress.getPlayerLevel() : 1;
-        int levelOffset = WORLD_ENEMY_LEVEL_OFFSET[index];
-        int levelTarget = Math.min(30, Math.max(1, playerLevel + levelOffset + (waveNumber / 2)));
-        double difficulty = 1.0 + (waveNumber - 1) * 0.02; // Minimal difficulty scaling per wave
-
-        if (pool.isEmpty()) {
-            // Fallback: create a basic enemy if pool is empty
-            System.err.println("Warning: Minion pool is empty for world " + worldId);
-            for (int i = 0; i < count; i++) {
-                // Create a basic minion with default stats
-                DynamicEnemy minion = new DynamicEnemy(
-                    "Minion",
-                    100 + levelTarget * 20,
-                    50 + levelTarget * 10,
-                    20 + levelTarget * 3,
-                    15 + levelTarget * 2,
-                    30 + levelTarget,
-                    () -> new SavageSwipeSkill("Strike", 1.0)
-                );
-                minion.syncToLevel(levelTarget);
-                // HP, Mana, Defense scale with difficulty; Attack will be scaled to hero HP in applyEnemyScaling
-                minion.applyStatMultiplier(difficulty, difficulty, 1.0, difficulty);
-                enemies[i] = minion;
-            }
-        } else {
-            for (int i = 0; i < count; i++) {
-                MinionTemplate template = pool.get(random.nextInt(pool.size()));
-                enemies[i] = template.instantiate(levelTarget, difficulty);
-            }
-        }
-        return enemies;
-    }
-
-    private Character[] buildBossWave(int worldId) {
-        List<Character> roster = new ArrayList<>();
-        Character boss = createBossForWorld(worldId);
-        roster.add(boss);
-
-        int supporters = 1 + random.nextInt(2); // 1-2 supports
-        List<MinionTemplate> pool = getMinionPool(worldId);
-        if (!pool.isEmpty()) {
-            // Scale supporter level with player level
-            int playerLevel = playerProgress != null ? playerProgress.getPlayerLevel() : 1;
-            int index = Math.min(worldId - 1, WORLD_ENEMY_LEVEL_OFFSET.length - 1);
-            int levelOffset = WORLD_ENEMY_LEVEL_OFFSET[index];
-            int supporterLevel = Math.min(30, Math.max(1, playerLevel + levelOffset + 1));
-            
-            for (int i = 0; i < supporters; i++) {
-                MinionTemplate template = pool.get(random.nextInt(pool.size()));
-                roster.add(template.instantiate(supporterLevel, 1.1)); // Slight difficulty increase
-            }
-        }
-        return roster.toArray(new Character[0]);
-    }
-
-    private Character createBossForWorld(int worldId) {
-        switch (worldId) {
-            case 1:
-                return buildDynamicBoss("Elder Bramblewraith", 950, 280, 110, 55, 40);
-            case 2:
-                return buildDynamicBoss("Ashforged Colossus", 1200, 320, 135, 65, 42);
-            case 3:
-                return buildDynamicBoss("Chrono Sphinx", 1400, 380, 150, 75, 48);
-            case 4:
-                return buildDynamicBoss("Gravem Titan", 1650, 420, 170, 85, 52);
-            case 5:
-            default:
-                return buildDynamicBoss("Malakar's Hollow Aspect", 1900, 500, 195, 95, 58);
-        }
-    }
-
-    private Character buildDynamicBoss(String name, int hp, int mana, int atk, int def, int speed) {
-        DynamicEnemy boss = new DynamicEnemy(name, hp, mana, atk, def, speed,
-            () -> new SavageSwipeSkill("Obliterate", 1.35),
-            () -> new VenomSplashSkill("Cataclysm Pulse", 0.75, 40, 3),
-            () -> new SoulDrainSkill("Soul Rend", 1.1, 0.4),
-            () -> new AegisPulseSkill("Call of Dominion", 50)
-        );
-        // Boss level now scales with player level (will be adjusted in applyEnemyScaling)
-        int playerLevel = playerProgress != null ? playerProgress.getPlayerLevel() : 1;
-        int bossLevel = Math.min(30, Math.max(1, playerLevel + 2));
-        boss.syncToLevel(bossLevel);
-        // Balanced base multipliers - HP and defense only (attack will be scaled to hero HP)
-        boss.applyStatMultiplier(1.15, 1.1, 1.0, 1.05);
-        return boss;
-    }
-
-    private List<MinionTemplate> getMinionPool(int worldId) {
-        int index = Math.max(0, Math.min(worldId - 1, MINION_POOLS.size() - 1));
-        return MINION_POOLS.get(index);
-    }
-
-    private static List<List<MinionTemplate>> createMinionPools() {
-        List<List<MinionTemplate>> pools = new ArrayList<>();
-
-        List<MinionTemplate> world1 = List.of(
-            new MinionTemplate("Chrono Scout", 360, 120, 45, 18, 34,
-                () -> new SavageSwipeSkill("Pulse Slash", 0.9),
-                () -> new VenomSplashSkill("Time Burst", 0.55, 12, 2)
-            ),
-            new MinionTemplate("Veil Runner", 400, 150, 50, 22, 36,
-                () -> new SavageSwipeSkill("Veil Strike", 1.0),
-                () -> new SoulDrainSkill("Echo Drain", 0.8, 0.25)
-            ),
-            new MinionTemplate("Temporal Wisp", 320, 180, 38, 18, 40,
-                () -> new VenomSplashSkill("Temporal Shock", 0.5, 18, 2),
-                () -> new AegisPulseSkill("Serene Glow", 40)
-            )
-        );
-        pools.add(world1);
-
-        List<MinionTemplate> world2 = List.of(
-            new MinionTemplate("Grave Stalker", 500, 160, 60, 26, 34,
-                () -> new SavageSwipeSkill("Bone Cleaver", 1.05),
-                () -> new SoulDrainSkill("Grave Leech", 0.9, 0.35)
-            ),
-            new MinionTemplate("Mire Shaman", 450, 220, 48, 24, 30,
-                () -> new VenomSplashSkill("Mire Surge", 0.6, 22, 2),
-                () -> new AegisPulseSkill("Mud Ward", 45)
-            ),
-            new MinionTemplate("Wailing Husk", 520, 150, 58, 28, 28,
-                () -> new SavageSwipeSkill("Dirge Swipe", 1.1)
-            )
-        );
-        pools.add(world2);
-
-        List<MinionTemplate> world3 = List.of(
-            new MinionTemplate("Aether Shade", 620, 240, 72, 36, 42,
-                () -> new SavageSwipeSkill("Radiant Slice", 1.2),
-                () -> new VenomSplashSkill("Nova Bloom", 0.7, 26, 2)
-            ),
-            new MinionTemplate("Arc Warden", 570, 300, 68, 34, 34,
-                () -> new SoulDrainSkill("Arc Flay", 1.0, 0.35),
-                () -> new AegisPulseSkill("Shield Matrix", 50)
-            ),
-            new MinionTemplate("Skyblade", 600, 260, 74, 32, 46,
-                () -> new SavageSwipeSkill("Skyfall", 1.25)
-            )
-        );
-        pools.add(world3);
-
-        List<MinionTemplate> world4 = List.of(
-            new MinionTemplate("Elarion Sentinel", 780, 300, 90, 44, 38,
-                () -> new SavageSwipeSkill("Spear Barrage", 1.3),
-                () -> new AegisPulseSkill("Renewing Chant", 55)
-            ),
-            new MinionTemplate("Verdant Binder", 720, 360, 84, 40, 34,
-                () -> new VenomSplashSkill("Root Lash", 0.8, 30, 2),
-                () -> new SoulDrainSkill("Bloom Sap", 1.0, 0.4)
-            ),
-            new MinionTemplate("Grove Phantom", 760, 320, 88, 42, 44,
-                () -> new SavageSwipeSkill("Phantom Tear", 1.35)
-            )
-        );
-        pools.add(world4);
-
-        List<MinionTemplate> world5 = List.of(
-            new MinionTemplate("Umbra Corsair", 900, 360, 105, 50, 44,
-                () -> new SavageSwipeSkill("Umbra Rend", 1.4),
-                () -> new VenomSplashSkill("Obsidian Torrent", 0.9, 34, 2)
-            ),
-            new MinionTemplate("Void Priest", 880, 420, 98, 48, 40,
-                () -> new SoulDrainSkill("Void Siphon", 1.1, 0.45),
-                () -> new AegisPulseSkill("Rite of Night", 60)
-            ),
-            new MinionTemplate("Night Harbinger", 940, 380, 110, 52, 46,
-                () -> new SavageSwipeSkill("Harbinger Edge", 1.5)
-            )
-        );
-        pools.add(world5);
-
-        return pools;
-    }
-
-    private Character[] legacyEnemyPack(int worldId) {
-        switch (worldId) {
-            case 1: return new Character[]{new Abyssal(), new Stonebound()};
-            case 2: return new Character[]{new Stonebound(), new Abyssal(), new Stonebound()};
-            case 3: return new Character[]{new Malakar()};
-            case 4: return new Character[]{new Stonebound(), new Malakar()};
-            case 5: return new Character[]{new Malakar(), new Malakar()};
-            default: return new Character[]{new Abyssal()};
-        }
-    }
-
-    private Character[] createPlayerTeam() {
-        List<Character> roster = new ArrayList<>();
-        
-        // Use selected team from player progress
-        if (playerProgress != null && playerProgress.hasSelectedTeam()) {
-            List<String> selectedTeam = playerProgress.getSelectedTeam();
-            int playerLevel = playerProgress.getPlayerLevel();
-            for (String heroClass : selectedTeam) {
-                try {
-                    Class<?> clazz = Class.forName(heroClass);
-                    Character hero = (Character) clazz.getDeclaredConstructor().newInstance();
-                    hero.syncToLevel(playerLevel);
-                    roster.add(hero);
-                } catch (Exception e) {
-                    System.err.println("Error creating hero: " + heroClass + " - " + e.getMessage());
-                }
-            }
+    /**
+     * Shows the battle as the single canvas or as the panel view, keeping the log. Can be called
+     * mid-battle; the new view is built from the engine's current state.
+     */
+    private void installBattleView(boolean canvas) {
+        String logText = battleCanvas != null ? battleCanvas.getLogText() : battleLog != null ? battleLog.getText() : "";
+        if (battleCanvas != null) {
+            battleCanvas.dispose();
+        }
+        battleBody.removeAll();
+        if (canvas) {
+            battleLog = null;
+            battleSkillPanel = null;
+            battleCanvas = new BattleCanvas(new BattleCanvasController());
+            battleCanvas.setLogText(logText);
+            battleBody.add(battleCanvas, BorderLayout.CENTER);
         } else {
-            // Fallback: use default team if no selection made
-            int playerLevel = playerProgress != null ? playerProgress.getPlayerLevel() : 1;
-            Character[] defaultTeam = {
-                new Ka(), new ZyraKathelDraven(), new Lyra(), new YlonneKryx()
-            };
-            for (Character hero : defaultTeam) {
-                hero.syncToLevel(playerLevel);
-                roster.add(hero);
-            }
-        }
-
-        int playerLevel = playerProgress != null ? playerProgress.getPlayerLevel() : 1;
-        for (Character hero : roster) {
-            hero.syncToLevel(playerLevel);
-        }
-        return roster.toArray(new Character[0]);
-    }
-
-    private void applyEnemyScaling(int worldId, WaveEncounter wave) {
-        int index = Math.max(0, Math.min(worldId - 1, WORLD_HP_MULT.length - 1));
-        double hpMultiplier = WORLD_HP_MULT[index];
-        double manaMultiplier = WORLD_MANA_MULT[index];
-        double defenseMultiplier = WORLD_DEF_MULT[index];
-        int levelOffset = WORLD_ENEMY_LEVEL_OFFSET[index];
-
-        // Calculate average hero HP to scale enemy damage proportionally
-        int totalHeroHP = 0;
-        int heroCount = 0;
-        if (playerTeam != null) {
-            for (Character hero : playerTeam) {
-                if (hero != null && hero.isAlive) {
-                    totalHeroHP += hero.maxHP;
-                    heroCount++;
-                }
-            }
-        }
-        int avgHeroHP = heroCount > 0 ? totalHeroHP / heroCount : 500; // Default if no heroes
-        
-        // Scale enemy level with player level (capped to keep it balanced)
-        int playerLevel = playerProgress != null ? playerProgress.getPlayerLevel() : 1;
-        int baseEnemyLevel = Math.min(30, Math.max(1, playerLevel + levelOffset));
-        
-        // Minimal wave scaling for HP only (not attack)
-        double waveScalar = wave != null ? 1.0 + (wave.waveNumber - 1) * 0.03 : 1.0;
-        if (wave != null && wave.bossWave) {
-            waveScalar += 0.1; // Small boss HP bonus
-        }
-
-        for (int i = 0; i < enemyTeam.length; i++) {
-            Character enemy = enemyTeam[i];
-            // Enemy level scales with player, with small variation per enemy
-            int levelTarget = Math.min(30, baseEnemyLevel + (i * 1));
-            enemy.syncToLevel(levelTarget);
-
-            // Apply HP and defense multipliers with wave scaling
-            double hpMult = hpMultiplier * waveScalar;
-            double defMult = defenseMultiplier * waveScalar;
-            
-            // Boss gets more HP and defense, but attack scales with hero HP
-            if (i == enemyTeam.length - 1) {
-                hpMult += 0.15; // Boss gets more HP
-                defMult += 0.08; // Boss gets slightly more defense
-            }
-            
-            // Scale enemy attack to be proportional to hero HP (5-7% per basic attack)
-            // This ensures enemies deal fair damage regardless of hero HP
-            double attackPercentOfHeroHP = 0.05 + (index * 0.005); // 5% to 7% based on world
-            if (i == enemyTeam.length - 1) {
-                attackPercentOfHeroHP += 0.01; // Boss deals slightly more (6-8%)
+            battleCanvas = null;
+            battleBody.add(createBattleMainArea(), BorderLayout.CENTER);
+            battleBody.add(createBattleBottomDetails(), BorderLayout.SOUTH);
+            battleLog.setText(logText);
+            if (waitingForTarget) {
+                highlightBattleEnemies();
             }
-            int targetAttack = (int) Math.round(avgHeroHP * attackPercentOfHeroHP);
-            
-            // Apply HP, Mana, Defense multipliers
-            enemy.applyStatMultiplier(hpMult, manaMultiplier, 1.0, defMult);
-            
-            // Set attack directly based on hero HP scaling
-            enemy.baseAttack = enemy.currentAttack = targetAttack;
         }
+        battleBody.revalidate();
+        battleBody.repaint();
     }
 
     private int calculateExpReward(int worldId) {
         int base = 150;
         int difficultyBonus = (worldId - 1) * 120;
-        int enemyCountBonus = enemyTeam != null ? enemyTeam.length * 40 : 0;
-        int waveBonus = WAVES_PER_WORLD * 50;
+        int enemyCountBonus = battleEngine != null ? battleEngine.getEnemyTeam().length * 40 : 0;
+        int waveBonus = EncounterFactory.WAVES_PER_WORLD * 50;
         return base + difficultyBonus + enemyCountBonus + waveBonus;
     }
 
@@ -2739,10 +2493,51 @@ public class UnifiedGameUI extends JFrame {
         centerPanel.add(Box.createVerticalStrut(2));
         centerPanel.add(battleInstructionLabel);
 
-        // Right side - Pause icon button
+        // Right side - Battle speed, skip and pause icon buttons
         JPanel rightIcons = new JPanel(new FlowLayout(FlowLayout.RIGHT, 5, 0));
         rightIcons.setOpaque(false);
-        JButton pauseBtn = new JButton("⏸") {
+
+        JButton speedBtn = createBattleIconButton(BattlePacer.label(battlePacer.getSpeed()));
+        speedBtn.setPreferredSize(new Dimension(48, 40));
+        speedBtn.setToolTipText("Battle speed");
+        speedBtn.addActionListener(e -> {
+            int speed = battlePacer.nextSpeed();
+            battlePacer.setSpeed(speed);
+            settingsManager.setBattleSpeed(speed);
+            speedBtn.setText(BattlePacer.label(speed));
+        });
+        rightIcons.add(speedBtn);
+
+        battleSkipButton = createBattleIconButton("⏭");
+        battleSkipButton.setToolTipText("Skip enemy turns");
+        battleSkipButton.setEnabled(false);
+        battleSkipButton.addActionListener(e -> battlePacer.fastForward());
+        rightIcons.add(battleSkipButton);
+
+        JButton viewBtn = createBattleIconButton("▦");
+        viewBtn.setToolTipText("Switch battle view");
+        viewBtn.addActionListener(e -> {
+            boolean canvas = battleCanvas == null;
+            settingsManager.setCanvasBattleView(canvas);
+            installBattleView(canvas);
+        });
+        rightIcons.add(viewBtn);
+
+        JButton pauseBtn = createBattleIconButton("⏸");
+        pauseBtn.addActionListener(e -> showPauseMenu());
+        rightIcons.add(pauseBtn);
+
+        panel.add(centerPanel, BorderLayout.CENTER);
+        panel.add(rightIcons, BorderLayout.EAST);
+
+        return panel;
+    }
+
+    /**
+     * Flat text button used for the battle top bar controls.
+     */
+    private JButton createBattleIconButton(String text) {
+        JButton button = new JButton(text) {
             @Override
             protected void paintComponent(Graphics g) {
                 super.paintComponent(g);
@@ -2762,18 +2557,12 @@ public class UnifiedGameUI extends JFrame {
                 g2d.dispose();
             }
         };
-        pauseBtn.setContentAreaFilled(false);
-        pauseBtn.setOpaque(false);
-        pauseBtn.setBorder(null);
-        pauseBtn.setPreferredSize(new Dimension(40, 40));
-        pauseBtn.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
-        pauseBtn.addActionListener(e -> showPauseMenu());
-        rightIcons.add(pauseBtn);
-
-        panel.add(centerPanel, BorderLayout.CENTER);
-        panel.add(rightIcons, BorderLayout.EAST);
-
-        return panel;
+        button.setContentAreaFilled(false);
+        button.setOpaque(false);
+        button.setBorder(null);
+        button.setPreferredSize(new Dimension(40, 40));
+        button.setCursor(Cursor.getPredefinedCursor(Cursor.HAND_CURSOR));
+        return button;
     }
 
     private JPanel createBattleMainArea() {
@@ -2787,7 +2576,8 @@ public class UnifiedGameUI extends JFrame {
         battleCharacterListPanel.setOpaque(false);
         battleCharacterListPanel.setPreferredSize(new Dimension(80, 0));
         battleCharacterListPanel.setBorder(new EmptyBorder(10, 10, 10, 10));
-        buildCharacterList();
+        battlePortraits.clear();
+        updateCharacterList();
 
         // Center - Battlefield with characters and skill buttons
         JPanel battlefieldPanel = new JPanel(new BorderLayout());
@@ -2815,7 +2605,9 @@ public class UnifiedGameUI extends JFrame {
         battleEnemyPanel.setMinimumSize(new Dimension(260, 0));
         battleEnemyPanel.setMaximumSize(new Dimension(Integer.MAX_VALUE, Integer.MAX_VALUE));
 
-        buildBattleCharacterPanels();
+        battlePlayerCards.clear();
+        battleEnemyCards.clear();
+        updateBattleCharacterPanels();
         
         // Wrap panels in scroll panes to prevent overflow and ensure they fit in their containers
         // Scroll panes will auto-adjust to available space
@@ -2876,6 +2668,7 @@ public class UnifiedGameUI extends JFrame {
         battleCharacterDetailsPanel.setOpaque(false);
         battleCharacterDetailsPanel.setBorder(new EmptyBorder(10, 10, 10, 10));
         battleCharacterDetailsPanel.setPreferredSize(new Dimension(200, 0));
+        battleHeroDetailLabels = null;
         updateCharacterDetails();
 
         // Right: Container for battle log, skills, and enemy stats in a horizontal row
@@ -2944,6 +2737,8 @@ public class UnifiedGameUI extends JFrame {
         initialSkillPanel.setOpaque(false);
         initialSkillPanel.setBorder(new EmptyBorder(5, 5, 5, 5));
         battleSkillPanel = initialSkillPanel;
+        battleSkillLists.clear();
+        battleSkillHero = null;
         JScrollPane skillScroll = new JScrollPane(initialSkillPanel);
         skillScroll.setOpaque(false);
         skillScroll.getViewport().setOpaque(false);
@@ -2972,6 +2767,8 @@ public class UnifiedGameUI extends JFrame {
         battleEnemyDetailsPanel.setBorder(new EmptyBorder(5, 5, 5, 5));
         battleEnemyDetailsPanel.setPreferredSize(new Dimension(180, 160));
         battleEnemyDetailsPanel.setMinimumSize(new Dimension(160, 140));
+        battleEnemyDetailsList = null;
+        battleEnemyDetailRows.clear();
         updateEnemyDetails();
 
         // Create a container for skills and enemy stats on the right side
@@ -2997,159 +2794,192 @@ public class UnifiedGameUI extends JFrame {
     }
     
     private void updateEnemyDetails() {
-        battleEnemyDetailsPanel.removeAll();
-        if (enemyTeam == null || enemyTeam.length == 0) return;
-
-        JPanel details = new JPanel();
-        details.setLayout(new BoxLayout(details, BoxLayout.Y_AXIS));
-        details.setOpaque(false);
-
-        JLabel titleLabel = new JLabel("ENEMIES");
-        titleLabel.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 12));
-        titleLabel.setForeground(UITheme.PRIMARY_RED);
-        details.add(titleLabel);
-        details.add(Box.createVerticalStrut(5));
-
-        for (Character e : enemyTeam) {
-            if (e != null && e.isAlive()) {
-                // Use HTML to enable text wrapping for long enemy names
-                String displayName = e.name.length() > 15 ? e.name.substring(0, 12) + "..." : e.name;
-                JLabel enemyLabel = new JLabel("<html><div style='width:160px;'>" + displayName + "</div></html>");
-                enemyLabel.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 11));
-                enemyLabel.setForeground(UITheme.PRIMARY_WHITE);
-                details.add(enemyLabel);
-                
-                JLabel hpLabel = new JLabel("❤ " + e.currentHP + "/" + e.maxHP);
-                hpLabel.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 10));
-                hpLabel.setForeground(UITheme.PRIMARY_WHITE);
-                details.add(hpLabel);
-                
-                JLabel manaLabel = new JLabel("💙 " + e.currentMana + "/" + e.maxMana);
-                manaLabel.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 10));
-                manaLabel.setForeground(UITheme.PRIMARY_WHITE);
-                details.add(manaLabel);
-                
-                details.add(Box.createVerticalStrut(5));
+        if (battleCanvas != null) return;
+        if (battleEnemyDetailsList == null) {
+            battleEnemyDetailsList = new JPanel();
+            battleEnemyDetailsList.setLayout(new BoxLayout(battleEnemyDetailsList, BoxLayout.Y_AXIS));
+            battleEnemyDetailsList.setOpaque(false);
+
+            JLabel titleLabel = new JLabel("ENEMIES");
+            titleLabel.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 12));
+            titleLabel.setForeground(UITheme.PRIMARY_RED);
+            battleEnemyDetailsList.add(titleLabel);
+            battleEnemyDetailsList.add(Box.createVerticalStrut(5));
+
+            // Wrap details in a scroll pane to prevent overflow
+            JScrollPane enemyScroll = new JScrollPane(battleEnemyDetailsList);
+            enemyScroll.setOpaque(false);
+            enemyScroll.getViewport().setOpaque(false);
+            enemyScroll.setBorder(null);
+            enemyScroll.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED);
+            enemyScroll.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
+            battleEnemyDetailsPanel.add(enemyScroll, BorderLayout.CENTER);
+        }
+        Character[] enemies = battleEngine != null ? battleEngine.getEnemyTeam() : new Character[0];
+
+        // Rows are kept for the biggest wave so far; the ones not needed are hidden
+        while (battleEnemyDetailRows.size() < enemies.length) {
+            JPanel row = new JPanel();
+            row.setLayout(new BoxLayout(row, BoxLayout.Y_AXIS));
+            row.setOpaque(false);
+            row.setAlignmentX(Component.LEFT_ALIGNMENT);
+            for (int i = 0; i < 3; i++) {
+                JLabel label = new JLabel();
+                label.setFont(i == 0 ? ENEMY_DETAILS_NAME_FONT : ENEMY_DETAILS_FONT);
+                label.setForeground(UITheme.PRIMARY_WHITE);
+                row.add(label);
             }
+            row.add(Box.createVerticalStrut(5));
+            battleEnemyDetailsList.add(row);
+            battleEnemyDetailRows.add(row);
+        }
+        for (int i = 0; i < battleEnemyDetailRows.size(); i++) {
+            JPanel row = battleEnemyDetailRows.get(i);
+            Character e = i < enemies.length ? enemies[i] : null;
+            row.setVisible(e != null && e.isAlive());
+            if (!row.isVisible()) continue;
+            // Use HTML to enable text wrapping for long enemy names
+            String displayName = e.name.length() > 15 ? e.name.substring(0, 12) + "..." : e.name;
+            // JLabel only revalidates and repaints when the text actually changes
+            ((JLabel) row.getComponent(0)).setText("<html><div style='width:160px;'>" + displayName + "</div></html>");
+            ((JLabel) row.getComponent(1)).setText("❤ " + e.currentHP + "/" + e.maxHP);
+            ((JLabel) row.getComponent(2)).setText("💙 " + e.currentMana + "/" + e.maxMana);
         }
-
-        // Wrap details in a scroll pane to prevent overflow
-        JScrollPane enemyScroll = new JScrollPane(details);
-        enemyScroll.setOpaque(false);
-        enemyScroll.getViewport().setOpaque(false);
-        enemyScroll.setBorder(null);
-        enemyScroll.setVerticalScrollBarPolicy(JScrollPane.VERTICAL_SCROLLBAR_AS_NEEDED);
-        enemyScroll.setHorizontalScrollBarPolicy(JScrollPane.HORIZONTAL_SCROLLBAR_NEVER);
-        
-        battleEnemyDetailsPanel.add(enemyScroll, BorderLayout.CENTER);
-        battleEnemyDetailsPanel.revalidate();
-        battleEnemyDetailsPanel.repaint();
     }
 
-    private void buildCharacterList() {
-        battleCharacterListPanel.removeAll();
-        if (playerTeam == null) return;
+    private void updateCharacterList() {
+        if (battleCanvas != null) return;
+        if (battleEngine == null) return;
 
-        for (int i = 0; i < playerTeam.length; i++) {
-            final int index = i;
-            Character c = playerTeam[i];
-            JPanel portraitPanel = new JPanel(new BorderLayout()) {
-                @Override
-                protected void paintComponent(Graphics g) {
-                    super.paintComponent(g);
-                    Graphics2D g2d = (Graphics2D) g.create();
-                    boolean isSelected = (currentPlayerIndex == index);
-                    if (isSelected) {
-                        g2d.setColor(new Color(UITheme.PRIMARY_GREEN.getRed(), UITheme.PRIMARY_GREEN.getGreen(), UITheme.PRIMARY_GREEN.getBlue(), 150));
-                        g2d.fillRect(0, 0, getWidth(), getHeight());
+        Character[] playerTeam = battleEngine.getPlayerTeam();
+        // The team is fixed for the battle, so the portraits are only built once
+        if (battlePortraits.isEmpty()) {
+            for (int i = 0; i < playerTeam.length; i++) {
+                final int index = i;
+                JPanel portraitPanel = new JPanel(new BorderLayout()) {
+                    @Override
+                    protected void paintComponent(Graphics g) {
+                        super.paintComponent(g);
+                        Graphics2D g2d = (Graphics2D) g.create();
+                        boolean isSelected = (battleEngine.getCurrentPlayerIndex() == index);
+                        if (isSelected) {
+                            g2d.setColor(new Color(UITheme.PRIMARY_GREEN.getRed(), UITheme.PRIMARY_GREEN.getGreen(), UITheme.PRIMARY_GREEN.getBlue(), 150));
+                            g2d.fillRect(0, 0, getWidth(), getHeight());
+                        }
+                        g2d.dispose();
                     }
-                    g2d.dispose();
-                }
-            };
-            portraitPanel.setOpaque(false);
-            portraitPanel.setPreferredSize(new Dimension(60, 60));
-            portraitPanel.setBorder(BorderFactory.createLineBorder(
-                currentPlayerIndex == index ? UITheme.PRIMARY_GREEN : UITheme.BORDER_NORMAL, 
-                currentPlayerIndex == index ? 3 : 1
-            ));
-
-            JLabel nameLabel = new JLabel(c.name, SwingConstants.CENTER);
-            nameLabel.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 10));
-            nameLabel.setForeground(UITheme.PRIMARY_WHITE);
-            portraitPanel.add(nameLabel, BorderLayout.CENTER);
-
-            battleCharacterListPanel.add(portraitPanel);
-            battleCharacterListPanel.add(Box.createVerticalStrut(5));
+                };
+                portraitPanel.setOpaque(false);
+                portraitPanel.setPreferredSize(new Dimension(60, 60));
+                portraitPanel.setBorder(BorderFactory.createLineBorder(UITheme.BORDER_NORMAL, 1));
+
+                JLabel nameLabel = new JLabel(playerTeam[i].name, SwingConstants.CENTER);
+                nameLabel.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 10));
+                nameLabel.setForeground(UITheme.PRIMARY_WHITE);
+                portraitPanel.add(nameLabel, BorderLayout.CENTER);
+
+                battleCharacterListPanel.add(portraitPanel);
+                battleCharacterListPanel.add(Box.createVerticalStrut(5));
+                battlePortraits.add(portraitPanel);
+            }
+            battlePortraitIndex = -1;
         }
 
-        battleCharacterListPanel.revalidate();
-        battleCharacterListPanel.repaint();
+        // Only the previous and the new current hero change
+        int currentPlayerIndex = battleEngine.getCurrentPlayerIndex();
+        if (currentPlayerIndex == battlePortraitIndex) return;
+        if (battlePortraitIndex >= 0 && battlePortraitIndex < battlePortraits.size()) {
+            battlePortraits.get(battlePortraitIndex).setBorder(BorderFactory.createLineBorder(UITheme.BORDER_NORMAL, 1));
+        }
+        if (currentPlayerIndex >= 0 && currentPlayerIndex < battlePortraits.size()) {
+            battlePortraits.get(currentPlayerIndex).setBorder(BorderFactory.createLineBorder(UITheme.PRIMARY_GREEN, 3));
+        }
+        battlePortraitIndex = currentPlayerIndex;
     }
 
     private void updateCharacterDetails() {
-        battleCharacterDetailsPanel.removeAll();
-        if (playerTeam == null || currentPlayerIndex >= playerTeam.length) return;
-
-        Character c = playerTeam[currentPlayerIndex];
-        
-        JPanel details = new JPanel();
-        details.setLayout(new BoxLayout(details, BoxLayout.Y_AXIS));
-        details.setOpaque(false);
-
-        JLabel nameLabel = new JLabel(c.name);
-        nameLabel.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 16));
-        nameLabel.setForeground(UITheme.PRIMARY_WHITE);
-        details.add(nameLabel);
-
-        JLabel typeLabel = new JLabel("Level " + c.level);
-        typeLabel.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 12));
-        typeLabel.setForeground(new Color(UITheme.PRIMARY_WHITE.getRed(), UITheme.PRIMARY_WHITE.getGreen(), UITheme.PRIMARY_WHITE.getBlue(), 180));
-        details.add(typeLabel);
-
-        details.add(Box.createVerticalStrut(10));
-
-        JLabel hpLabel = new JLabel("❤ " + c.currentHP + "/" + c.maxHP);
-        hpLabel.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 12));
-        hpLabel.setForeground(UITheme.PRIMARY_WHITE);
-        details.add(hpLabel);
-
-        JLabel manaLabel = new JLabel("💙 " + c.currentMana + "/" + c.maxMana);
-        manaLabel.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 12));
-        manaLabel.setForeground(UITheme.PRIMARY_WHITE);
-        details.add(manaLabel);
-
-        // Get attack and defense from character stats
-        JLabel atkLabel = new JLabel("⚔ " + c.currentAttack);
-        atkLabel.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 12));
-        atkLabel.setForeground(UITheme.PRIMARY_WHITE);
-        details.add(atkLabel);
-
-        JLabel defLabel = new JLabel("🛡 " + c.currentDefense);
-        defLabel.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 12));
-        defLabel.setForeground(UITheme.PRIMARY_WHITE);
-        details.add(defLabel);
-
-        battleCharacterDetailsPanel.add(details, BorderLayout.CENTER);
-        battleCharacterDetailsPanel.revalidate();
-        battleCharacterDetailsPanel.repaint();
-    }
+        if (battleCanvas != null) return;
+        Character c = battleEngine != null ? battleEngine.getCurrentHero() : null;
+        if (c == null) return;
 
-    private void updateAttackDetails() {
-        if (battleSkillPanel == null || playerTeam == null || currentPlayerIndex >= playerTeam.length) return;
+        if (battleHeroDetailLabels == null) {
+            JPanel details = new JPanel();
+            details.setLayout(new BoxLayout(details, BoxLayout.Y_AXIS));
+            details.setOpaque(false);
 
-        Character c = playerTeam[currentPlayerIndex];
-        
-        // Clear existing skills
-        battleSkillPanel.removeAll();
+            JLabel nameLabel = new JLabel();
+            nameLabel.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 16));
+            nameLabel.setForeground(UITheme.PRIMARY_WHITE);
+            details.add(nameLabel);
+
+            JLabel typeLabel = new JLabel();
+            typeLabel.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 12));
+            typeLabel.setForeground(new Color(UITheme.PRIMARY_WHITE.getRed(), UITheme.PRIMARY_WHITE.getGreen(), UITheme.PRIMARY_WHITE.getBlue(), 180));
+            details.add(typeLabel);
+
+            details.add(Box.createVerticalStrut(10));
+
+            // HP, mana, attack, defense
+            battleHeroDetailLabels = new JLabel[6];
+            battleHeroDetailLabels[0] = nameLabel;
+            battleHeroDetailLabels[1] = typeLabel;
+            Font statFont = new Font(Font.SANS_SERIF, Font.PLAIN, 12);
+            for (int i = 2; i < battleHeroDetailLabels.length; i++) {
+                JLabel statLabel = new JLabel();
+                statLabel.setFont(statFont);
+                statLabel.setForeground(UITheme.PRIMARY_WHITE);
+                details.add(statLabel);
+                battleHeroDetailLabels[i] = statLabel;
+            }
 
-        if (c.skills != null && !c.skills.isEmpty()) {
-            loadBattleSkillButtons(c);
+            battleCharacterDetailsPanel.add(details, BorderLayout.CENTER);
         }
 
-        battleSkillPanel.revalidate();
-        battleSkillPanel.repaint();
-        battleAttackDetailsPanel.revalidate();
-        battleAttackDetailsPanel.repaint();
+        // JLabel only revalidates and repaints when the text actually changes
+        battleHeroDetailLabels[0].setText(c.name);
+        battleHeroDetailLabels[1].setText("Level " + c.level);
+        battleHeroDetailLabels[2].setText("❤ " + c.currentHP + "/" + c.maxHP);
+        battleHeroDetailLabels[3].setText("💙 " + c.currentMana + "/" + c.maxMana);
+        battleHeroDetailLabels[4].setText("⚔ " + c.currentAttack);
+        battleHeroDetailLabels[5].setText("🛡 " + c.currentDefense);
+    }
+
+    /**
+     * Shows the current hero's skill rows and brings their enabled state up to date. Each hero's
+     * rows are built the first time it acts and then only shown, hidden and recolored.
+     */
+    private void updateAttackDetails() {
+        Character c = battleEngine != null ? battleEngine.getCurrentHero() : null;
+        if (battleSkillPanel == null || c == null) return;
+
+        JPanel skills = battleSkillLists.get(c);
+        if (skills == null) {
+            skills = new JPanel();
+            skills.setLayout(new BoxLayout(skills, BoxLayout.Y_AXIS));
+            skills.setOpaque(false);
+            if (c.skills != null) {
+                for (Skill skill : c.skills) {
+                    skills.add(new SkillRow(skill, c));
+                    skills.add(Box.createVerticalStrut(3));
+                }
+            }
+            skills.setVisible(false);
+            battleSkillPanel.add(skills);
+            battleSkillLists.put(c, skills);
+        }
+        if (c != battleSkillHero) {
+            JPanel previous = battleSkillHero != null ? battleSkillLists.get(battleSkillHero) : null;
+            if (previous != null) {
+                previous.setVisible(false);
+            }
+            skills.setVisible(true);
+            battleSkillHero = c;
+        }
+        for (Component comp : skills.getComponents()) {
+            if (comp instanceof SkillRow) {
+                ((SkillRow) comp).update(battleSkillsEnabled && !waitingForTarget);
+            }
+        }
     }
 
     // Old method kept for reference but not used
@@ -3277,7 +3107,9 @@ public class UnifiedGameUI extends JFrame {
         battleEnemyPanel.setOpaque(false);
         battleEnemyPanel.setBorder(UITheme.createTitledBorder("ENEMIES", new Color(UITheme.PRIMARY_RED.getRed(), UITheme.PRIMARY_RED.getGreen(), UITheme.PRIMARY_RED.getBlue(), 180), new Color(UITheme.BORDER_NORMAL.getRed(), UITheme.BORDER_NORMAL.getGreen(), UITheme.BORDER_NORMAL.getBlue(), 100)));
 
-        buildBattleCharacterPanels();
+        battlePlayerCards.clear();
+        battleEnemyCards.clear();
+        updateBattleCharacterPanels();
 
         panel.add(battlePlayerPanel, BorderLayout.WEST);
         panel.add(logScroll, BorderLayout.CENTER);
@@ -3330,11 +3162,11 @@ public class UnifiedGameUI extends JFrame {
     }
 
     private void announceCurrentWave() {
-        if (currentWavePlan == null || currentWavePlan.isEmpty()) return;
-        WaveEncounter wave = currentWavePlan.get(Math.min(activeWaveIndex, currentWavePlan.size() - 1));
+        WaveEncounter wave = battleEngine != null ? battleEngine.getActiveWave() : null;
+        if (wave == null) return;
         String label = String.format("Wave %d / %d%s",
             wave.waveNumber,
-            currentWavePlan.size(),
+            battleEngine.getWavePlan().size(),
             wave.bossWave ? " • Boss" : ""
         );
         appendBattleLog("\n--- " + label + " ---");
@@ -3345,55 +3177,48 @@ public class UnifiedGameUI extends JFrame {
     }
 
     private void updateWaveLabel() {
-        if (battleWaveLabel == null || currentWavePlan == null || currentWavePlan.isEmpty()) return;
-        WaveEncounter wave = currentWavePlan.get(Math.min(activeWaveIndex, currentWavePlan.size() - 1));
+        WaveEncounter wave = battleEngine != null ? battleEngine.getActiveWave() : null;
+        if (battleWaveLabel == null || wave == null) return;
         String text = String.format("Wave %d / %d%s",
             wave.waveNumber,
-            currentWavePlan.size(),
+            battleEngine.getWavePlan().size(),
             wave.bossWave ? " (Boss)" : ""
         );
         battleWaveLabel.setText(text);
     }
 
-    private void buildBattleCharacterPanels() {
-        battlePlayerPanel.removeAll();
-        battleEnemyPanel.removeAll();
-
-        for (Character c : playerTeam) {
-            JPanel card = createBattleCharacterCard(c, true);
-            battlePlayerPanel.add(card);
-            battlePlayerPanel.add(Box.createVerticalStrut(10));
-        }
-
-        for (Character e : enemyTeam) {
-            JPanel card = createBattleCharacterCard(e, false);
-            battleEnemyPanel.add(card);
-            battleEnemyPanel.add(Box.createVerticalStrut(10));
-        }
-
-        battlePlayerPanel.revalidate();
-        battlePlayerPanel.repaint();
-        battleEnemyPanel.revalidate();
-        battleEnemyPanel.repaint();
+    /**
+     * Brings the character cards up to date with the engine. Cards are created the first time
+     * they are needed; after that a new wave only rebinds enemy cards to the new enemies, and
+     * cards for slots the wave doesn't fill are hidden.
+     */
+    private void updateBattleCharacterPanels() {
+        if (battleCanvas != null) return;
+        bindBattleCards(battlePlayerPanel, battlePlayerCards, battleEngine.getPlayerTeam(), true);
+        bindBattleCards(battleEnemyPanel, battleEnemyCards, battleEngine.getEnemyTeam(), false);
     }
 
-    // ==================== ENEMY BLUEPRINTS ====================
-
-    private static class WaveEncounter {
-        final int waveNumber;
-        final boolean bossWave;
-        final Character[] enemies;
-
-        WaveEncounter(int waveNumber, boolean bossWave, Character[] enemies) {
-            this.waveNumber = waveNumber;
-            this.bossWave = bossWave;
-            this.enemies = enemies;
+    private void bindBattleCards(JPanel panel, List<BattleCard> cards, Character[] team, boolean isPlayer) {
+        while (cards.size() < team.length) {
+            BattleCard card = new BattleCard(isPlayer);
+            panel.add(card);
+            panel.add(card.spacer);
+            cards.add(card);
+        }
+        for (int i = 0; i < cards.size(); i++) {
+            BattleCard card = cards.get(i);
+            boolean used = i < team.length;
+            card.setVisible(used);
+            card.spacer.setVisible(used);
+            if (used) {
+                card.bind(team[i]);
+            }
         }
     }
 
     private class PausePanel extends JPanel {
         private float overlayAlpha = 0f;
-        private javax.swing.Timer animation;
+        private FrameClock.Ticker animation;
 
         PausePanel() {
             setOpaque(false);
@@ -3405,7 +3230,7 @@ public class UnifiedGameUI extends JFrame {
         private void startAnimation() {
             // Start with a small initial alpha to avoid white flash
             overlayAlpha = 0.01f;
-            animation = new javax.swing.Timer(16, e -> {
+            animation = FrameClock.schedule(null, FrameClock.TICK_MS, () -> {
                 overlayAlpha = Math.min(0.95f, overlayAlpha + 0.05f); // Almost black (95% opacity)
                 repaint();
                 if (overlayAlpha >= 0.95f) {
@@ -3448,407 +3273,347 @@ public class UnifiedGameUI extends JFrame {
         }
     }
 
-    @FunctionalInterface
-    private interface SkillFactory {
-        Skill create();
-    }
+    /**
+     * A pixel-art character card with HP and mana bars. A card is created once and then updated
+     * in place.
+     *
+     * The parts that rarely change (background, border art, name) are drawn once into a cached
+     * image and copied on each paint; only the two bars are drawn per paint. When a value changes
+     * {@link #update()} repaints just that bar's rectangle, so a hit costs the same however many
+     * cards are on screen. The cached layer is redrawn when the card is resized, rebound, dies,
+     * or the UI scale or screen changes.
+     */
+    private class BattleCard extends JPanel {
+        private static final int BAR_GAP = 2;
+
+        private final boolean isPlayer;
+        // The gap below this card in its column, hidden along with it
+        final Component spacer = Box.createVerticalStrut(10);
+        private Character character;
+        // What the card currently shows
+        private int shownHP;
+        private int shownMaxHP = -1;
+        private int shownMana;
+        private int shownMaxMana = -1;
+        private boolean shownDead;
+        private Color borderColor;
+        private int borderWidth;
+
+        // Background, border art and name, and what they were drawn for
+        private BufferedImage staticLayer;
+        private boolean staticLayerValid;
+        private GraphicsConfiguration staticConfig;
+        private Insets staticInsets;
+        private double staticScaleX;
+        private double staticScaleY;
+        private float staticThemeScale;
+
+        BattleCard(boolean isPlayer) {
+            this.isPlayer = isPlayer;
+            setOpaque(false);
+            // Ensure card has proper size to show all bars
+            Dimension cardSize = new Dimension(Math.max(250, UITheme.CHARACTER_CARD.width), Math.max(120, UITheme.CHARACTER_CARD.height));
+            setPreferredSize(cardSize);
+            setMinimumSize(cardSize);
+            setMaximumSize(new Dimension(cardSize.width, Integer.MAX_VALUE)); // Allow vertical expansion
+
+            if (!isPlayer) {
+                addMouseListener(new MouseAdapter() {
+                    @Override
+                    public void mouseClicked(MouseEvent e) {
+                        if (waitingForTarget && character.isAlive()) {
+                            onBattleTargetSelected(character);
+                        }
+                    }
 
-    private static class MinionTemplate {
-        final String name;
-        final int hp;
-        final int mana;
-        final int attack;
-        final int defense;
-        final int speed;
-        final SkillFactory[] factories;
-
-        MinionTemplate(String name, int hp, int mana, int attack, int defense, int speed, SkillFactory... factories) {
-            this.name = name;
-            this.hp = hp;
-            this.mana = mana;
-            this.attack = attack;
-            this.defense = defense;
-            this.speed = speed;
-            this.factories = factories;
-        }
-
-        Character instantiate(int levelTarget, double difficulty) {
-            DynamicEnemy enemy = new DynamicEnemy(name, hp, mana, attack, defense, speed, factories);
-            enemy.syncToLevel(Math.max(1, levelTarget));
-            // Balanced scaling - HP scales with difficulty, mana scales less, attack will be overridden by applyEnemyScaling
-            double hpMult = difficulty;
-            double manaMult = 1.0 + Math.max(0, difficulty - 1) * 0.25; // Reduced mana scaling
-            double atkMult = 1.0; // Attack will be scaled to hero HP in applyEnemyScaling, so keep base
-            double defMult = 1.0 + Math.max(0, difficulty - 1) * 0.2; // Lower defense scaling
-            enemy.applyStatMultiplier(hpMult, manaMult, atkMult, defMult);
-            return enemy;
-        }
-    }
+                    @Override
+                    public void mouseEntered(MouseEvent e) {
+                        if (waitingForTarget && character.isAlive()) {
+                            setCardBorder(UITheme.BORDER_HOVER, 3);
+                        }
+                    }
 
-    private static class DynamicEnemy extends Character {
-        DynamicEnemy(String name, int hp, int mana, int attack, int defense, int speed, SkillFactory... factories) {
-            super(name, hp, mana, attack, defense, speed);
-            if (factories != null) {
-                for (SkillFactory factory : factories) {
-                    skills.add(factory.create());
-                }
+                    @Override
+                    public void mouseExited(MouseEvent e) {
+                        setHighlighted(waitingForTarget);
+                    }
+                });
             }
         }
 
-        @Override
-        public void initializeSkills() {
-            // Skills injected after construction
-        }
-    }
-
-    private static class SavageSwipeSkill extends Skill {
-        private final double multiplier;
-
-        SavageSwipeSkill(String name, double multiplier) {
-            this.name = name;
-            this.multiplier = multiplier;
-            this.manaCost = 0;
-            this.cooldown = 0;
-            this.description = "Deal " + Math.round(multiplier * 100) + "% attack damage to one foe.";
-            this.targetType = TargetType.SINGLE_ENEMY;
-        }
-
-        @Override
-        public void execute(Character user, Character[] targets) {
-            if (targets == null || targets.length == 0 || targets[0] == null) return;
-            Character target = targets[0];
-            int damage = (int) Math.max(5, user.currentAttack * multiplier);
-            target.takeDamage(damage);
-        }
-    }
-
-    private static class VenomSplashSkill extends Skill {
-        private final double multiplier;
-
-        VenomSplashSkill(String name, double multiplier, int manaCost, int cooldown) {
-            this.name = name;
-            this.multiplier = multiplier;
-            this.manaCost = manaCost;
-            this.cooldown = cooldown;
-            this.description = "Hits all foes for " + Math.round(multiplier * 100) + "% attack damage.";
-            this.targetType = TargetType.ALL_ENEMIES;
+        /** Shows {@code c} on this card, e.g. an enemy of the next wave. */
+        void bind(Character c) {
+            if (c != character) {
+                character = c;
+                shownMaxHP = -1;
+                shownMaxMana = -1;
+                shownDead = false;
+                staticLayerValid = false;
+                repaint();
+            }
+            update();
         }
 
-        @Override
-        public void execute(Character user, Character[] targets) {
-            if (targets == null || targets.length == 0) return;
-            if (user.currentMana < manaCost) return;
-            user.currentMana -= manaCost;
-            for (Character target : targets) {
-                if (target != null && target.isAlive()) {
-                    int damage = (int) Math.max(4, user.currentAttack * multiplier);
-                    target.takeDamage(damage);
-                }
+        void update() {
+            Character c = character;
+            if (c.currentHP != shownHP || c.maxHP != shownMaxHP) {
+                shownHP = c.currentHP;
+                shownMaxHP = c.maxHP;
+                repaint(barBounds(0));
+            }
+            if (c.currentMana != shownMana || c.maxMana != shownMaxMana) {
+                shownMana = c.currentMana;
+                shownMaxMana = c.maxMana;
+                repaint(barBounds(1));
+            }
+            if (!c.isAlive() && !shownDead) {
+                shownDead = true;
+                staticLayerValid = false;
+                repaint();
             }
-            resetCooldown();
         }
-    }
-
-    private static class SoulDrainSkill extends Skill {
-        private final double multiplier;
-        private final double healRatio;
 
-        SoulDrainSkill(String name, double multiplier, double healRatio) {
-            this.name = name;
-            this.multiplier = multiplier;
-            this.healRatio = healRatio;
-            this.manaCost = 18;
-            this.cooldown = 2;
-            this.description = "Damage one foe and restore health.";
-            this.targetType = TargetType.SINGLE_ENEMY;
+        /** Marks the card as a target to click, or back to normal. */
+        void setHighlighted(boolean highlighted) {
+            if (highlighted && !isPlayer && character.isAlive()) {
+                setCardBorder(UITheme.BORDER_HIGHLIGHT, 2);
+            } else {
+                setCardBorder(UITheme.BORDER_NORMAL, 2);
+            }
         }
 
-        @Override
-        public void execute(Character user, Character[] targets) {
-            if (targets == null || targets.length == 0 || targets[0] == null) return;
-            if (user.currentMana < manaCost) return;
-            user.currentMana -= manaCost;
-            Character target = targets[0];
-            int damage = (int) Math.max(6, user.currentAttack * multiplier);
-            target.takeDamage(damage);
-            int heal = (int) Math.max(5, damage * healRatio);
-            user.restoreHealth(heal);
-            resetCooldown();
+        private void setCardBorder(Color color, int width) {
+            if (color.equals(borderColor) && width == borderWidth) return;
+            setBorder(BorderFactory.createLineBorder(color, width));
+            borderColor = color;
+            borderWidth = width;
         }
-    }
-
-    private static class AegisPulseSkill extends Skill {
-        private final int healAmount;
 
-        AegisPulseSkill(String name, int healAmount) {
-            this.name = name;
-            this.healAmount = healAmount;
-            this.manaCost = 25;
-            this.cooldown = 3;
-            this.description = "Heals all allies for " + healAmount + " HP (only when caster HP ≤ 5%).";
-            this.targetType = TargetType.ALL_ALLIES;
+        /** Where bar {@code row} (0 for HP, 1 for mana) is drawn: under the name, sharing the rest. */
+        private Rectangle barBounds(int row) {
+            Insets insets = getInsets();
+            int top = insets.top + getFontMetrics(UITheme.FONT_CARD_NAME).getHeight() + 5;
+            int height = Math.max(0, (getHeight() - insets.bottom - top - BAR_GAP) / 2);
+            return new Rectangle(insets.left, top + row * (height + BAR_GAP), getWidth() - insets.left - insets.right, height);
         }
 
         @Override
-        public void execute(Character user, Character[] targets) {
-            if (targets == null || targets.length == 0) return;
-            if (user.currentMana < manaCost) return;
-            
-            // Priest enemies only heal when their HP is 5% or below
-            double hpPercent = (double) user.currentHP / user.maxHP;
-            if (hpPercent > 0.05) {
-                // HP is above 5%, don't heal
-                return;
-            }
-            
-            // Low to medium chance (35% chance) to actually heal
-            if (Math.random() > 0.35) {
-                // Failed chance, don't heal
-                return;
-            }
-            
-            user.currentMana -= manaCost;
-            for (Character ally : targets) {
-                if (ally != null && ally.isAlive()) {
-                    ally.restoreHealth(healAmount);
-                }
+        protected void paintComponent(Graphics g) {
+            super.paintComponent(g);
+            if (character == null || getWidth() <= 0 || getHeight() <= 0) return;
+            Graphics2D g2d = (Graphics2D) g.create();
+            AffineTransform transform = g2d.getTransform();
+            double scaleX = transform.getScaleX();
+            double scaleY = transform.getScaleY();
+            if (!staticLayerValid || staticLayer == null
+                    || staticLayer.getWidth() != (int) Math.ceil(getWidth() * scaleX)
+                    || staticLayer.getHeight() != (int) Math.ceil(getHeight() * scaleY)
+                    || scaleX != staticScaleX || scaleY != staticScaleY
+                    || staticConfig != getGraphicsConfiguration()
+                    || !getInsets().equals(staticInsets)
+                    || staticThemeScale != UITheme.getScaleFactor()) {
+                renderStaticLayer(scaleX, scaleY);
             }
-            resetCooldown();
+            g2d.drawImage(staticLayer, 0, 0, getWidth(), getHeight(), null);
+
+            Character c = character;
+            paintBar(g2d, barBounds(0), c.currentHP, c.maxHP, UITheme.HP_GREEN);
+            paintBar(g2d, barBounds(1), c.currentMana, c.maxMana, UITheme.MANA_BLUE);
+            g2d.dispose();
         }
-    }
 
-    private JPanel createBattleCharacterCard(Character c, boolean isPlayer) {
-        // Pixel-art character card
-        JPanel card = new JPanel(new BorderLayout(5, 5)) {
-            @Override
-            protected void paintComponent(Graphics g) {
-                super.paintComponent(g);
-                Graphics2D g2d = (Graphics2D) g.create();
-                g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
-                
-                // Much darker background
-                Color bgColor = new Color(8, 10, 12, 200);
-                g2d.setColor(bgColor);
-                g2d.fillRect(0, 0, getWidth(), getHeight());
-                
-                // Subtle border
-                BufferedImage borderImg = PixelArtUI.loadImage("/kennyresources/PNG/Default/Border/panel-border-000.png");
-                if (borderImg != null) {
-                    g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.15f));
-                    PixelArtUI.drawNineSlice(g2d, borderImg, 0, 0, getWidth(), getHeight());
-                } else {
-                    g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.3f));
-                    g2d.setColor(UITheme.BORDER_NORMAL);
-                    g2d.setStroke(new BasicStroke(1f));
-                    g2d.drawRect(1, 1, getWidth() - 3, getHeight() - 3);
-                }
-                g2d.dispose();
+        private void renderStaticLayer(double scaleX, double scaleY) {
+            int width = (int) Math.ceil(getWidth() * scaleX);
+            int height = (int) Math.ceil(getHeight() * scaleY);
+            GraphicsConfiguration config = getGraphicsConfiguration();
+            if (staticLayer == null || staticLayer.getWidth() != width || staticLayer.getHeight() != height || config != staticConfig) {
+                staticLayer = config != null
+                    ? config.createCompatibleImage(width, height, Transparency.TRANSLUCENT)
+                    : new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
             }
-        };
-        card.setOpaque(false);
-        // Ensure card has proper size to show all bars
-        Dimension cardSize = new Dimension(Math.max(250, UITheme.CHARACTER_CARD.width), Math.max(120, UITheme.CHARACTER_CARD.height));
-        card.setPreferredSize(cardSize);
-        card.setMinimumSize(cardSize);
-        card.setMaximumSize(new Dimension(cardSize.width, Integer.MAX_VALUE)); // Allow vertical expansion
-
-        JLabel nameLabel = new JLabel(c.name);
-        nameLabel.setFont(UITheme.FONT_CARD_NAME);
-        nameLabel.setForeground(UITheme.PRIMARY_WHITE);
-        nameLabel.setHorizontalAlignment(SwingConstants.CENTER);
+            Graphics2D g2d = staticLayer.createGraphics();
+            g2d.setComposite(AlphaComposite.Clear);
+            g2d.fillRect(0, 0, width, height);
+            g2d.setComposite(AlphaComposite.SrcOver);
+            g2d.scale(scaleX, scaleY);
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
 
-        JProgressBar hpBar = new JProgressBar(0, c.maxHP);
-        hpBar.setValue(c.currentHP);
-        hpBar.setStringPainted(true);
-        hpBar.setString(c.currentHP + " / " + c.maxHP);
-        hpBar.setForeground(UITheme.HP_GREEN);
-        hpBar.setPreferredSize(new Dimension(0, 25)); // Ensure proper height
-        hpBar.setMinimumSize(new Dimension(0, 25));
-
-        JProgressBar manaBar = new JProgressBar(0, c.maxMana);
-        manaBar.setValue(c.currentMana);
-        manaBar.setStringPainted(true);
-        manaBar.setString(c.currentMana + " / " + c.maxMana);
-        manaBar.setForeground(UITheme.MANA_BLUE);
-        manaBar.setPreferredSize(new Dimension(0, 25)); // Ensure proper height
-        manaBar.setMinimumSize(new Dimension(0, 25));
-
-        JPanel barsPanel = new JPanel(new GridLayout(2, 1, 2, 2));
-        barsPanel.setOpaque(false);
-        barsPanel.setPreferredSize(new Dimension(0, 60)); // Ensure bars have space
-        barsPanel.add(hpBar);
-        barsPanel.add(manaBar);
-
-        card.add(nameLabel, BorderLayout.NORTH);
-        card.add(barsPanel, BorderLayout.CENTER);
-
-        card.putClientProperty("character", c);
-        card.putClientProperty("hpBar", hpBar);
-        card.putClientProperty("manaBar", manaBar);
-        card.putClientProperty("isPlayer", isPlayer);
-
-        if (!isPlayer) {
-            card.addMouseListener(new MouseAdapter() {
-                @Override
-                public void mouseClicked(MouseEvent e) {
-                    if (waitingForTarget && c.isAlive()) {
-                        onBattleTargetSelected(c);
-                    }
-                }
+            // Much darker background
+            Color bgColor = shownDead ? UITheme.DEAD_GRAY : new Color(8, 10, 12, 200);
+            g2d.setColor(bgColor);
+            g2d.fillRect(0, 0, getWidth(), getHeight());
 
-                @Override
-                public void mouseEntered(MouseEvent e) {
-                    if (waitingForTarget && c.isAlive()) {
-                        card.setBorder(BorderFactory.createLineBorder(UITheme.BORDER_HOVER, 3));
-                    }
-                }
+            // Subtle border
+            BufferedImage borderImg = PixelArtUI.loadImage("/kennyresources/PNG/Default/Border/panel-border-000.png");
+            if (borderImg != null) {
+                g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.15f));
+                PixelArtUI.drawNineSlice(g2d, borderImg, 0, 0, getWidth(), getHeight());
+            } else {
+                g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.3f));
+                g2d.setColor(UITheme.BORDER_NORMAL);
+                g2d.setStroke(new BasicStroke(1f));
+                g2d.drawRect(1, 1, getWidth() - 3, getHeight() - 3);
+            }
+            g2d.setComposite(AlphaComposite.SrcOver);
 
-                @Override
-                public void mouseExited(MouseEvent e) {
-                    if (waitingForTarget) {
-                        card.setBorder(BorderFactory.createLineBorder(UITheme.BORDER_HIGHLIGHT, 2));
-                    } else {
-                        card.setBorder(BorderFactory.createLineBorder(UITheme.BORDER_NORMAL, 2));
-                    }
-                }
-            });
-        }
+            Insets insets = getInsets();
+            FontRenderingUtil.applyTextRenderingHints(g2d);
+            g2d.setFont(UITheme.FONT_CARD_NAME);
+            g2d.setColor(UITheme.PRIMARY_WHITE);
+            FontMetrics fm = g2d.getFontMetrics();
+            int innerWidth = getWidth() - insets.left - insets.right;
+            g2d.drawString(character.name, insets.left + (innerWidth - fm.stringWidth(character.name)) / 2, insets.top + fm.getAscent());
+            g2d.dispose();
 
-        return card;
+            staticLayerValid = true;
+            staticConfig = config;
+            staticInsets = insets;
+            staticScaleX = scaleX;
+            staticScaleY = scaleY;
+            staticThemeScale = UITheme.getScaleFactor();
+        }
+
+        private void paintBar(Graphics2D g2d, Rectangle bar, int value, int max, Color color) {
+            if (bar.width <= 0 || bar.height <= 0) return;
+            g2d.setColor(BATTLE_BAR_TRACK);
+            g2d.fillRect(bar.x, bar.y, bar.width, bar.height);
+            int filled = max <= 0 ? 0 : (int) ((long) bar.width * Math.max(0, Math.min(value, max)) / max);
+            g2d.setColor(color);
+            g2d.fillRect(bar.x, bar.y, filled, bar.height);
+            g2d.setColor(UITheme.BORDER_NORMAL);
+            g2d.drawRect(bar.x, bar.y, bar.width - 1, bar.height - 1);
+
+            FontRenderingUtil.applyTextRenderingHints(g2d);
+            g2d.setFont(BATTLE_BAR_FONT);
+            g2d.setColor(UITheme.PRIMARY_WHITE);
+            FontMetrics fm = g2d.getFontMetrics();
+            String text = value + " / " + max;
+            g2d.drawString(text, bar.x + (bar.width - fm.stringWidth(text)) / 2, bar.y + (bar.height + fm.getAscent() - fm.getDescent()) / 2);
+        }
     }
 
     // ==================== BATTLE LOGIC ====================
 
     private void startBattle() {
-        appendBattleLog("⚔ Battle Started! Waves incoming: " + currentWavePlan.size());
+        appendBattleLog("⚔ Battle Started! Waves incoming: " + battleEngine.getWavePlan().size());
         announceCurrentWave();
-        appendBattleLog(">>> " + playerTeam[0].name + "'s turn\n");
-        prepareBattlePlayerTurn();
+        handleBattleStep(battleEngine.nextTurn());
     }
     
     private void resumeBattle() {
-        appendBattleLog("⚔ Battle Resumed! Wave " + (activeWaveIndex + 1) + " / " + currentWavePlan.size());
+        appendBattleLog("⚔ Battle Resumed! Wave " + (battleEngine.getActiveWaveIndex() + 1) + " / " + battleEngine.getWavePlan().size());
         announceCurrentWave();
-        if (playerTeam != null && currentPlayerIndex < playerTeam.length && playerTeam[currentPlayerIndex] != null) {
-            appendBattleLog(">>> " + playerTeam[currentPlayerIndex].name + "'s turn\n");
-        }
-        prepareBattlePlayerTurn();
+        handleBattleStep(battleEngine.resumeTurn());
     }
 
     private void prepareBattlePlayerTurn() {
-        while (currentPlayerIndex < playerTeam.length && !playerTeam[currentPlayerIndex].isAlive()) {
-            currentPlayerIndex++;
-        }
-
-        if (currentPlayerIndex >= playerTeam.length) {
-            currentPlayerIndex = 0;
-            while (currentPlayerIndex < playerTeam.length && !playerTeam[currentPlayerIndex].isAlive()) {
-                currentPlayerIndex++;
-            }
-        }
-
-        if (currentPlayerIndex >= playerTeam.length || !playerTeam[currentPlayerIndex].isAlive()) {
+        Character current = battleEngine.getCurrentActor();
+        if (current == null || !battleEngine.isPlayerSide(current)) {
             checkBattleEnd();
             return;
         }
+        appendBattleLog(">>> " + current.name + "'s turn\n");
 
-        Character current = playerTeam[currentPlayerIndex];
         if (battleTurnLabel != null) {
         battleTurnLabel.setText("PLAYER TURN: " + current.name);
         }
         battleInstructionLabel.setText("SELECT AN ATTACK");
         battleInstructionLabel.setForeground(new Color(100, 150, 255)); // Light blue
 
-        updateBattleBars();
+        updateBattleBars(); // Also updates the enemy stats
         updateCharacterDetails();
-        updateEnemyDetails();
-        buildCharacterList();
-        updateAttackDetails(); // This will initialize battleSkillPanel and load buttons
+        updateCharacterList();
 
         selectedSkill = null;
         waitingForTarget = false;
         clearBattleHighlights();
+        setBattleSkillButtonsEnabled(true); // Shows the hero's skills
     }
 
-    private void loadBattleSkillButtons(Character character) {
-        if (battleSkillPanel == null) return;
-        battleSkillPanel.removeAll();
+    /**
+     * A clickable skill in the bottom right skill list, built once per hero and recolored in
+     * place when the skill becomes usable or unusable.
+     */
+    private class SkillRow extends JPanel {
+        private final Skill skill;
+        private final Character user;
+        private final JLabel nameLabel;
+        private final JLabel descLabel;
+        private boolean hovered;
+        // Null until the first update
+        private Boolean usable;
+
+        SkillRow(Skill skill, Character user) {
+            super(new BorderLayout(5, 2));
+            this.skill = skill;
+            this.user = user;
+            setOpaque(false);
+            setPreferredSize(new Dimension(0, 45));
+            setBorder(new EmptyBorder(5, 5, 5, 5));
 
-        for (Skill skill : character.skills) {
-            // Simple clickable skill panels for bottom right
-            final Skill skillRef = skill;
-            final boolean canUse = skill.canUse(character);
-            
-            JPanel skillPanel = new JPanel(new BorderLayout(5, 2)) {
-                @Override
-                protected void paintComponent(Graphics g) {
-                    super.paintComponent(g);
-                    Boolean hovered = (Boolean) getClientProperty("isHovered");
-                    if (hovered != null && hovered && canUse) {
-                        Graphics2D g2d = (Graphics2D) g.create();
-                        g2d.setColor(new Color(UITheme.PRIMARY_GREEN.getRed(), UITheme.PRIMARY_GREEN.getGreen(), UITheme.PRIMARY_GREEN.getBlue(), 30));
-                        g2d.fillRect(0, 0, getWidth(), getHeight());
-                        g2d.dispose();
-                    }
-                }
-            };
-            skillPanel.setOpaque(false);
-            skillPanel.setCursor(canUse ? Cursor.getPredefinedCursor(Cursor.HAND_CURSOR) : Cursor.getDefaultCursor());
-            skillPanel.setPreferredSize(new Dimension(0, 45));
-            skillPanel.setBorder(new EmptyBorder(5, 5, 5, 5));
-            
             // Skill name
-            JLabel nameLabel = new JLabel(skill.getName());
-            nameLabel.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 13));
-            nameLabel.setForeground(canUse ? UITheme.PRIMARY_WHITE : new Color(UITheme.TEXT_GRAY.getRed(), UITheme.TEXT_GRAY.getGreen(), UITheme.TEXT_GRAY.getBlue(), 150));
-            
+            nameLabel = new JLabel(skill.getName());
+            nameLabel.setFont(SKILL_NAME_FONT);
+
             // Skill description
-            JLabel descLabel = new JLabel(skill.getDescription());
-            descLabel.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 11));
-            descLabel.setForeground(canUse ? new Color(UITheme.PRIMARY_WHITE.getRed(), UITheme.PRIMARY_WHITE.getGreen(), UITheme.PRIMARY_WHITE.getBlue(), 180) : new Color(UITheme.TEXT_GRAY.getRed(), UITheme.TEXT_GRAY.getGreen(), UITheme.TEXT_GRAY.getBlue(), 120));
-            
+            descLabel = new JLabel(skill.getDescription());
+            descLabel.setFont(SKILL_DESCRIPTION_FONT);
+
             JPanel textPanel = new JPanel();
             textPanel.setLayout(new BoxLayout(textPanel, BoxLayout.Y_AXIS));
             textPanel.setOpaque(false);
             textPanel.add(nameLabel);
             textPanel.add(descLabel);
-            
-            skillPanel.add(textPanel, BorderLayout.CENTER);
-            
+
+            add(textPanel, BorderLayout.CENTER);
+
             // Mouse listeners for click and hover
-            skillPanel.addMouseListener(new MouseAdapter() {
+            addMouseListener(new MouseAdapter() {
                 @Override
                 public void mouseClicked(MouseEvent e) {
-                    if (canUse) {
-                        onBattleSkillSelected(skillRef, character);
+                    if (Boolean.TRUE.equals(usable)) {
+                        onBattleSkillSelected(SkillRow.this.skill, SkillRow.this.user);
                         updateAttackDetails();
                     }
                 }
-                
+
                 @Override
                 public void mouseEntered(MouseEvent e) {
-                    if (canUse) {
-                        skillPanel.putClientProperty("isHovered", true);
-                        skillPanel.repaint();
+                    hovered = true;
+                    if (Boolean.TRUE.equals(usable)) {
+                        repaint();
                     }
                 }
-                
+
                 @Override
                 public void mouseExited(MouseEvent e) {
-                    skillPanel.putClientProperty("isHovered", false);
-                    skillPanel.repaint();
+                    hovered = false;
+                    repaint();
                 }
             });
-            
-            // Initialize hover state
-            skillPanel.putClientProperty("isHovered", false);
-            
-            battleSkillPanel.add(skillPanel);
-            battleSkillPanel.add(Box.createVerticalStrut(3));
         }
 
-        battleSkillPanel.revalidate();
-        battleSkillPanel.repaint();
+        /** Recolors the row if whether it can be clicked has changed. */
+        void update(boolean enabled) {
+            boolean canUse = enabled && skill.canUse(user);
+            if (usable != null && usable == canUse) return;
+            usable = canUse;
+            setCursor(canUse ? Cursor.getPredefinedCursor(Cursor.HAND_CURSOR) : Cursor.getDefaultCursor());
+            nameLabel.setForeground(canUse ? UITheme.PRIMARY_WHITE : SKILL_NAME_DISABLED);
+            descLabel.setForeground(canUse ? SKILL_DESCRIPTION_ENABLED : SKILL_DESCRIPTION_DISABLED);
+            repaint();
+        }
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            super.paintComponent(g);
+            if (hovered && Boolean.TRUE.equals(usable)) {
+                Graphics2D g2d = (Graphics2D) g.create();
+                g2d.setColor(new Color(UITheme.PRIMARY_GREEN.getRed(), UITheme.PRIMARY_GREEN.getGreen(), UITheme.PRIMARY_GREEN.getBlue(), 30));
+                g2d.fillRect(0, 0, getWidth(), getHeight());
+                g2d.dispose();
+            }
+        }
     }
 
     private void onBattleSkillSelected(Skill skill, Character user) {
@@ -3858,57 +3623,30 @@ public class UnifiedGameUI extends JFrame {
         }
 
         selectedSkill = skill;
-        TargetType targetType = skill.getTargetType();
-
-        switch (targetType) {
-            case SELF:
-                appendBattleLog(user.name + " uses " + skill.getName() + " on self!");
-                executeSkillWithLog(skill, user, new Character[]{user});
-                endBattlePlayerTurn();
-                break;
-
-            case ALL_ALLIES:
-                appendBattleLog(user.name + " uses " + skill.getName() + " on all allies!");
-                executeSkillWithLog(skill, user, getAllAlive(playerTeam));
-                endBattlePlayerTurn();
-                break;
-
-            case ALL_ENEMIES:
-                appendBattleLog(user.name + " uses " + skill.getName() + " on all enemies!");
-                executeSkillWithLog(skill, user, getAllAlive(enemyTeam));
-                endBattlePlayerTurn();
-                break;
-
-            case SINGLE_ENEMY:
-                battleInstructionLabel.setText("Click on an ENEMY to target!");
-                battleInstructionLabel.setForeground(UITheme.PRIMARY_RED);
-                waitingForTarget = true;
-                setBattleSkillButtonsEnabled(false);
-                highlightBattleEnemies();
-                break;
-
-            default:
-                endBattlePlayerTurn();
-                break;
+        if (battleEngine.needsTarget(skill)) {
+            battleInstructionLabel.setText("Click on an ENEMY to target!");
+            battleInstructionLabel.setForeground(UITheme.PRIMARY_RED);
+            waitingForTarget = true;
+            setBattleSkillButtonsEnabled(false);
+            highlightBattleEnemies();
+            return;
         }
+
+        battleEngine.performHeroAction(user, skill, null);
+        endBattlePlayerTurn();
     }
 
     private void onBattleTargetSelected(Character target) {
         if (!waitingForTarget || selectedSkill == null) return;
 
-        Character user = playerTeam[currentPlayerIndex];
-        appendBattleLog(user.name + " uses " + selectedSkill.getName() + " on " + target.name + "!");
-        executeSkillWithLog(selectedSkill, user, new Character[]{target});
+        Character user = battleEngine.getCurrentHero();
+        battleEngine.performHeroAction(user, selectedSkill, target);
 
         clearBattleHighlights();
         endBattlePlayerTurn();
     }
 
     private void endBattlePlayerTurn() {
-        if (selectedSkill != null) {
-            selectedSkill.resetCooldown();
-        }
-
         selectedSkill = null;
         waitingForTarget = false;
         battleInstructionLabel.setText("Processing...");
@@ -3916,131 +3654,67 @@ public class UnifiedGameUI extends JFrame {
         setBattleSkillButtonsEnabled(false);
         updateBattleBars();
 
-        javax.swing.Timer delay = new javax.swing.Timer(800, e -> {
-            if (checkBattleEnd()) return;
-
-            currentPlayerIndex++;
-            if (currentPlayerIndex >= playerTeam.length) {
-                currentPlayerIndex = 0;
-                battleEnemyTurn();
-            } else {
-                prepareBattlePlayerTurn();
-            }
-            ((javax.swing.Timer) e.getSource()).stop();
-        });
-        delay.setRepeats(false);
-        delay.start();
+        battlePacer.schedule(800, () -> handleBattleStep(battleEngine.endHeroTurn()));
     }
 
     private void battleEnemyTurn() {
-        battleTurnLabel.setText("ENEMY TURN");
-        appendBattleLog("\n=== ENEMY TURN ===");
-
-        javax.swing.Timer enemyDelay = new javax.swing.Timer(500, null);
-        final int[] enemyIndex = {0};
-
-        enemyDelay.addActionListener(new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                if (enemyIndex[0] < enemyTeam.length) {
-                    Character enemy = enemyTeam[enemyIndex[0]];
-                    if (enemy.isAlive()) {
-                        executeBattleEnemyAction(enemy);
-                    }
-                    enemyIndex[0]++;
-                } else {
-                    enemyDelay.stop();
-                    reduceBattleCooldowns();
-
-                    javax.swing.Timer endTurn = new javax.swing.Timer(500, evt -> {
-                        if (!checkBattleEnd()) {
-                            prepareBattlePlayerTurn();
-                        }
-                        ((javax.swing.Timer) evt.getSource()).stop();
-                    });
-                    endTurn.setRepeats(false);
-                    endTurn.start();
-                }
-            }
-        });
-
-        enemyDelay.start();
-    }
+        setBattleSkillButtonsEnabled(false);
 
-    private void executeBattleEnemyAction(Character enemy) {
-        Skill skill = null;
-        for (Skill s : enemy.skills) {
-            if (s.canUse(enemy)) {
-                skill = s;
-                break;
-            }
+        if (battleSkipButton != null) {
+            battleSkipButton.setEnabled(true);
         }
 
-        if (skill == null && !enemy.skills.isEmpty()) {
-            skill = enemy.skills.get(0);
-        }
+        battlePacer.schedule(500, () -> {
+            BattleEngine.Step next = battleEngine.playEnemyTurn();
+            updateBattleBars();
 
-        if (skill != null) {
-            TargetType targetType = skill.getTargetType();
-            switch (targetType) {
-                case ALL_ENEMIES:
-                    Character[] players = getAllAlive(playerTeam);
-                    if (players.length > 0) {
-                        appendBattleLog(enemy.name + " unleashes " + skill.getName() + " on your party!");
-                        executeSkillWithLog(skill, enemy, players);
-                    }
-                    break;
-                case ALL_ALLIES:
-                    Character[] allies = getAllAlive(enemyTeam);
-                    if (allies.length > 0) {
-                        appendBattleLog(enemy.name + " empowers allies with " + skill.getName() + "!");
-                        executeSkillWithLog(skill, enemy, allies);
-                    }
-                    break;
-                case SELF:
-                    appendBattleLog(enemy.name + " uses " + skill.getName() + "!");
-                    executeSkillWithLog(skill, enemy, new Character[]{enemy});
-                    break;
-                default:
-            Character target = getRandomAlive(playerTeam);
-            if (target != null) {
-                        appendBattleLog(enemy.name + " uses " + skill.getName() + " on " + target.name + "!");
-                        executeSkillWithLog(skill, enemy, new Character[]{target});
-            }
-                    break;
+            if (next == BattleEngine.Step.ENEMY_TURN) {
+                handleBattleStep(next);
+                return;
             }
-            updateBattleBars();
-        }
+            battlePacer.schedule(500, () -> handleBattleStep(next));
+        });
     }
 
     private boolean checkBattleEnd() {
-        boolean playersAlive = anyAlive(playerTeam);
-        boolean enemiesAlive = anyAlive(enemyTeam);
+        BattleEngine.Step end = battleEngine.checkBattleEnd();
+        if (end == null) return false;
+        handleBattleStep(end);
+        return true;
+    }
 
-        if (!enemiesAlive) {
-            if (advanceToNextWave()) {
-                return true;
+    /**
+     * Routes the engine's next step to the matching screen update.
+     */
+    private void handleBattleStep(BattleEngine.Step step) {
+        if (step != BattleEngine.Step.ENEMY_TURN) {
+            // The enemy phase is over; stop skipping and hide the skip control
+            battlePacer.endFastForward();
+            if (battleSkipButton != null) {
+                battleSkipButton.setEnabled(false);
             }
-            endBattle(true);
-            return true;
-        } else if (!playersAlive) {
-            endBattle(false);
-            return true;
         }
-
-        return false;
+        switch (step) {
+            case HERO_TURN:
+                prepareBattlePlayerTurn();
+                break;
+            case ENEMY_TURN:
+                battleEnemyTurn();
+                break;
+            case WAVE_CLEARED:
+                onWaveCleared();
+                break;
+            case VICTORY:
+                endBattle(true);
+                break;
+            case DEFEAT:
+                endBattle(false);
+                break;
+        }
     }
 
-    private boolean advanceToNextWave() {
-        if (currentWavePlan == null) return false;
-        if (activeWaveIndex + 1 >= currentWavePlan.size()) {
-            return false;
-        }
-        activeWaveIndex++;
-        WaveEncounter next = currentWavePlan.get(activeWaveIndex);
-        enemyTeam = next.enemies;
-        applyEnemyScaling(selectedWorldId, next);
-        buildBattleCharacterPanels();
+    private void onWaveCleared() {
+        updateBattleCharacterPanels();
         selectedSkill = null;
         waitingForTarget = false;
         announceCurrentWave();
@@ -4050,25 +3724,20 @@ public class UnifiedGameUI extends JFrame {
         saveActiveProfile();
         appendBattleLog("\n💾 Progress auto-saved!");
 
-        javax.swing.Timer resume = new javax.swing.Timer(900, e -> {
-            currentPlayerIndex = 0;
-            prepareBattlePlayerTurn();
-            ((javax.swing.Timer) e.getSource()).stop();
-        });
-        resume.setRepeats(false);
-        resume.start();
-        return true;
+        battlePacer.schedule(900, () -> handleBattleStep(battleEngine.nextTurn()));
     }
 
     private void endBattle(boolean victory) {
         setBattleSkillButtonsEnabled(false);
-        currentWavePlan.clear();
-        activeWaveIndex = 0;
+        saveBattleRecording();
         
         // Clear battle state when battle ends
         if (playerProgress != null) {
             playerProgress.clearBattleState();
         }
+        if (battleEngine.getJournal() != null) {
+            battleEngine.getJournal().discard();
+        }
 
         if (victory) {
             appendBattleLog("\n" + "=".repeat(50));
@@ -4088,6 +3757,20 @@ public class UnifiedGameUI extends JFrame {
         }
     }
 
+    /**
+     * Keeps the last finished battle on disk so it can be replayed with
+     * {@code com.defendersofsolara.sim.BattleReplayer}.
+     */
+    private void saveBattleRecording() {
+        BattleRecording recording = battleEngine != null ? battleEngine.getRecording() : null;
+        if (recording == null) return;
+        try {
+            saveService.save(SAVE_DIR.resolve(LAST_BATTLE_RECORDING), recording);
+        } catch (IOException e) {
+            System.err.println("Failed to save battle recording: " + e.getMessage());
+        }
+    }
+
     // ==================== PAUSE MENU ====================
 
     private void setupGlobalKeyBindings() {
@@ -4109,12 +3792,11 @@ public class UnifiedGameUI extends JFrame {
 
     private void showPauseMenu() {
         // Save battle state automatically when pausing (so resume works correctly)
-        if (SCREEN_BATTLE.equals(currentScreen) && playerTeam != null && currentWavePlan != null) {
-            BattleState battleState = captureBattleState();
-            if (playerProgress != null && battleState != null) {
-                playerProgress.setBattleState(battleState);
+        if (SCREEN_BATTLE.equals(currentScreen) && battleEngine != null && !battleEngine.isFinished()) {
+            if (playerProgress != null) {
+                rememberActiveBattle();
                 // Don't call saveActiveProfile() here - let user choose to save or not
-                // But we do save the battle state in memory so resume works
+                // But we do mark the battle in memory so resume works
             }
         }
         
@@ -4149,6 +3831,7 @@ public class UnifiedGameUI extends JFrame {
         buttonPanel.add(resumeBtn, gbc);
 
         PauseMenuButton optionsBtn = new PauseMenuButton("OPTIONS", dialog, () -> {
+            battlePacer.cancel();
             dialog.dispose();
             showScreen(SCREEN_SETTINGS);
         });
@@ -4166,6 +3849,7 @@ public class UnifiedGameUI extends JFrame {
         buttonPanel.add(saveBtn, gbc);
 
         PauseMenuButton exitMenuBtn = new PauseMenuButton("EXIT TO MENU", dialog, () -> {
+            battlePacer.cancel();
             dialog.dispose();
             returnToMainMenu();
         });
@@ -4239,7 +3923,11 @@ public class UnifiedGameUI extends JFrame {
         dialog.setContentPane(glassPanel);
         dialog.getContentPane().setBackground(new Color(0, 0, 0, 0)); // Ensure content pane is transparent
         dialog.setResizable(false);
+
+        // The dialog is modal but still pumps events, so hold pending battle steps until it closes
+        battlePacer.pause();
         dialog.setVisible(true);
+        battlePacer.resume();
     }
     
     private static class PauseMenuButton extends JPanel {
@@ -4317,8 +4005,10 @@ public class UnifiedGameUI extends JFrame {
     }
 
     private void refreshProfileSelect() {
-        // Reload profile data from disk to ensure we show the latest saved data
-        reloadProfilesFromDisk();
+        // Write the active profile first so its card and the index reflect the latest progress
+        if (activeProfile >= 0 && playerProgress != null) {
+            saveProfile(activeProfile, playerProgress);
+        }
         for (Component comp : mainContainer.getComponents()) {
             if (comp.getName() != null && comp.getName().equals(SCREEN_PROFILE_SELECT)) {
                 mainContainer.remove(comp);
@@ -4328,47 +4018,8 @@ public class UnifiedGameUI extends JFrame {
         mainContainer.add(createProfileSelect(), SCREEN_PROFILE_SELECT);
     }
 
-    private void reloadProfilesFromDisk() {
-        // Save current active profile before reloading to ensure we don't lose unsaved changes
-        PlayerProgress activeProfileData = null;
-        if (activeProfile >= 0 && playerProgress != null) {
-            // Sync current progress to profileSlots before saving
-            profileSlots[activeProfile] = playerProgress;
-            saveProfile(activeProfile);
-            // Preserve the in-memory data for the active profile (it's the most up-to-date)
-            activeProfileData = playerProgress;
-        }
-        
-        for (int i = 0; i < PROFILE_SLOTS; i++) {
-            // For the active profile, use the in-memory data if available (it's most recent)
-            if (i == activeProfile && activeProfileData != null) {
-                profileSlots[i] = activeProfileData;
-                continue;
-            }
-            
-            Path file = SAVE_DIR.resolve("profile" + (i + 1) + ".dat");
-            PlayerProgress data = PlayerProgress.load(file);
-            if (data != null) {
-                profileSlots[i] = data;
-                System.out.println("Loaded profile " + (i + 1) + " from disk: Level " + data.getPlayerLevel() + 
-                    ", EXP " + data.getCurrentExp() + "/" + data.getExpToNext() + 
-                    ", Worlds: " + data.getClearedWorldCount());
-            } else {
-                // If no file exists, keep the current in-memory data (don't overwrite with new empty progress)
-                if (profileSlots[i] == null) {
-                    profileSlots[i] = new PlayerProgress();
-                }
-            }
-        }
-        // Update playerProgress if we have an active profile
-        if (activeProfile >= 0 && activeProfile < PROFILE_SLOTS) {
-            playerProgress = profileSlots[activeProfile];
-            // Note: Don't auto-start session here - session should start when entering battle
-            // or when explicitly selecting a profile. This prevents time tracking issues.
-        }
-    }
     void resetProfileSlot(int profileIndex, boolean deleteFile) {
-        int idx = Math.max(1, Math.min(PROFILE_SLOTS, profileIndex)) - 1;
+        int idx = Math.max(1, Math.min(getProfileSlotCount(), profileIndex)) - 1;
         
         // End session if resetting the active profile
         if (activeProfile == idx && playerProgress != null) {
@@ -4376,21 +4027,14 @@ public class UnifiedGameUI extends JFrame {
         }
         
         PlayerProgress newProgress = new PlayerProgress();
-        profileSlots[idx] = newProgress;
         if (activeProfile == idx) {
             playerProgress = newProgress;
         }
 
         if (deleteFile) {
-            Path file = SAVE_DIR.resolve("profile" + profileIndex + ".dat");
-            try {
-                Files.deleteIfExists(file);
-            } catch (IOException e) {
-                System.err.println("Error deleting profile file: " + e.getMessage());
-                e.printStackTrace();
-            }
+            profileStore.delete(idx + 1);
         } else {
-            saveProfile(idx);
+            saveProfile(idx, newProgress);
         }
 
         refreshProfileSelect();
@@ -4401,6 +4045,7 @@ public class UnifiedGameUI extends JFrame {
     }
 
     private void returnToMainMenu() {
+        battlePacer.cancel();
         // End session and auto-save when returning to main menu
         if (playerProgress != null) {
             playerProgress.endSession();
@@ -4429,18 +4074,19 @@ public class UnifiedGameUI extends JFrame {
         playerProgress.recordSave();
         
         // Save battle state if currently in battle
-        if (SCREEN_BATTLE.equals(currentScreen) && playerTeam != null && currentWavePlan != null) {
-            BattleState battleState = captureBattleState();
-            playerProgress.setBattleState(battleState);
-            System.out.println("Saved battle state: World " + selectedWorldId + ", Wave " + (activeWaveIndex + 1));
+        if (SCREEN_BATTLE.equals(currentScreen) && battleEngine != null && !battleEngine.isFinished()) {
+            rememberActiveBattle();
+            if (battleEngine.getJournal() != null) {
+                // Only the actions taken since the last save are written
+                battleEngine.getJournal().sync();
+            }
+            System.out.println("Saved battle state: World " + selectedWorldId + ", Wave " + (battleEngine.getActiveWaveIndex() + 1));
         } else {
             // Clear battle state if not in battle
             playerProgress.clearBattleState();
         }
         
-        // Always sync playerProgress changes back to profileSlots before saving
-        profileSlots[activeProfile] = playerProgress;
-        saveProfile(activeProfile);
+        saveProfile(activeProfile, playerProgress);
         System.out.println("Saved profile " + (activeProfile + 1) + ": Level " + playerProgress.getPlayerLevel() + 
             ", EXP " + playerProgress.getCurrentExp() + "/" + playerProgress.getExpToNext() + 
             ", Worlds: " + playerProgress.getClearedWorldCount() + 
@@ -4449,226 +4095,21 @@ public class UnifiedGameUI extends JFrame {
     }
     
     /**
-     * Captures the current battle state for saving
+     * Marks the current battle as in progress on the profile. A journaled battle is only
+     * referenced; battles without a journal fall back to a full snapshot.
      */
-    private BattleState captureBattleState() {
-        BattleState state = new BattleState();
-        state.setWorldId(selectedWorldId);
-        state.setActiveWaveIndex(activeWaveIndex);
-        state.setCurrentPlayerIndex(currentPlayerIndex);
-        
-        // Save player team state
-        List<BattleState.CharacterData> playerData = new ArrayList<>();
-        if (playerTeam != null) {
-            for (Character c : playerTeam) {
-                if (c != null) {
-                    playerData.add(new BattleState.CharacterData(c));
-                }
-            }
-        }
-        state.setPlayerTeamData(playerData);
-        
-        // Save enemy team state
-        List<BattleState.CharacterData> enemyData = new ArrayList<>();
-        if (enemyTeam != null) {
-            for (Character c : enemyTeam) {
-                if (c != null) {
-                    enemyData.add(new BattleState.CharacterData(c));
-                }
-            }
-        }
-        state.setEnemyTeamData(enemyData);
-        
-        // Save wave plan (remaining waves)
-        List<BattleState.WaveData> waveData = new ArrayList<>();
-        if (currentWavePlan != null && activeWaveIndex < currentWavePlan.size()) {
-            // Save remaining waves (from current wave onwards)
-            for (int i = activeWaveIndex; i < currentWavePlan.size(); i++) {
-                WaveEncounter wave = currentWavePlan.get(i);
-                List<BattleState.CharacterData> waveEnemies = new ArrayList<>();
-                if (wave.enemies != null) {
-                    for (Character c : wave.enemies) {
-                        if (c != null) {
-                            waveEnemies.add(new BattleState.CharacterData(c));
-                        }
-                    }
-                }
-                waveData.add(new BattleState.WaveData(wave.waveNumber, wave.bossWave, waveEnemies));
-            }
-        }
-        state.setWavePlan(waveData);
-        
-        return state;
-    }
-    
-    /**
-     * Restores battle state from saved data
-     */
-    private boolean restoreBattleState(BattleState state) {
-        if (state == null) return false;
-        
-        try {
-            selectedWorldId = state.getWorldId();
-            activeWaveIndex = state.getActiveWaveIndex();
-            currentPlayerIndex = state.getCurrentPlayerIndex();
-            
-            // Restore player team
-            List<BattleState.CharacterData> playerData = state.getPlayerTeamData();
-            if (playerData != null && !playerData.isEmpty()) {
-                playerTeam = new Character[playerData.size()];
-                for (int i = 0; i < playerData.size(); i++) {
-                    BattleState.CharacterData data = playerData.get(i);
-                    Character hero = createCharacterFromData(data);
-                    if (hero != null) {
-                        playerTeam[i] = hero;
-                    }
-                }
-            }
-            
-            // Restore wave plan
-            List<BattleState.WaveData> waveData = state.getWavePlan();
-            if (waveData != null && !waveData.isEmpty()) {
-                currentWavePlan = new ArrayList<>();
-                for (BattleState.WaveData wd : waveData) {
-                    Character[] enemies = new Character[wd.getEnemies().size()];
-                    for (int i = 0; i < wd.getEnemies().size(); i++) {
-                        BattleState.CharacterData ed = wd.getEnemies().get(i);
-                        Character enemy = createCharacterFromData(ed);
-                        if (enemy != null) {
-                            enemies[i] = enemy;
-                        }
-                    }
-                    currentWavePlan.add(new WaveEncounter(wd.getWaveNumber(), wd.isBossWave(), enemies));
-                }
-            }
-            
-            // Restore current enemy team from saved data (don't re-apply scaling - use exact saved state)
-            if (state.getEnemyTeamData() != null && !state.getEnemyTeamData().isEmpty()) {
-                // Use saved enemy team data directly - this preserves exact HP, mana, and stats
-                List<BattleState.CharacterData> enemyData = state.getEnemyTeamData();
-                enemyTeam = new Character[enemyData.size()];
-                for (int i = 0; i < enemyData.size(); i++) {
-                    BattleState.CharacterData ed = enemyData.get(i);
-                    Character enemy = createCharacterFromData(ed);
-                    if (enemy != null) {
-                        // Double-check: ensure HP is exactly as saved (defensive programming)
-                        if (ed.getCurrentHP() != enemy.currentHP) {
-                            System.out.println("Warning: Restored enemy HP mismatch for " + enemy.name + 
-                                " - saved: " + ed.getCurrentHP() + ", restored: " + enemy.currentHP + 
-                                " - correcting...");
-                            enemy.currentHP = ed.getCurrentHP();
-                        }
-                        enemyTeam[i] = enemy;
-                    }
-                }
-            } else if (currentWavePlan != null && !currentWavePlan.isEmpty()) {
-                // Fallback: use first wave from plan (shouldn't happen if save worked correctly)
-                WaveEncounter currentWave = currentWavePlan.get(0);
-                enemyTeam = currentWave.enemies;
-                // Don't re-apply scaling - enemies are already scaled from wave plan
-            }
-            
-            selectedSkill = null;
-            waitingForTarget = false;
-            
-            return true;
-        } catch (Exception e) {
-            System.err.println("Error restoring battle state: " + e.getMessage());
-            e.printStackTrace();
-            return false;
-        }
-    }
-    
-    /**
-     * Creates a Character instance from saved CharacterData
-     */
-    private Character createCharacterFromData(BattleState.CharacterData data) {
-        if (data == null || data.getClassName() == null) return null;
-        
-        try {
-            Class<?> clazz = Class.forName(data.getClassName());
-            Character character;
-            
-            // Handle DynamicEnemy specially (requires factory parameters)
-            if (data.getClassName().contains("DynamicEnemy")) {
-                // Create a DynamicEnemy with a basic attack skill
-                // Use maxHP for constructor (Character constructor sets currentHP = maxHP, which we'll override)
-                character = new DynamicEnemy(
-                    data.getName(),
-                    data.getMaxHP(), // Use maxHP for constructor
-                    data.getMaxMana(), // Use maxMana for constructor
-                    data.getBaseAttack(),
-                    data.getBaseDefense(),
-                    data.getBaseSpeed(),
-                    () -> new SavageSwipeSkill("Strike", 1.0)
-                );
-                // Constructor sets currentHP = maxHP, so we need to restore currentHP after
-            } else {
-                // Try to create using no-arg constructor
-                character = (Character) clazz.getDeclaredConstructor().newInstance();
-            }
-            
-            // Restore all stats - IMPORTANT: Restore maxHP first, then currentHP to ensure proper state
-            character.name = data.getName();
-            character.level = data.getLevel();
-            character.maxHP = data.getMaxHP();
-            character.maxMana = data.getMaxMana();
-            character.baseAttack = data.getBaseAttack();
-            character.baseDefense = data.getBaseDefense();
-            character.baseSpeed = data.getBaseSpeed();
-            
-            // Restore current values - use exact saved values (they should already be correct)
-            character.currentHP = data.getCurrentHP();
-            character.currentMana = data.getCurrentMana();
-            character.currentAttack = data.getCurrentAttack();
-            character.currentDefense = data.getCurrentDefense();
-            character.currentSpeed = data.getCurrentSpeed();
-            
-            // Ensure currentHP and currentMana don't exceed max values (safety check)
-            if (character.currentHP > character.maxHP) {
-                character.currentHP = character.maxHP;
-            }
-            if (character.currentMana > character.maxMana) {
-                character.currentMana = character.maxMana;
-            }
-            
-            // Set isAlive based on currentHP (ensure consistency)
-            character.isAlive = data.isAlive() && character.currentHP > 0;
-            
-            // Re-initialize skills (they're not saved, but we need them)
-            // For DynamicEnemy, skills are already set in constructor, so skip
-            if (!data.getClassName().contains("DynamicEnemy")) {
-                character.initializeSkills();
-            }
-            
-            // Final verification: ensure currentHP is exactly as saved (skills shouldn't modify HP)
-            character.currentHP = data.getCurrentHP();
-            if (character.currentHP > character.maxHP) {
-                character.currentHP = character.maxHP;
-            }
-            
-            return character;
-        } catch (Exception e) {
-            System.err.println("Error creating character from data: " + data.getClassName() + " - " + e.getMessage());
-            e.printStackTrace();
-            return null;
+    private void rememberActiveBattle() {
+        if (battleEngine.getJournal() != null) {
+            playerProgress.setJournaledBattle(battleEngine.getWorldId());
+        } else {
+            playerProgress.setBattleState(battleEngine.captureState());
         }
     }
 
-    private void saveProfile(int slotIndex) {
-        if (slotIndex < 0 || slotIndex >= PROFILE_SLOTS) return;
-        // Ensure we're saving the current playerProgress if this is the active profile
-        if (slotIndex == activeProfile && playerProgress != null) {
-            profileSlots[slotIndex] = playerProgress;
-        }
-        Path file = SAVE_DIR.resolve("profile" + (slotIndex + 1) + ".dat");
+    private void saveProfile(int slotIndex, PlayerProgress progress) {
         try {
-            if (profileSlots[slotIndex] != null) {
-                profileSlots[slotIndex].save(file);
-                System.out.println("Successfully wrote profile " + (slotIndex + 1) + " to " + file);
-            } else {
-                System.err.println("ERROR: profileSlots[" + slotIndex + "] is null!");
-            }
+            // Snapshotted here, written to disk by the save service's writer thread
+            profileStore.save(slotIndex + 1, progress);
         } catch (IOException e) {
             System.err.println("ERROR saving profile " + (slotIndex + 1) + ": " + e.getMessage());
             e.printStackTrace();
@@ -4676,161 +4117,151 @@ public class UnifiedGameUI extends JFrame {
     }
 
     private void highlightBattleEnemies() {
-        for (Component comp : battleEnemyPanel.getComponents()) {
-            if (comp instanceof JPanel) {
-                JPanel card = (JPanel) comp;
-                Character c = (Character) card.getClientProperty("character");
-                if (c != null && c.isAlive()) {
-                    card.setBorder(BorderFactory.createLineBorder(UITheme.BORDER_HIGHLIGHT, 2));
-                }
+        if (battleCanvas != null) return;
+        for (BattleCard card : battleEnemyCards) {
+            if (card.isVisible()) {
+                card.setHighlighted(true);
             }
         }
     }
 
     private void clearBattleHighlights() {
-        for (Component comp : battlePlayerPanel.getComponents()) {
-            if (comp instanceof JPanel) {
-                ((JPanel) comp).setBorder(BorderFactory.createLineBorder(UITheme.BORDER_NORMAL, 2));
-            }
+        if (battleCanvas != null) return;
+        for (BattleCard card : battlePlayerCards) {
+            card.setHighlighted(false);
         }
-        for (Component comp : battleEnemyPanel.getComponents()) {
-            if (comp instanceof JPanel) {
-                ((JPanel) comp).setBorder(BorderFactory.createLineBorder(UITheme.BORDER_NORMAL, 2));
-            }
+        for (BattleCard card : battleEnemyCards) {
+            card.setHighlighted(false);
         }
     }
 
     private void updateBattleBars() {
-        updateBarsForPanel(battlePlayerPanel);
-        updateBarsForPanel(battleEnemyPanel);
-        updateEnemyDetails(); // Update enemy stats panel
-    }
-
-    private void updateBarsForPanel(JPanel panel) {
-        for (Component comp : panel.getComponents()) {
-            if (comp instanceof JPanel) {
-                JPanel card = (JPanel) comp;
-                Character c = (Character) card.getClientProperty("character");
-                JProgressBar hpBar = (JProgressBar) card.getClientProperty("hpBar");
-                JProgressBar manaBar = (JProgressBar) card.getClientProperty("manaBar");
-
-                if (c != null && hpBar != null && manaBar != null) {
-                    hpBar.setMaximum(c.maxHP);
-                    hpBar.setValue(Math.max(0, c.currentHP));
-                    hpBar.setString(c.currentHP + " / " + c.maxHP);
-
-                    manaBar.setMaximum(c.maxMana);
-                    manaBar.setValue(Math.max(0, c.currentMana));
-                    manaBar.setString(c.currentMana + " / " + c.maxMana);
-
-                    if (!c.isAlive()) {
-                        card.setBackground(UITheme.DEAD_GRAY);
-                    }
-                }
+        if (battleCanvas != null) return;
+        for (BattleCard card : battlePlayerCards) {
+            card.update();
+        }
+        for (BattleCard card : battleEnemyCards) {
+            if (card.isVisible()) {
+                card.update();
             }
         }
+        updateEnemyDetails(); // Update enemy stats panel
     }
 
     private void setBattleSkillButtonsEnabled(boolean enabled) {
-        for (Component comp : battleSkillPanel.getComponents()) {
-            if (comp instanceof JButton) {
-                comp.setEnabled(enabled);
-            }
+        battleSkillsEnabled = enabled;
+        updateAttackDetails();
+    }
+
+    private void appendBattleLog(String text) {
+        if (battleCanvas != null) {
+            battleCanvas.appendLog(text);
+            return;
         }
+        battleLog.append(text + "\n");
+        battleLog.setCaretPosition(battleLog.getDocument().getLength());
     }
 
-    private void reduceBattleCooldowns() {
-        for (Character c : playerTeam) {
-            if (c != null) {
-                for (Skill s : c.skills) {
-                    s.reduceCooldown();
-                }
-            }
+    /**
+     * Lets the battle canvas read the engine and pick skills and targets like the panel view.
+     */
+    private class BattleCanvasController implements BattleCanvas.Controller {
+        @Override
+        public BattleEngine getEngine() {
+            return battleEngine;
         }
-        for (Character e : enemyTeam) {
-            if (e != null) {
-                for (Skill s : e.skills) {
-                    s.reduceCooldown();
-                }
-            }
+
+        @Override
+        public boolean areSkillsEnabled() {
+            return battleSkillsEnabled;
         }
-    }
 
-    private Character[] getAllAlive(Character[] team) {
-        List<Character> alive = new ArrayList<>();
-        for (Character c : team) {
-            if (c != null && c.isAlive()) {
-                alive.add(c);
-            }
+        @Override
+        public boolean isWaitingForTarget() {
+            return waitingForTarget;
         }
-        return alive.toArray(new Character[0]);
-    }
 
-    private Character getRandomAlive(Character[] team) {
-        List<Character> alive = new ArrayList<>();
-        for (Character c : team) {
-            if (c != null && c.isAlive()) {
-                alive.add(c);
-            }
+        @Override
+        public void skillChosen(Skill skill, Character user) {
+            onBattleSkillSelected(skill, user);
         }
-        if (alive.isEmpty()) return null;
-        return alive.get((int) (Math.random() * alive.size()));
-    }
 
-    private boolean anyAlive(Character[] team) {
-        for (Character c : team) {
-            if (c != null && c.isAlive()) {
-                return true;
+        @Override
+        public void targetChosen(Character target) {
+            if (waitingForTarget && target.isAlive()) {
+                onBattleTargetSelected(target);
             }
         }
-        return false;
-    }
-
-    private void appendBattleLog(String text) {
-        battleLog.append(text + "\n");
-        battleLog.setCaretPosition(battleLog.getDocument().getLength());
     }
 
-    private Map<Character, Integer> snapshotHp() {
-        Map<Character, Integer> map = new HashMap<>();
-        if (playerTeam != null) {
-            for (Character hero : playerTeam) {
-                if (hero != null) map.put(hero, hero.currentHP);
-            }
+    /**
+     * Writes engine events to the battle log in the screen's wording.
+     */
+    private class BattleLogListener implements BattleListener, CombatEventListener {
+        @Override
+        public void onEnemyTurn(Character enemy) {
+            battleTurnLabel.setText("ENEMY TURN: " + enemy.name);
+            appendBattleLog(">>> " + enemy.name + "'s turn");
         }
-        if (enemyTeam != null) {
-            for (Character enemy : enemyTeam) {
-                if (enemy != null) map.put(enemy, enemy.currentHP);
+
+        @Override
+        public void onSkillUsed(Character user, Skill skill, Character[] targets) {
+            boolean isPlayer = battleEngine.isPlayerSide(user);
+            switch (skill.getTargetType()) {
+                case SELF:
+                    appendBattleLog(user.name + " uses " + skill.getName() + (isPlayer ? " on self!" : "!"));
+                    break;
+                case ALL_ALLIES:
+                    appendBattleLog(isPlayer
+                        ? user.name + " uses " + skill.getName() + " on all allies!"
+                        : user.name + " empowers allies with " + skill.getName() + "!");
+                    break;
+                case ALL_ENEMIES:
+                    appendBattleLog(isPlayer
+                        ? user.name + " uses " + skill.getName() + " on all enemies!"
+                        : user.name + " unleashes " + skill.getName() + " on your party!");
+                    break;
+                default:
+                    if (targets.length > 0) {
+                        appendBattleLog(user.name + " uses " + skill.getName() + " on " + targets[0].name + "!");
+                    }
+                    break;
             }
         }
-        return map;
-    }
 
-    private void logDamageDelta(String attacker, String skillName, Map<Character, Integer> before) {
-        for (Map.Entry<Character, Integer> entry : before.entrySet()) {
-            Character target = entry.getKey();
-            int prev = entry.getValue();
-            int delta = prev - target.currentHP;
-            if (delta > 0) {
-                appendBattleLog(String.format(
-                    "%s uses %s → %s takes %d damage (HP: %d/%d)",
-                    attacker,
-                    skillName,
-                    target.name,
-                    delta,
-                    Math.max(0, target.currentHP),
-                    target.maxHP
-                ));
+        @Override
+        public void onCombatEvent(CombatEvent event) {
+            Character target = event.getTarget();
+            switch (event.getType()) {
+                case DAMAGE:
+                    if (event.getSource() != null && event.getSkill() != null) {
+                        appendBattleLog(String.format(
+                            "%s uses %s → %s takes %d damage (HP: %d/%d)",
+                            event.getSource().name,
+                            event.getSkill().getName(),
+                            target.name,
+                            event.getAmount(),
+                            Math.max(0, target.currentHP),
+                            target.maxHP
+                        ));
+                    } else {
+                        appendBattleLog(String.format("%s takes %d damage (HP: %d/%d)",
+                            target.name, event.getAmount(), Math.max(0, target.currentHP), target.maxHP));
+                    }
+                    break;
+                case HEAL:
+                    appendBattleLog(String.format("%s recovers %d HP (HP: %d/%d)",
+                        target.name, event.getAmount(), target.currentHP, target.maxHP));
+                    break;
+                case DEFEATED:
+                    appendBattleLog("✖ " + target.name + " has fallen!");
+                    break;
+                default:
+                    break;
             }
         }
     }
 
-    private void executeSkillWithLog(Skill skill, Character user, Character[] targets) {
-        Map<Character, Integer> hpBefore = snapshotHp();
-        skill.execute(user, targets);
-        logDamageDelta(user.name, skill.getName(), hpBefore);
-    }
-
     /**
      * Shows a styled message dialog that matches the game's dark theme
      * Handles long messages with proper wrapping and auto-sizing
@@ -4937,7 +4368,7 @@ public class UnifiedGameUI extends JFrame {
             e.printStackTrace();
         }
 
-        SwingUtilities.invokeLater(UnifiedGameUI::new);
+        SwingUtilities.invokeLater(() -> AssetPreloader.start(UnifiedGameUI::new));
     }
 }
 